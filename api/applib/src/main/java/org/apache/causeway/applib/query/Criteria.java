@@ -0,0 +1,326 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Typed, declarative filter over the (persistent) properties of a domain entity,
+ * that the persistence layer translates into a native query (JPA Criteria API or JDOQL),
+ * rather than fetching all instances and filtering in memory.
+ *
+ * <p>
+ * Properties are referenced by name; nested properties using dot notation,
+ * eg. {@code "customer.lastName"}.
+ * <p>
+ * Being a {@link Predicate} itself, a {@link Criteria} can be passed to any of the
+ * predicate based methods of {@link RepositoryService}, eg.
+ * <pre>
+ * repositoryService.allMatches(Customer.class,
+ *     Criteria.allOf(
+ *         Criteria.eq("lastName", "Smith"),
+ *         Criteria.ge("age", 18)));
+ * </pre>
+ * or submitted directly via {@link Query#matching(Class, Criteria)}.
+ * Where evaluated in memory (as per {@link #test(Object)}), property values are read via their getters,
+ * and {@code null}s are treated the same way as SQL does: a comparison against a {@code null} property value
+ * is <i>unknown</i> (rather than {@code false}), so is excluded even if negated by {@link #not(Criteria)};
+ * only the explicit null checks ({@link #isNull(String)}, {@link #eq(String, Object) eq(path, null)} and
+ * their negations) match {@code null}s.
+ *
+ * @see MatchingQuery
+ * @since 2.0 {@index}
+ */
+public abstract class Criteria<T> implements Predicate<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Operator {
+        EQ,
+        NOT_EQ,
+        LT,
+        LE,
+        GT,
+        GE,
+        IS_NULL,
+        IS_NOT_NULL,
+        /** applicable to {@link String}s only */
+        STARTS_WITH,
+        /** applicable to {@link String}s only */
+        CONTAINS;
+        public boolean isNullCheck() { return this == IS_NULL || this == IS_NOT_NULL; }
+        public boolean isOrdering() { return this == LT || this == LE || this == GT || this == GE; }
+        public boolean isStringMatching() { return this == STARTS_WITH || this == CONTAINS; }
+    }
+
+    /**
+     * Translates a {@link Criteria} tree bottom-up into some target representation {@code R},
+     * eg. a JPA {@code Predicate} or a JDOQL filter fragment.
+     */
+    public interface Visitor<R> {
+        R visitComparison(@NonNull String propertyPath, @NonNull Operator operator, @Nullable Object value);
+        R visitAllOf(@NonNull List<R> operands);
+        R visitAnyOf(@NonNull List<R> operands);
+        R visitNot(@NonNull R operand);
+    }
+
+    public abstract <R> R accept(@NonNull Visitor<R> visitor);
+
+    /**
+     * Whether given candidate satisfies this criteria, using SQL's three-valued logic.
+     */
+    @Override
+    public final boolean test(final T candidate) {
+        return Boolean.TRUE.equals(evaluate(candidate));
+    }
+
+    /**
+     * @return {@code null} if <i>unknown</i>, as per SQL's three-valued logic
+     */
+    @Nullable
+    abstract Boolean evaluate(T candidate);
+
+    // -- FACTORIES
+
+    public static <T> Criteria<T> eq(final @NonNull String propertyPath, final @Nullable Object value) {
+        return new Comparison<>(propertyPath, Operator.EQ, value);
+    }
+
+    public static <T> Criteria<T> notEq(final @NonNull String propertyPath, final @Nullable Object value) {
+        return new Comparison<>(propertyPath, Operator.NOT_EQ, value);
+    }
+
+    public static <T> Criteria<T> lt(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.LT, value);
+    }
+
+    public static <T> Criteria<T> le(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.LE, value);
+    }
+
+    public static <T> Criteria<T> gt(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.GT, value);
+    }
+
+    public static <T> Criteria<T> ge(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.GE, value);
+    }
+
+    public static <T> Criteria<T> isNull(final @NonNull String propertyPath) {
+        return new Comparison<>(propertyPath, Operator.IS_NULL, null);
+    }
+
+    public static <T> Criteria<T> isNotNull(final @NonNull String propertyPath) {
+        return new Comparison<>(propertyPath, Operator.IS_NOT_NULL, null);
+    }
+
+    public static <T> Criteria<T> startsWith(final @NonNull String propertyPath, final @NonNull String prefix) {
+        return new Comparison<>(propertyPath, Operator.STARTS_WITH, prefix);
+    }
+
+    public static <T> Criteria<T> contains(final @NonNull String propertyPath, final @NonNull String infix) {
+        return new Comparison<>(propertyPath, Operator.CONTAINS, infix);
+    }
+
+    @SafeVarargs
+    public static <T> Criteria<T> allOf(final @NonNull Criteria<T>... operands) {
+        return new Junction<>(true, List.of(operands));
+    }
+
+    @SafeVarargs
+    public static <T> Criteria<T> anyOf(final @NonNull Criteria<T>... operands) {
+        return new Junction<>(false, List.of(operands));
+    }
+
+    public static <T> Criteria<T> not(final @NonNull Criteria<T> operand) {
+        return new Negation<>(operand);
+    }
+
+    // -- IMPLEMENTATIONS
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static final class Comparison<T> extends Criteria<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull String propertyPath;
+        private final @NonNull Operator operator;
+        private final @Nullable Object value;
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            return visitor.visitComparison(propertyPath, operator, value);
+        }
+
+        @Override
+        Boolean evaluate(final T candidate) {
+            val actual = readProperty(candidate, propertyPath);
+            if(operator == Operator.IS_NULL
+                    || (operator == Operator.EQ && value == null)) {
+                return actual == null;
+            }
+            if(operator == Operator.IS_NOT_NULL
+                    || (operator == Operator.NOT_EQ && value == null)) {
+                return actual != null;
+            }
+            if(actual == null) {
+                return null; // unknown, same as SQL semantics
+            }
+            switch (operator) {
+            case EQ:
+                return Objects.equals(actual, value);
+            case NOT_EQ:
+                return !Objects.equals(actual, value);
+            case STARTS_WITH:
+                return actual.toString().startsWith((String) value);
+            case CONTAINS:
+                return actual.toString().contains((String) value);
+            default:
+                final Comparable<Object> comparable = _Casts.uncheckedCast(actual);
+                final int c = comparable.compareTo(value);
+                switch (operator) {
+                case LT: return c < 0;
+                case LE: return c <= 0;
+                case GT: return c > 0;
+                case GE: return c >= 0;
+                default:
+                    throw _Exceptions.unmatchedCase(operator);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return operator.isNullCheck()
+                    ? String.format("%s %s", propertyPath, operator)
+                    : String.format("%s %s %s", propertyPath, operator, value);
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static final class Junction<T> extends Criteria<T> {
+        private static final long serialVersionUID = 1L;
+
+        /** {@code true} for conjunction (AND), {@code false} for disjunction (OR) */
+        private final boolean conjunction;
+        private final @NonNull List<Criteria<T>> operands;
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            final List<R> translated = operands.stream()
+                    .map(operand->operand.accept(visitor))
+                    .collect(Collectors.toList());
+            return conjunction
+                    ? visitor.visitAllOf(Collections.unmodifiableList(translated))
+                    : visitor.visitAnyOf(Collections.unmodifiableList(translated));
+        }
+
+        @Override
+        Boolean evaluate(final T candidate) {
+            // AND: false dominates unknown; OR: true dominates unknown
+            final Boolean dominant = !conjunction;
+            boolean isUnknown = false;
+            for(val operand : operands) {
+                val result = operand.evaluate(candidate);
+                if(result == null) {
+                    isUnknown = true;
+                } else if(result.equals(dominant)) {
+                    return dominant;
+                }
+            }
+            return isUnknown
+                    ? null
+                    : conjunction;
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(conjunction ? " AND " : " OR ", "(", ")"));
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static final class Negation<T> extends Criteria<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull Criteria<T> operand;
+
+        @Override
+        public <R> R accept(final @NonNull Visitor<R> visitor) {
+            return visitor.visitNot(operand.accept(visitor));
+        }
+
+        @Override
+        Boolean evaluate(final T candidate) {
+            val result = operand.evaluate(candidate);
+            return result == null
+                    ? null // NOT unknown is still unknown
+                    : !result;
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static Object readProperty(final @Nullable Object pojo, final String propertyPath) {
+        Object current = pojo;
+        for(val propertyName : propertyPath.split("\\.")) {
+            if(current == null) {
+                return null;
+            }
+            final Method getter = _Reflect.getGetter(current.getClass(), propertyName);
+            if(getter == null) {
+                throw _Exceptions.illegalArgument("no getter found for property '%s' on %s",
+                        propertyName, current.getClass().getName());
+            }
+            current = _Reflect.readFromGetterOn(getter, current);
+        }
+        return current;
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import lombok.NonNull;
+
+/**
+ * Query for all instances of an entity type, that match given {@link Criteria},
+ * to be translated into a native query by the persistence layer.
+ *
+ * @see Query#matching(Class, Criteria)
+ * @since 2.0 {@index}
+ */
+public interface MatchingQuery<T> extends Query<T> {
+
+    Criteria<T> getCriteria();
+
+    // -- WITHERS
+
+    @Override MatchingQuery<T> withRange(@NonNull QueryRange range);
+
+}
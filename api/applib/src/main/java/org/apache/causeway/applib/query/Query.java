@@ -44,7 +44,8 @@
  * {@link RepositoryService#allMatches(Class, Predicate, long, long)}).
  *
  * <b>Note:</b> that the predicate is applied within the {@link RepositoryService}
- * (ie client-side) rather than being pushed back to the object store.
+ * (ie client-side) rather than being pushed back to the object store,
+ * unless it is a {@link Criteria}, which is translated into a native query.
  *
  * @since 1.x {@index}
  */
@@ -94,4 +95,10 @@ static <T> NamedQuery<T> named(
         return new _NamedQueryDefault<>(resultType, queryName, QueryRange.unconstrained(), null);
     }
 
+    static <T> MatchingQuery<T> matching(
+            final @NonNull Class<T> resultType,
+            final @NonNull Criteria<T> criteria) {
+        return new _MatchingQueryDefault<>(resultType, criteria, QueryRange.unconstrained());
+    }
+
 }
@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.services.jaxb;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.Marshaller;
@@ -104,6 +105,10 @@ Map<String, String> toXsd(
     /** 'Simple' because no injection point resolving or advanced {@link DomainObjectList} handling. */
     class Simple implements JaxbService {
 
+        // long-lived, as (un)marshallers are pooled per configurer instance
+        private final Consumer<Unmarshaller> unmarshallerConfigurer = this::configure;
+        private final Consumer<Marshaller> marshallerConfigurer = this::configure;
+
         @Override
         @Nullable
         public final <T> T fromXml(
@@ -118,7 +123,8 @@ public final <T> T fromXml(
                 for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
                     opts.property(entry.getKey(), entry.getValue());
                 }
-                opts.unmarshallerConfigurer(this::configure);
+                opts.unmarshallerConfigurer(unmarshallerConfigurer);
+                opts.useMarshallerPool(true);
                 return opts;
             })
             .ifFailureFail()
@@ -138,8 +144,9 @@ public final String toXml(
                 for (val entry : _NullSafe.entrySet(marshallerProperties)) {
                     opts.property(entry.getKey(), entry.getValue());
                 }
-                opts.marshallerConfigurer(this::configure);
+                opts.marshallerConfigurer(marshallerConfigurer);
                 opts.jaxbContextOverride(jaxbContext);
+                opts.useMarshallerPool(true);
                 return opts;
             }))
             .ifFailureFail()
@@ -156,12 +163,16 @@ protected JAXBContext jaxbContextForList(final @NonNull DomainObjectList list) {
 
         /**
          * Optional hook
+         * <p>
+         * Called once for each (un)marshaller created, which may then be pooled and reused as configured.
          */
         protected void configure(final Unmarshaller unmarshaller) {
         }
 
         /**
          * Optional hook
+         * <p>
+         * As per {@link #configure(Unmarshaller)}.
          */
         protected void configure(final Marshaller marshaller) {
         }
@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.services.publishing.spi;
 
 import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -48,4 +49,16 @@ public interface EntityPropertyChangeSubscriber extends HasEnabling {
      */
     void onChanging(EntityPropertyChange entityPropertyChange);
 
+    /**
+     * Receives all property change events of the transaction at once, during the pre-commit phase.
+     *
+     * <p>
+     *     The default implementation simply calls {@link #onChanging(EntityPropertyChange)} for each; subscribers
+     *     that can process the changes more efficiently in bulk (eg. using batched inserts) may override.
+     * </p>
+     */
+    default void onChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
 }
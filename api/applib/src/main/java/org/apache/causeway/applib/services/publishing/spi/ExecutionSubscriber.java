@@ -22,6 +22,7 @@
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -68,4 +69,18 @@ public interface ExecutionSubscriber extends HasEnabling {
      */
     void onExecution(Execution<?, ?> execution);
 
+    /**
+     * Receives a batch of executions at once; called (instead of {@link #onExecution(Execution)}) only if this
+     * subscriber is configured to be dispatched to in batches, in which case the executions are of
+     * transactions that have already committed.
+     *
+     * <p>
+     *     The default implementation simply calls {@link #onExecution(Execution)} for each; subscribers
+     *     that can process the executions more efficiently in bulk (eg. using batched inserts) may override.
+     * </p>
+     */
+    default void onExecutions(final Can<Execution<?, ?>> executions) {
+        executions.forEach(this::onExecution);
+    }
+
 }
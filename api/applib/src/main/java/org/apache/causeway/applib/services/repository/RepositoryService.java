@@ -231,6 +231,13 @@ <T> List<T> allInstances(
      * instances.  Use {@link #allMatches(Query)} for production code.
      * </p>
      *
+     * <p>
+     * However, if the predicate is a {@link org.apache.causeway.applib.query.Criteria},
+     * then it is translated into a native query and the filtering is performed by
+     * the datastore, equivalent to
+     * {@link #allMatches(Query) allMatches(Query.matching(ofType, criteria))}.
+     * </p>
+     *
      * @apiNote This method creates a new {@link List} object each time it is
      *          called so the caller is free to use or modify the returned
      *          {@link List}. Changes will <i>not</i> be reflected back to the
@@ -245,8 +252,13 @@ <T> List<T> allMatches(
      * of persisted instances of specified type (including subtypes).
      *
      * <p>
-     * If the optional range parameters are used, the dataset considered (before filtering) starts
-     * from (0 based) index, runs through up to count items.
+     * If the optional range parameters are used, the matching instances returned start
+     * from (0 based) index, and consist of only up to count items.
+     * </p>
+     *
+     * <p>
+     * If the predicate is a {@link org.apache.causeway.applib.query.Criteria}, then filtering
+     * is performed by the datastore; otherwise instances are fetched and filtered page by page.
      * </p>
      *
      * @param ofType
@@ -281,6 +293,11 @@ <T> List<T> allMatches(
      *     can also be specified.
      * </p>
      *
+     * <p>
+     *     Or a {@link org.apache.causeway.applib.query.MatchingQuery}, that
+     *     filters by ORM-agnostic {@link org.apache.causeway.applib.query.Criteria}.
+     * </p>
+     *
      * @apiNote This method creates a new {@link List} object each time it is
      *          called so the caller is free to use or modify the returned
      *          {@link List}. Changes will <i>not</i> be reflected back to the
@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.DtoMapper;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Encodes the <code>org.apache.causeway.schema</code> DTOs (such as
+ * {@link org.apache.causeway.schema.cmd.v2.CommandDto},
+ * {@link org.apache.causeway.schema.ixn.v2.InteractionDto} and
+ * {@link org.apache.causeway.schema.chg.v2.ChangesDto}) as strings for persistence.
+ * <p>
+ * Any encoding other than {@link #XML} is prefixed with a (versioned) header, so that
+ * {@link #decode(DtoMapper, String)} can read any value that was ever written,
+ * irrespective of the codec that is currently configured for writing
+ * (<code>causeway.persistence.commons.schema-dto-codec</code>).
+ *
+ * @since 2.0 {@index}
+ */
+public enum SchemaDtoCodec {
+
+    /**
+     * Plain JAXB XML (as was always written).
+     */
+    XML(null) {
+        @Override
+        protected <T> String encodeNonNull(final DtoMapper<T> dtoMapper, final T dto) {
+            return dtoMapper.toString(dto);
+        }
+        @Override
+        protected <T> T decodeNonNull(final DtoMapper<T> dtoMapper, final String encoded) {
+            return dtoMapper.read(encoded);
+        }
+    },
+
+    /**
+     * JAXB XML, zlib-deflated and then Base64 encoded.
+     * <p>
+     * Typically reduces the size of persisted command and interaction DTOs to a fraction
+     * of their XML representation; the CPU spent in JAXB is unaffected.
+     */
+    XML_DEFLATE("{xml+deflate;v=1}") {
+        @Override
+        protected <T> String encodeNonNull(final DtoMapper<T> dtoMapper, final T dto) {
+            val xmlBytes = dtoMapper.toString(dto).getBytes(StandardCharsets.UTF_8);
+            val base64Bytes = _Bytes.encodeToBase64(Base64.getEncoder(), _Bytes.compressZlib(xmlBytes));
+            return getHeader() + new String(base64Bytes, StandardCharsets.ISO_8859_1);
+        }
+        @Override
+        protected <T> T decodeNonNull(final DtoMapper<T> dtoMapper, final String encoded) {
+            val base64Bytes = encoded.substring(getHeader().length()).getBytes(StandardCharsets.ISO_8859_1);
+            val xmlBytes = _Bytes.decompressZlib(_Bytes.decodeBase64(Base64.getDecoder(), base64Bytes));
+            return dtoMapper.read(new String(xmlBytes, StandardCharsets.UTF_8));
+        }
+    };
+
+    /**
+     * Headers start with this character, which can never start an XML document.
+     */
+    private static final char HEADER_START = '{';
+
+    private final @Nullable String header;
+
+    private SchemaDtoCodec(final @Nullable String header) {
+        this.header = header;
+    }
+
+    /**
+     * The (versioned) header that prefixes any value written by this codec,
+     * or {@code null} for {@link #XML}.
+     */
+    @Nullable
+    public String getHeader() {
+        return header;
+    }
+
+    @Nullable
+    public <T> String encode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable T dto) {
+        return dto!=null
+                ? encodeNonNull(dtoMapper, dto)
+                : null;
+    }
+
+    protected abstract <T> String encodeNonNull(DtoMapper<T> dtoMapper, T dto);
+    protected abstract <T> T decodeNonNull(DtoMapper<T> dtoMapper, String encoded);
+
+    // -- DECODING
+
+    /**
+     * Decodes given value, as written by any of the codecs (detected by its header).
+     *
+     * @throws IllegalArgumentException if the value has a header not recognized by any of the codecs
+     */
+    @Nullable
+    public static <T> T decode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String encoded) {
+        if(encoded==null) {
+            return null;
+        }
+        return codecFor(encoded).decodeNonNull(dtoMapper, encoded);
+    }
+
+    static SchemaDtoCodec codecFor(final @NonNull String encoded) {
+        if(encoded.isEmpty()
+                || encoded.charAt(0)!=HEADER_START) {
+            return XML;
+        }
+        for(val codec : values()) {
+            if(codec.header!=null
+                    && encoded.startsWith(codec.header)) {
+                return codec;
+            }
+        }
+        val headerEnd = encoded.indexOf('}');
+        throw new IllegalArgumentException(String.format("unsupported schema DTO encoding '%s'",
+                headerEnd>0 ? encoded.substring(0, headerEnd + 1) : encoded.substring(0, Math.min(32, encoded.length()))));
+    }
+
+}
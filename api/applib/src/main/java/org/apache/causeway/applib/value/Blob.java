@@ -135,11 +135,59 @@ public static Try<Blob> tryRead(final String name, final CommonMimeType mimeType
         return tryRead(name, mimeType, DataSource.ofFile(file));
     }
 
+    /**
+     * Returns a new {@link Blob} of given {@code name}, {@code mimeType} and {@code length},
+     * with its content <i>not</i> held in memory, but read from given {@code contentSource}
+     * each time it is accessed.
+     * <p>
+     * Streaming access via {@link #asDataSource()} or {@link #writeBytesTo(OutputStream)}
+     * (as well as {@link #getLength()} and {@link #tryHash(HashAlgorithm)}) never materializes the content,
+     * whereas {@link #getBytes()} reads it fully into memory (not memoized).
+     * On serialization the content is materialized.
+     * <p>
+     * It is the responsibility of the caller, that the {@code contentSource} remains readable for
+     * as long as the {@link Blob} is in use.
+     *
+     * @param name - must not contain ':'
+     * @param mimeType
+     * @param contentSource - the {@link DataSource} to be opened for reading, each time the content is accessed
+     * @param length - the number of bytes provided by {@code contentSource}
+     * @return new {@link Blob}
+     */
+    public static Blob ofDataSource(
+            final String name,
+            final MimeType mimeType,
+            final @NonNull DataSource contentSource,
+            final long length) {
+        return new Blob(name, mimeType, null, contentSource, length);
+    }
+
+    /**
+     * Shortcut for {@code ofDataSource(name, new MimeType(mimeTypeBase), contentSource, length)}
+     * @see #ofDataSource(String, MimeType, DataSource, long)
+     */
+    public static Blob ofDataSource(
+            final String name,
+            final String mimeTypeBase,
+            final @NonNull DataSource contentSource,
+            final long length) {
+        return ofDataSource(name, CommonMimeType.newMimeType(mimeTypeBase), contentSource, length);
+    }
+
      // --
 
     private final MimeType mimeType;
-    private final byte[] bytes;
     private final String name;
+    /**
+     * The content, unless read from {@link #contentSource} on demand.
+     */
+    private final @Nullable byte[] bytes;
+    private final @Nullable DataSource contentSource;
+    private final long length;
+    /**
+     * Memoized digest of the content, as used for equality checks.
+     */
+    private transient volatile byte[] contentDigest;
 
     public Blob(final String name, final String primaryType, final String subtype, final byte[] bytes) {
         this(name, CommonMimeType.newMimeType(primaryType, subtype), bytes);
@@ -150,6 +198,15 @@ public Blob(final String name, final String mimeTypeBase, final byte[] bytes) {
     }
 
     public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
+        this(name, mimeType, bytes, null, bytes!=null ? bytes.length : 0L);
+    }
+
+    private Blob(
+            final String name,
+            final MimeType mimeType,
+            final @Nullable byte[] bytes,
+            final @Nullable DataSource contentSource,
+            final long length) {
         if(name == null) {
             throw new IllegalArgumentException("Name cannot be null");
         }
@@ -159,12 +216,18 @@ public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
         if(name.contains(":")) {
             throw new IllegalArgumentException("Name cannot contain ':'");
         }
-        if(bytes == null) {
+        if(bytes == null
+                && contentSource == null) {
             throw new IllegalArgumentException("Bytes cannot be null");
         }
+        if(length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
         this.name = name;
         this.mimeType = mimeType;
         this.bytes = bytes;
+        this.contentSource = contentSource;
+        this.length = length;
     }
 
     @Override
@@ -177,8 +240,30 @@ public MimeType getMimeType() {
         return mimeType;
     }
 
+    /**
+     * Returns the content; if not held in memory, reads it fully from its content source.
+     * @see #ofDataSource(String, MimeType, DataSource, long)
+     */
     public byte[] getBytes() {
-        return bytes;
+        return bytes!=null
+                ? bytes
+                : contentSource.tryReadAsBytes()
+                    .valueAsNonNullElseFail();
+    }
+
+    /**
+     * Returns the number of bytes of the content, without reading it.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Whether the content is read from a content source on demand, rather than held in memory.
+     * @see #ofDataSource(String, MimeType, DataSource, long)
+     */
+    public boolean isStreaming() {
+        return bytes==null;
     }
 
     // -- UTILITIES
@@ -201,6 +286,9 @@ public void writeBytesTo(final @Nullable OutputStream os) {
         }
         if(bytes!=null) {
             os.write(bytes);
+        } else {
+            contentSource.tryReadAndAccept(is->is.transferTo(os))
+                .ifFailureFail();
         }
     }
 
@@ -226,11 +314,14 @@ public void writeTo(final @Nullable File file) {
     }
 
     /**
-     * Returns a new {@link DataSource} for underlying byte array.
+     * Returns a {@link DataSource} for the content,
+     * that is either the underlying byte array or the content source.
      * @see DataSource
      */
     public DataSource asDataSource() {
-        return DataSource.ofBytes(_NullSafe.toNonNull(getBytes()));
+        return bytes!=null
+                ? DataSource.ofBytes(_NullSafe.toNonNull(bytes))
+                : contentSource;
     }
 
     /**
@@ -271,7 +362,9 @@ public Blob unZip(final @NonNull CommonMimeType resultingMimeType, final @NonNul
     // -- HASHING
 
     public Try<HashUtils.Hash> tryHash(final @NonNull HashAlgorithm hashAlgorithm) {
-        return HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024); // 4k default
+        return bytes!=null
+                ? HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024) // 4k default
+                : HashUtils.tryDigest(hashAlgorithm, contentSource, 4*1024);
     }
 
     public String md5Hex() {
@@ -288,6 +381,22 @@ public String sha256Hex() {
 
     // -- OBJECT CONTRACT
 
+    private byte[] contentDigest() {
+        if(contentDigest==null) {
+            contentDigest = tryHash(HashAlgorithm.SHA256)
+                    .valueAsNonNullElseFail()
+                    .bytes();
+        }
+        return contentDigest;
+    }
+
+    /**
+     * Blobs are equal, if their name, mime type and content are equal.
+     * <p>
+     * For a streaming {@link Blob} the content is not compared byte by byte, but by its (memoized) digest,
+     * such that its content source is read at most once for the purpose of equality checks,
+     * and not at all, if the metadata already differ or both share the same content source.
+     */
     @Override
     public boolean equals(final Object o) {
         if (this == o)
@@ -295,21 +404,35 @@ public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass())
             return false;
         final Blob blob = (Blob) o;
-        return Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
-                Arrays.equals(bytes, blob.bytes) &&
-                Objects.equals(name, blob.name);
+        if(!(Objects.equals(mimeType.toString(), blob.mimeType.toString())
+                && length == blob.length
+                && Objects.equals(name, blob.name))) {
+            return false;
+        }
+        if(bytes!=null
+                && blob.bytes!=null) {
+            return Arrays.equals(bytes, blob.bytes);
+        }
+        if(contentSource!=null
+                && contentSource == blob.contentSource) {
+            return true;
+        }
+        return Arrays.equals(contentDigest(), blob.contentDigest());
     }
 
+    /**
+     * Does not take the content into account, so never reads from the content source.
+     */
     @Override
     public int hashCode() {
         int result = Objects.hash(mimeType.toString(), name);
-        result = 31 * result + Arrays.hashCode(bytes);
+        result = 31 * result + Long.hashCode(length);
         return result;
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getBytes().length + " bytes";
+        return getName() + " [" + getMimeType().getBaseType() + "]: " + getLength() + " bytes";
     }
 
     /**
@@ -0,0 +1,146 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.val;
+
+class CriteriaTest {
+
+    @AllArgsConstructor @Getter
+    public static class Address {
+        private String city;
+    }
+
+    @AllArgsConstructor @Getter
+    public static class Customer {
+        private String lastName;
+        private Integer age;
+        private Address address;
+    }
+
+    private final Customer smith = new Customer("Smith", 42, new Address("London"));
+    private final Customer jones = new Customer("Jones", 17, null);
+
+    @Test
+    void comparison_inMemory() {
+        assertTrue(Criteria.<Customer>eq("lastName", "Smith").test(smith));
+        assertFalse(Criteria.<Customer>eq("lastName", "Smith").test(jones));
+        assertTrue(Criteria.<Customer>ge("age", 18).test(smith));
+        assertFalse(Criteria.<Customer>ge("age", 18).test(jones));
+        assertTrue(Criteria.<Customer>startsWith("lastName", "Jo").test(jones));
+        assertTrue(Criteria.<Customer>contains("lastName", "mit").test(smith));
+        assertTrue(Criteria.<Customer>isNull("address").test(jones));
+    }
+
+    @Test
+    void nestedProperty_inMemory() {
+        assertTrue(Criteria.<Customer>eq("address.city", "London").test(smith));
+        assertFalse(Criteria.<Customer>eq("address.city", "London").test(jones));
+    }
+
+    @Test
+    void junctions_inMemory() {
+        val adultSmith = Criteria.<Customer>allOf(
+                Criteria.eq("lastName", "Smith"),
+                Criteria.ge("age", 18));
+        val notSmith = Criteria.not(Criteria.<Customer>eq("lastName", "Smith"));
+
+        assertTrue(adultSmith.test(smith));
+        assertFalse(adultSmith.test(jones));
+        assertTrue(Criteria.anyOf(adultSmith, notSmith).test(jones));
+    }
+
+    @Test
+    void nullSemantics_inMemory_sameAsSql() {
+        val nobody = new Customer(null, null, null);
+
+        // comparisons against null are unknown, hence excluded, even when negated
+        assertFalse(Criteria.<Customer>notEq("lastName", "Smith").test(nobody));
+        assertFalse(Criteria.not(Criteria.<Customer>eq("lastName", "Smith")).test(nobody));
+        assertFalse(Criteria.not(Criteria.<Customer>lt("age", 18)).test(nobody));
+        assertFalse(Criteria.not(Criteria.<Customer>startsWith("lastName", "S")).test(nobody));
+        assertFalse(Criteria.not(Criteria.<Customer>eq("address.city", "London")).test(jones));
+
+        // unknown AND false is false, so its negation is true
+        assertTrue(Criteria.not(Criteria.<Customer>allOf(
+                Criteria.eq("lastName", "Smith"),
+                Criteria.isNotNull("age"))).test(nobody));
+        // unknown OR true is true
+        assertTrue(Criteria.<Customer>anyOf(
+                Criteria.eq("lastName", "Smith"),
+                Criteria.isNull("age")).test(nobody));
+        // unknown OR false is unknown, so its negation is still excluded
+        assertFalse(Criteria.not(Criteria.<Customer>anyOf(
+                Criteria.eq("lastName", "Smith"),
+                Criteria.isNotNull("age"))).test(nobody));
+
+        // explicit null checks do match nulls
+        assertTrue(Criteria.<Customer>eq("lastName", null).test(nobody));
+        assertFalse(Criteria.<Customer>notEq("lastName", null).test(nobody));
+        assertTrue(Criteria.not(Criteria.<Customer>isNotNull("lastName")).test(nobody));
+    }
+
+    @Test
+    void visitor_translatesBottomUp() {
+        val criteria = Criteria.<Customer>anyOf(
+                Criteria.allOf(
+                        Criteria.eq("lastName", "Smith"),
+                        Criteria.lt("age", 18)),
+                Criteria.not(Criteria.isNotNull("address")));
+
+        val translated = criteria.accept(new Criteria.Visitor<String>() {
+            @Override public String visitComparison(final String propertyPath, final Criteria.Operator operator, final Object value) {
+                return propertyPath + " " + operator + (operator.isNullCheck() ? "" : " " + value);
+            }
+            @Override public String visitAllOf(final List<String> operands) {
+                return operands.stream().collect(Collectors.joining(" AND ", "(", ")"));
+            }
+            @Override public String visitAnyOf(final List<String> operands) {
+                return operands.stream().collect(Collectors.joining(" OR ", "(", ")"));
+            }
+            @Override public String visitNot(final String operand) {
+                return "NOT " + operand;
+            }
+        });
+
+        assertThat(translated, is("((lastName EQ Smith AND age LT 18) OR NOT address IS_NOT_NULL)"));
+    }
+
+    @Test
+    void matchingQuery_description() {
+        val query = Query.matching(Customer.class, Criteria.eq("lastName", "Smith"))
+                .withLimit(2L);
+
+        assertThat(query.getRange().getLimit(), is(2L));
+        assertThat(query.getDescription(), is(Customer.class.getName() + " (matching lastName EQ Smith)"));
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+/**
+ * Compares the {@link SchemaDtoCodec}s, encoding and decoding representative command and
+ * interaction payloads, as written and read by the persistence type converters.
+ * <p>
+ * The encoded sizes (in chars) are printed during setup.
+ * <p>
+ * Not a test, hence not picked up by surefire. Run via {@link #main(String[])}
+ * from the IDE (test class-path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaDtoCodecBenchmark {
+
+    @Param({"XML", "XML_DEFLATE"})
+    private SchemaDtoCodec codec;
+
+    @Param({"2", "20"})
+    private int paramCount;
+
+    private DtoMapper<CommandDto> commandDtoMapper;
+    private DtoMapper<InteractionDto> interactionDtoMapper;
+
+    private CommandDto commandDto;
+    private InteractionDto interactionDto;
+    private String commandEncoded;
+    private String interactionEncoded;
+
+    @Setup
+    public void setup() {
+        commandDtoMapper = CommandDtoUtils.dtoMapper();
+        interactionDtoMapper = InteractionDtoUtils.dtoMapper();
+
+        commandDto = _SchemaDtoSamples.commandDto(paramCount);
+        interactionDto = _SchemaDtoSamples.interactionDto(paramCount);
+        commandEncoded = codec.encode(commandDtoMapper, commandDto);
+        interactionEncoded = codec.encode(interactionDtoMapper, interactionDto);
+
+        System.out.printf("%n%s, %d params: command %d chars, interaction %d chars%n",
+                codec, paramCount, commandEncoded.length(), interactionEncoded.length());
+    }
+
+    @Benchmark
+    public String encodeCommand() {
+        return codec.encode(commandDtoMapper, commandDto);
+    }
+
+    @Benchmark
+    public CommandDto decodeCommand() {
+        return SchemaDtoCodec.decode(commandDtoMapper, commandEncoded);
+    }
+
+    @Benchmark
+    public String encodeInteraction() {
+        return codec.encode(interactionDtoMapper, interactionDto);
+    }
+
+    @Benchmark
+    public InteractionDto decodeInteraction() {
+        return SchemaDtoCodec.decode(interactionDtoMapper, interactionEncoded);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SchemaDtoCodecBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class SchemaDtoCodec_Test {
+
+    @ParameterizedTest
+    @EnumSource(SchemaDtoCodec.class)
+    void commandDto_roundtrip(final SchemaDtoCodec codec) {
+        val dtoMapper = CommandDtoUtils.dtoMapper();
+        val dto = _SchemaDtoSamples.commandDto(6);
+
+        val encoded = codec.encode(dtoMapper, dto);
+
+        assertEquals(dtoMapper.toString(dto), dtoMapper.toString(SchemaDtoCodec.decode(dtoMapper, encoded)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SchemaDtoCodec.class)
+    void interactionDto_roundtrip(final SchemaDtoCodec codec) {
+        val dtoMapper = InteractionDtoUtils.dtoMapper();
+        val dto = _SchemaDtoSamples.interactionDto(6);
+
+        val encoded = codec.encode(dtoMapper, dto);
+
+        assertEquals(dtoMapper.toString(dto), dtoMapper.toString(SchemaDtoCodec.decode(dtoMapper, encoded)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SchemaDtoCodec.class)
+    void nulls(final SchemaDtoCodec codec) {
+        assertNull(codec.encode(CommandDtoUtils.dtoMapper(), null));
+        assertNull(SchemaDtoCodec.decode(CommandDtoUtils.dtoMapper(), null));
+    }
+
+    @Test
+    void plain_xml_is_still_readable() {
+        val dtoMapper = CommandDtoUtils.dtoMapper();
+        val xml = dtoMapper.toString(_SchemaDtoSamples.commandDto(3));
+
+        assertEquals(SchemaDtoCodec.XML, SchemaDtoCodec.codecFor(xml));
+        assertEquals(xml, dtoMapper.toString(SchemaDtoCodec.decode(dtoMapper, xml)));
+    }
+
+    @Test
+    void deflated_is_smaller() {
+        val dtoMapper = InteractionDtoUtils.dtoMapper();
+        val dto = _SchemaDtoSamples.interactionDto(6);
+
+        val xml = SchemaDtoCodec.XML.encode(dtoMapper, dto);
+        val deflated = SchemaDtoCodec.XML_DEFLATE.encode(dtoMapper, dto);
+
+        assertTrue(deflated.startsWith(SchemaDtoCodec.XML_DEFLATE.getHeader()));
+        assertTrue(deflated.length() < xml.length() / 2,
+                () -> String.format("deflated %d chars, xml %d chars", deflated.length(), xml.length()));
+    }
+
+    @Test
+    void unknown_header_fails() {
+        assertThrows(IllegalArgumentException.class, () ->
+            SchemaDtoCodec.decode(CommandDtoUtils.dtoMapper(), "{xml+zstd;v=1}abc"));
+    }
+
+}
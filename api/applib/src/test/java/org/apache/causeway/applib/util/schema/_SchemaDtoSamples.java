@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.apache.causeway.applib.clock.VirtualClock;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.cmd.v2.ParamDto;
+import org.apache.causeway.schema.common.v2.InteractionType;
+import org.apache.causeway.schema.common.v2.ValueType;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Representative command and interaction payloads, as persisted by the command log,
+ * execution log and execution outbox.
+ */
+@UtilityClass
+class _SchemaDtoSamples {
+
+    CommandDto commandDto(final int paramCount) {
+        val dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setUsername("sven");
+        dto.setTimestamp(VirtualClock.system().nowAsXmlGregorianCalendar());
+        CommandDtoUtils.targetsFor(dto).getOid().add(target().toOidDto());
+
+        val actionDto = new ActionDto();
+        actionDto.setInteractionType(InteractionType.ACTION_INVOCATION);
+        actionDto.setLogicalMemberIdentifier("simple.SimpleObject#updateNameAndNotes");
+        CommandDtoUtils.parametersFor(actionDto).getParameter().addAll(params(paramCount));
+        dto.setMember(actionDto);
+
+        CommandDtoUtils.setUserData(dto, "tenancy", "/GBR/LON");
+        return dto;
+    }
+
+    InteractionDto interactionDto(final int paramCount) {
+        val executionDto = InteractionDtoUtils.newActionInvocation(
+                0, target(), "updateNameAndNotes", params(paramCount), "sven");
+        executionDto.setInteractionType(InteractionType.ACTION_INVOCATION);
+
+        val dto = new InteractionDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId(UUID.randomUUID().toString());
+        dto.setExecution(executionDto);
+        return dto;
+    }
+
+    private Bookmark target() {
+        return Bookmark.forLogicalTypeNameAndIdentifier("simple.SimpleObject", "12345");
+    }
+
+    private ArrayList<ParamDto> params(final int paramCount) {
+        val params = new ArrayList<ParamDto>(paramCount);
+        for (int i = 0; i < paramCount; i++) {
+            val paramDto = CommonDtoUtils.paramDto("param" + i);
+            switch (i % 3) {
+            case 0:
+                CommonDtoUtils.recordFundamentalValue(ValueType.STRING, paramDto,
+                        "Lorem ipsum dolor sit amet, consectetur adipiscing elit #" + i);
+                break;
+            case 1:
+                CommonDtoUtils.recordFundamentalValue(ValueType.INT, paramDto, i);
+                break;
+            default:
+                CommonDtoUtils.recordFundamentalValue(ValueType.BIG_DECIMAL, paramDto, new BigDecimal("1234.5" + i));
+                break;
+            }
+            params.add(paramDto);
+        }
+        return params;
+    }
+
+}
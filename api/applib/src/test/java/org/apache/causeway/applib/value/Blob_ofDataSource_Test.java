@@ -0,0 +1,137 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.io.DataSource;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class Blob_ofDataSource_Test {
+
+    private byte[] bytes;
+    private AtomicInteger readCount;
+    private Blob streamingBlob;
+
+    @BeforeEach
+    void setup() {
+        val rd = new Random(9999); // fixed seed - reproducible tests
+        this.bytes = new byte[16*1024];
+        rd.nextBytes(bytes);
+        this.readCount = new AtomicInteger();
+        this.streamingBlob = Blob.ofDataSource("name.bin", CommonMimeType.BIN.getMimeType(),
+                DataSource.ofInputStreamSupplier(()->{
+                    readCount.incrementAndGet();
+                    return new ByteArrayInputStream(bytes);
+                }),
+                bytes.length);
+    }
+
+    @Test
+    void lengthAndName_doNotReadContent() {
+        assertTrue(streamingBlob.isStreaming());
+        assertEquals(bytes.length, streamingBlob.getLength());
+        assertEquals("name.bin", streamingBlob.getName());
+        assertEquals("name.bin [application/octet-stream]: 16384 bytes", streamingBlob.toString());
+        assertEquals(0, readCount.get());
+    }
+
+    @Test
+    void writeBytesTo_streamsContent() {
+        val os = new ByteArrayOutputStream();
+        streamingBlob.writeBytesTo(os);
+        assertArrayEquals(bytes, os.toByteArray());
+        assertEquals(1, readCount.get());
+    }
+
+    @Test
+    void hash_isSameAsForInMemoryBlob() {
+        val inMemoryBlob = new Blob("name.bin", CommonMimeType.BIN.getMimeType(), bytes);
+        assertFalse(inMemoryBlob.isStreaming());
+        assertEquals(
+                inMemoryBlob.tryHash(HashAlgorithm.SHA256).valueAsNonNullElseFail().asHexString(),
+                streamingBlob.tryHash(HashAlgorithm.SHA256).valueAsNonNullElseFail().asHexString());
+        assertEquals(inMemoryBlob, streamingBlob);
+    }
+
+    @Test
+    void hashCode_doesNotReadContent() {
+        val inMemoryBlob = new Blob("name.bin", CommonMimeType.BIN.getMimeType(), bytes);
+        assertEquals(inMemoryBlob.hashCode(), streamingBlob.hashCode());
+        assertEquals(0, readCount.get());
+    }
+
+    @Test
+    void equals_readsContentAtMostOnce() {
+        val inMemoryBlob = new Blob("name.bin", CommonMimeType.BIN.getMimeType(), bytes);
+        for(int i=0; i<3; ++i) {
+            assertEquals(streamingBlob, inMemoryBlob);
+            assertEquals(inMemoryBlob, streamingBlob);
+        }
+        assertEquals(1, readCount.get());
+    }
+
+    @Test
+    void equals_withDifferentMetadata_doesNotReadContent() {
+        val renamed = new Blob("other.bin", CommonMimeType.BIN.getMimeType(), bytes);
+        assertNotEquals(streamingBlob, renamed);
+        assertEquals(0, readCount.get());
+    }
+
+    @Test
+    void equals_withDifferentContent() {
+        val otherBytes = bytes.clone();
+        otherBytes[0]++;
+        val otherBlob = new Blob("name.bin", CommonMimeType.BIN.getMimeType(), otherBytes);
+        assertNotEquals(streamingBlob, otherBlob);
+    }
+
+    @Test
+    @SneakyThrows
+    void serialization_materializesContent() {
+        val baos = new ByteArrayOutputStream();
+        try(val oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(streamingBlob);
+        }
+        try(val ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            val deserialized = (Blob) ois.readObject();
+            assertFalse(deserialized.isStreaming());
+            assertArrayEquals(bytes, deserialized.getBytes());
+        }
+    }
+
+}
@@ -26,11 +26,17 @@
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -42,6 +48,10 @@
 import javax.xml.bind.SchemaOutputResolver;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Result;
 import javax.xml.transform.TransformerException;
@@ -95,6 +105,17 @@ private static MethodHandle jaxbContextFactoryMethodHandle() {
     @Data @Builder
     public static class JaxbOptions {
         private final @Builder.Default boolean useContextCache = true;
+        /**
+         * Whether to reuse (pooled) {@link Marshaller}s and {@link Unmarshaller}s rather than creating new ones
+         * on each use. Only applies to cached {@link JAXBContext}s and if no {@link #getProperties() properties}
+         * are set.
+         * <p>
+         * Pooled (un)marshallers are kept apart per {@link #getMarshallerConfigurer() (un)marshaller configurer}
+         * instance: a configurer is applied once, when an (un)marshaller is created, which is then reused
+         * (as configured) only with that same configurer instance. Hence pooling only pays off if the configurer
+         * instances are long-lived.
+         */
+        private final @Builder.Default boolean useMarshallerPool = false;
         private final @Builder.Default boolean allowMissingRootElement = false;
         private final @Builder.Default boolean formattedOutput = true;
         private final @Singular Map<String, Object> properties;
@@ -141,9 +162,18 @@ private Unmarshaller unmarshaller(final JAXBContext jaxbContext, final Class<?>
             }
             return unmarshaller;
         }
+        private Marshaller configuredMarshaller(final JAXBContext jaxbContext, final Class<?> mappedType) {
+            val marshaller = marshaller(jaxbContext, mappedType);
+            marshallerConfigurer.accept(marshaller);
+            return marshaller;
+        }
+        private Unmarshaller configuredUnmarshaller(final JAXBContext jaxbContext, final Class<?> mappedType) {
+            val unmarshaller = unmarshaller(jaxbContext, mappedType);
+            unmarshallerConfigurer.accept(unmarshaller);
+            return unmarshaller;
+        }
         @SneakyThrows
         private <T> T unmarshal(final Unmarshaller unmarshaller, final Class<T> mappedType, final InputStream is) {
-            unmarshallerConfigurer.accept(unmarshaller);
             return shouldMissingXmlRootElementBeHandledOn(mappedType)
                     ? unmarshalTypesafe(unmarshaller, mappedType, is)
                     : _Casts.castTo(mappedType, unmarshaller.unmarshal(is))
@@ -157,7 +187,6 @@ private <T> T unmarshalTypesafe(final Unmarshaller unmarshaller, final Class<T>
         }
         @SneakyThrows
         private <T> void marshal(final Marshaller marshaller, final T pojo, final OutputStream os) {
-            marshallerConfigurer.accept(marshaller);
             @SuppressWarnings("unchecked")
             val mappedType = (Class<T>)pojo.getClass();
             if(shouldMissingXmlRootElementBeHandledOn(mappedType)) {
@@ -169,16 +198,113 @@ private <T> void marshal(final Marshaller marshaller, final T pojo, final Output
             }
         }
         private <T> T unmarshal(final JAXBContext jaxbContext, final Class<T> mappedType, final InputStream is) {
-            return unmarshal(unmarshaller(jaxbContext, mappedType), mappedType, is);
+            val pool = marshallerPoolFor(jaxbContext, unmarshallerConfigurer);
+            if(pool==null) {
+                return unmarshal(configuredUnmarshaller(jaxbContext, mappedType), mappedType, is);
+            }
+            val unmarshaller = pool.borrowUnmarshaller(()->configuredUnmarshaller(jaxbContext, mappedType));
+            try {
+                return unmarshal(unmarshaller, mappedType, is);
+            } finally {
+                pool.release(unmarshaller);
+            }
         }
         private <T> void marshal(final JAXBContext jaxbContext, final T pojo, final OutputStream os) {
             @SuppressWarnings("unchecked")
             val mappedType = (Class<T>)pojo.getClass();
-            marshal(marshaller(jaxbContext, mappedType), pojo, os);
+            val pool = marshallerPoolFor(jaxbContext, marshallerConfigurer);
+            if(pool==null) {
+                marshal(configuredMarshaller(jaxbContext, mappedType), pojo, os);
+                return;
+            }
+            val marshaller = pool.borrowMarshaller(()->configuredMarshaller(jaxbContext, mappedType));
+            try {
+                setFormattedOutput(marshaller);
+                marshal(marshaller, pojo, os);
+            } finally {
+                pool.release(marshaller);
+            }
+        }
+        /** pooled marshallers are shared with other (formatted or unformatted) uses of the same context */
+        @SneakyThrows
+        private void setFormattedOutput(final Marshaller marshaller) {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, isFormattedOutput());
+        }
+        @Nullable
+        private JaxbUtils.MarshallerPool marshallerPoolFor(final JAXBContext jaxbContext, final Consumer<?> configurer) {
+            if(!isUseMarshallerPool()
+                    || !_NullSafe.isEmpty(properties)) {
+                return null;
+            }
+            val poolsByConfigurer = marshallerPoolsByContext.get(jaxbContext);
+            if(poolsByConfigurer==null) {
+                return null;
+            }
+            synchronized(poolsByConfigurer) {
+                return poolsByConfigurer.computeIfAbsent(configurer, __->new MarshallerPool());
+            }
         }
         private <T> T unmarshal(final Class<T> mappedType, final InputStream is) {
             return unmarshal(jaxbContext(mappedType), mappedType, is);
         }
+        @SneakyThrows
+        private <T> long unmarshalEach(
+                final Class<T> elementType, final String elementLocalName,
+                final InputStream is, final Consumer<? super T> consumer) {
+            // not pooled, as held for the entire document
+            val unmarshaller = unmarshaller(jaxbContext(elementType), elementType);
+            unmarshallerConfigurer.accept(unmarshaller);
+            val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(is);
+            try {
+                long count = 0L;
+                xsr.nextTag(); // root element
+                xsr.nextTag(); // first child element (if any)
+                while(xsr.isStartElement()) {
+                    if(elementLocalName.equals(xsr.getLocalName())) {
+                        consumer.accept(unmarshaller.unmarshal(xsr, elementType).getValue());
+                        count++;
+                    } else {
+                        skipElement(xsr);
+                    }
+                    skipToNextTag(xsr);
+                }
+                return count;
+            } finally {
+                xsr.close();
+            }
+        }
+        @SneakyThrows
+        private <T> void marshalEach(
+                final Class<T> elementType, final QName rootElementName,
+                final Iterable<? extends T> elements, final OutputStream os) {
+            // not pooled, as configured as a fragment
+            val marshaller = marshaller(jaxbContext(elementType), elementType);
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+            marshallerConfigurer.accept(marshaller);
+            val xsw = XMLOutputFactory.newFactory().createXMLStreamWriter(os, StandardCharsets.UTF_8.name());
+            try {
+                xsw.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+                xsw.writeStartElement(rootElementName.getPrefix(), rootElementName.getLocalPart(), rootElementName.getNamespaceURI());
+                if(!rootElementName.getNamespaceURI().isEmpty()) {
+                    xsw.writeNamespace(rootElementName.getPrefix(), rootElementName.getNamespaceURI());
+                }
+                val handleMissingRootElement = shouldMissingXmlRootElementBeHandledOn(elementType);
+                for(val element : elements) {
+                    if(handleMissingRootElement) {
+                        val qName = new QName("", elementType.getSimpleName());
+                        marshaller.marshal(new JAXBElement<T>(qName, elementType, null, element), xsw);
+                    } else {
+                        marshaller.marshal(element, xsw);
+                    }
+                }
+                xsw.writeEndElement();
+                xsw.writeEndDocument();
+                xsw.flush();
+            } finally {
+                xsw.close();
+            }
+        }
         private <T> void marshal(final T pojo, final OutputStream os) {
             @SuppressWarnings("unchecked")
             val mappedType = (Class<T>)pojo.getClass();
@@ -207,7 +333,8 @@ public interface TransformerFactoryCustomizer extends JaxbCustomizer {
 
     public <T> DtoMapper<T> mapperFor(final @NonNull Class<T> mappedType, final JaxbUtils.JaxbCustomizer ... customizers) {
 
-        val opts = createOptions(customizers);
+        // (un)marshallers are pooled (unless customized otherwise), as the options are fixed for the mapper's lifetime
+        val opts = createOptions(JaxbOptions.builder().useMarshallerPool(true), customizers);
         val jaxbContext = opts.jaxbContext(mappedType); // cached with this instance of DtoMapper
 
         return new DtoMapper<T>() {
@@ -259,6 +386,30 @@ public <T> Try<T> tryRead(
         });
     }
 
+    /**
+     * Tries to deserialize, one at a time, the child elements of the root element of the JAXB-XML content from given
+     * {@link DataSource} that have given {@code elementLocalName} (for example the <code>commandDto</code>s of a
+     * <code>CommandsDto</code>) into instances of given {@code elementType}, handing each over to given
+     * {@code consumer}. Any other child elements are skipped.
+     * <p>
+     * Unlike {@link #tryRead(Class, DataSource, JaxbCustomizer...)} for the wrapping type, this does not require
+     * the entire document to be held in memory.
+     *
+     * @return the number of elements read
+     */
+    public <T> Try<Long> tryReadEach(
+            final @NonNull Class<T> elementType,
+            final @NonNull String elementLocalName,
+            final @NonNull DataSource source,
+            final @NonNull Consumer<? super T> consumer,
+            final JaxbUtils.JaxbCustomizer ... customizers) {
+        return source.tryReadAll((final InputStream is)->{
+            val opts = createOptions(customizers);
+            return Try.call(()->opts.unmarshalEach(elementType, elementLocalName, is, consumer))
+                    .mapFailure(cause->verboseException("unmarshalling XML", elementType, cause));
+        });
+    }
+
     // -- WRITING
 
     /**
@@ -277,6 +428,28 @@ public <T> void write(
         }
     }
 
+    /**
+     * Writes given {@code elements} (of given {@code elementType}) to given {@link DataSink}, one at a time,
+     * as the children of a root element with given {@code rootElementName}.
+     * <p>
+     * Unlike {@link #write(Object, DataSink, JaxbCustomizer...)} for a wrapping type, this does not require
+     * all elements to be held in memory (if the {@link Iterable} produces them lazily).
+     * Output is never formatted.
+     */
+    public <T> void writeEach(
+            final @NonNull Class<T> elementType,
+            final @NonNull QName rootElementName,
+            final @NonNull Iterable<? extends T> elements,
+            final @NonNull DataSink sink,
+            final JaxbUtils.JaxbCustomizer ... customizers) {
+        val opts = createOptions(customizers);
+        try {
+            sink.writeAll(os->opts.marshalEach(elementType, rootElementName, elements, os));
+        } catch (Exception cause) {
+            throw verboseException("marshalling domain objects to XML", elementType, cause);
+        }
+    }
+
     /**
      * Converts given {@code pojo} to an UTF8 encoded {@link String}.
      * @return <code>null</code> if pojo is <code>null</code>
@@ -344,7 +517,13 @@ private static boolean isFormattedOutput(final JaxbCustomizer[] customizers) {
 
     private JaxbOptions createOptions(
             final JaxbUtils.JaxbCustomizer ... customizers) {
-        var opts = JaxbOptions.builder();
+        return createOptions(JaxbOptions.builder(), customizers);
+    }
+
+    private JaxbOptions createOptions(
+            final JaxbOptions.JaxbOptionsBuilder initialOpts,
+            final JaxbUtils.JaxbCustomizer ... customizers) {
+        var opts = initialOpts;
         for(var customizer : customizers) {
             opts = Optional.ofNullable(customizer.apply(opts))
                     .orElse(opts);
@@ -378,13 +557,39 @@ public static JAXBContext jaxbContextFor(final @NonNull Class<?> primaryClass, f
     }
 
     private static Map<Class<?>, JAXBContext> jaxbContextByClass = _Maps.newConcurrentHashMap();
+    private static Map<List<Class<?>>, JAXBContext> jaxbContextByClasses = _Maps.newConcurrentHashMap();
 
     public static JAXBContext jaxbContextFor(final Class<?> dtoClass, final boolean useCache)  {
         return useCache
-                ? jaxbContextByClass.computeIfAbsent(dtoClass, JaxbUtils::contextOf)
+                ? jaxbContextByClass.computeIfAbsent(dtoClass, JaxbUtils::cachedContextOf)
                 : contextOf(dtoClass);
     }
 
+    /**
+     * As {@link #jaxbContextFor(Class, Class...)}, but optionally cached by the set of classes to be bound
+     * (in given order).
+     */
+    public static JAXBContext jaxbContextFor(
+            final boolean useCache,
+            final @NonNull Class<?> primaryClass,
+            final Class<?> ... additionalClassesToBeBound) {
+        if(_NullSafe.isEmpty(additionalClassesToBeBound)) {
+            return jaxbContextFor(primaryClass, useCache);
+        }
+        val classesToBeBound = _Arrays.combine(primaryClass, additionalClassesToBeBound);
+        return useCache
+                ? jaxbContextByClasses.computeIfAbsent(List.of(classesToBeBound),
+                        __->cachedContextOf(classesToBeBound))
+                : contextOf(classesToBeBound);
+    }
+
+    /** cached contexts live as long as the application, hence get (un)marshaller pools of their own */
+    private static JAXBContext cachedContextOf(final Class<?> ... classesToBeBound) {
+        val jaxbContext = contextOf(classesToBeBound);
+        marshallerPoolsByContext.put(jaxbContext, new WeakHashMap<>());
+        return jaxbContext;
+    }
+
     @SneakyThrows
     private static <T> JAXBContext contextOf(final Class<?> ... classesToBeBound) {
         try {
@@ -429,6 +634,89 @@ private static Class<?>[] open(final Class<?>[] classes) throws JAXBException {
         return classes;
     }
 
+    // -- STAX HELPER
+
+    /** advances past the end of the current element */
+    private static void skipElement(final XMLStreamReader xsr) throws XMLStreamException {
+        int depth = 1;
+        while(depth>0) {
+            val event = xsr.next();
+            if(event==XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if(event==XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        xsr.next();
+    }
+
+    /** advances to the next start or end element, unless already there */
+    private static void skipToNextTag(final XMLStreamReader xsr) throws XMLStreamException {
+        while(!xsr.isStartElement()
+                && !xsr.isEndElement()
+                && xsr.hasNext()) {
+            xsr.next();
+        }
+    }
+
+    // -- MARSHALLER POOLING
+
+    /**
+     * Per (cached) {@link JAXBContext}, a pool per (un)marshaller configurer (weakly referenced, such that pools
+     * of short-lived configurers are discarded along with them).
+     */
+    private static Map<JAXBContext, Map<Consumer<?>, MarshallerPool>> marshallerPoolsByContext =
+            _Maps.newConcurrentHashMap();
+
+    /**
+     * Idle {@link Marshaller}s and {@link Unmarshaller}s of a single (cached) {@link JAXBContext},
+     * all configured by the same (un)marshaller configurer.
+     * These are not thread-safe, hence borrowed for exclusive use and released afterwards.
+     */
+    private static final class MarshallerPool {
+
+        private static final int MAX_IDLE = 32;
+
+        private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+        private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleMarshallers = new AtomicInteger();
+        private final AtomicInteger idleUnmarshallers = new AtomicInteger();
+
+        Marshaller borrowMarshaller(final Supplier<Marshaller> factory) {
+            val marshaller = marshallers.poll();
+            if(marshaller==null) {
+                return factory.get();
+            }
+            idleMarshallers.decrementAndGet();
+            return marshaller;
+        }
+
+        Unmarshaller borrowUnmarshaller(final Supplier<Unmarshaller> factory) {
+            val unmarshaller = unmarshallers.poll();
+            if(unmarshaller==null) {
+                return factory.get();
+            }
+            idleUnmarshallers.decrementAndGet();
+            return unmarshaller;
+        }
+
+        void release(final Marshaller marshaller) {
+            if(idleMarshallers.incrementAndGet() > MAX_IDLE) {
+                idleMarshallers.decrementAndGet();
+                return;
+            }
+            marshallers.offer(marshaller);
+        }
+
+        void release(final Unmarshaller unmarshaller) {
+            if(idleUnmarshallers.incrementAndGet() > MAX_IDLE) {
+                idleUnmarshallers.decrementAndGet();
+                return;
+            }
+            unmarshallers.offer(unmarshaller);
+        }
+    }
+
     // -- ENHANCE EXCEPTION MESSAGE IF POSSIBLE
 
     private static RuntimeException verboseException(final String doingWhat, @Nullable final Class<?> dtoClass, final Throwable cause) {
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Compares marshalling and unmarshalling of a small payload with a {@link DtoMapper},
+ * creating new (un)marshallers each time (as formerly) versus reusing pooled ones (the default),
+ * from concurrent threads.
+ * <p>
+ * Not a test, hence not picked up by surefire. Run via {@link #main(String[])}
+ * from the IDE (test class-path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JaxbUtilsBenchmark {
+
+    @XmlRootElement(name = "order")
+    @XmlType
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class Order {
+        @XmlElement @Getter @Setter private String reference;
+        @XmlElement(name = "line") @Getter private List<Line> lines = new ArrayList<>();
+    }
+
+    @XmlType
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class Line {
+        @XmlElement @Getter @Setter private String product;
+        @XmlElement @Getter @Setter private int quantity;
+    }
+
+    private Order order;
+    private String orderXml;
+
+    private DtoMapper<Order> unpooledMapper;
+    private DtoMapper<Order> pooledMapper;
+
+    @Setup
+    public void setup() {
+        order = new Order();
+        order.setReference("ORD-4711");
+        for (int i = 0; i < 3; i++) {
+            final Line line = new Line();
+            line.setProduct("product-" + i);
+            line.setQuantity(i + 1);
+            order.getLines().add(line);
+        }
+
+        unpooledMapper = JaxbUtils.mapperFor(Order.class, opts->opts.useMarshallerPool(false));
+        pooledMapper = JaxbUtils.mapperFor(Order.class);
+
+        orderXml = pooledMapper.toString(order);
+    }
+
+    @Benchmark
+    public String marshalNewMarshaller() {
+        return unpooledMapper.toString(order);
+    }
+
+    @Benchmark
+    public String marshalPooledMarshaller() {
+        return pooledMapper.toString(order);
+    }
+
+    @Benchmark
+    public Order unmarshalNewUnmarshaller() {
+        return unpooledMapper.read(orderXml);
+    }
+
+    @Benchmark
+    public Order unmarshalPooledUnmarshaller() {
+        return pooledMapper.read(orderXml);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JaxbUtilsBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+}
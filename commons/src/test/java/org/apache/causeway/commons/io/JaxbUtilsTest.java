@@ -18,12 +18,20 @@
  */
 package org.apache.causeway.commons.io;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.namespace.QName;
 import javax.xml.transform.TransformerFactory;
 
 import org.approvaltests.Approvals;
@@ -32,6 +40,9 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.commons.internal.base._Strings;
@@ -107,6 +118,103 @@ void typesafeUnmarshallingFromAmbiguousContext() {
         }
     }
 
+    @Nested
+    class pooling {
+
+        @Test
+        void mapperRoundtripsRepeatedly() {
+            val mapper = JaxbUtils.mapperFor(A.class);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(a, mapper.read(mapper.toString(a)));
+            }
+        }
+
+        @Test
+        void pooledMarshallersHonorFormattedOutput() {
+            val mapper = JaxbUtils.mapperFor(A.class, opts->opts.formattedOutput(false));
+            val formattedMapper = JaxbUtils.mapperFor(A.class);
+
+            // both share the same (cached) context and hence the same pool
+            assertFalse(mapper.toString(a).contains("\n    "));
+            assertTrue(formattedMapper.toString(a).contains("\n    "));
+            assertFalse(mapper.toString(a).contains("\n    "));
+        }
+
+        @Test
+        void configurerStateDoesNotLeakToOtherConfigurers() {
+            val listenerCalls = new AtomicInteger();
+            val listeningMapper = JaxbUtils.mapperFor(A.class, opts->opts.marshallerConfigurer(marshaller->
+                marshaller.setListener(new Marshaller.Listener() {
+                    @Override public void beforeMarshal(final Object source) {
+                        listenerCalls.incrementAndGet();
+                    }
+                })));
+            val plainMapper = JaxbUtils.mapperFor(A.class);
+
+            listeningMapper.toString(a);
+            val callsAfterListeningUse = listenerCalls.get();
+            assertTrue(callsAfterListeningUse > 0);
+
+            // both share the same (cached) context, but not the same pooled marshallers
+            for (int i = 0; i < 3; i++) {
+                plainMapper.toString(a);
+            }
+            assertEquals(callsAfterListeningUse, listenerCalls.get());
+        }
+
+        @Test
+        void contextsForClassSetsAreCached() {
+            assertSame(
+                    JaxbUtils.jaxbContextFor(true, A.class, B.class),
+                    JaxbUtils.jaxbContextFor(true, A.class, B.class));
+            assertNotSame(
+                    JaxbUtils.jaxbContextFor(false, A.class, B.class),
+                    JaxbUtils.jaxbContextFor(false, A.class, B.class));
+        }
+    }
+
+    @Nested
+    class streaming {
+
+        @Test
+        void writeEachThenReadEach() {
+            val bs = IntStream.range(0, 5)
+                    .mapToObj(i->{
+                        val b = new B();
+                        b.setString("b-" + i);
+                        return b;
+                    })
+                    .collect(Collectors.toList());
+
+            val sb = new StringBuilder();
+            JaxbUtils.writeEach(B.class, new QName("bs"), bs, DataSink.ofStringUtf8Consumer(sb));
+
+            val recovered = new ArrayList<B>();
+            val count = JaxbUtils.tryReadEach(B.class, "type-b", DataSource.ofStringUtf8(sb.toString()), recovered::add)
+                    .valueAsNonNullElseFail();
+
+            assertEquals(5L, count);
+            assertEquals(bs, recovered);
+        }
+
+        @Test
+        void readEachSkipsOtherElements() {
+            val xml = "<?xml version=\"1.0\"?>"
+                    + "<bs><majorVersion>2</majorVersion>"
+                    + "<type-b><string>first</string></type-b>"
+                    + "<other><type-b><string>nested</string></type-b></other>"
+                    + "<type-b><string>second</string></type-b></bs>";
+
+            val recovered = new ArrayList<B>();
+            val count = JaxbUtils.tryReadEach(B.class, "type-b", DataSource.ofStringUtf8(xml), recovered::add)
+                    .valueAsNonNullElseFail();
+
+            assertEquals(2L, count);
+            assertEquals(List.of("first", "second"),
+                    recovered.stream().map(B::getString).collect(Collectors.toList()));
+        }
+    }
+
     @Test
     void toStringUtf8_with_no_options() {
         val aXml = JaxbUtils.toStringUtf8(a);
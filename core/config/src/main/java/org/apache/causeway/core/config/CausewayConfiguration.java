@@ -64,6 +64,7 @@
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import org.apache.causeway.applib.CausewayModuleApplib;
@@ -85,6 +86,7 @@
 import org.apache.causeway.applib.services.userreg.EmailNotificationService;
 import org.apache.causeway.applib.services.userreg.UserRegistrationService;
 import org.apache.causeway.applib.services.userui.UserMenu;
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
@@ -1627,6 +1629,12 @@ public IntrospectionPolicy getPolicy() {
                  * Whether to perform metamodel introspection in parallel, intended to speed up bootstrapping.
                  *
                  * <p>
+                 *     Within each phase of introspection, types are scheduled such that supertypes and
+                 *     member (element) types are introspected before their dependents, while independent types are
+                 *     introspected in parallel.
+                 * </p>
+                 *
+                 * <p>
                  *     For now this is <i>experimental</i>.
                  *     We recommend this is left as disabled (the default).
                  * </p>
@@ -2085,6 +2093,80 @@ public static class Po {
                     Mode mode = Mode.WRITE;
                 }
             }
+
+            private final SubscriberDispatch subscriberDispatch = new SubscriberDispatch();
+            /**
+             * How the framework's publishers call each {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}
+             * and {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber}.
+             */
+            @Data
+            public static class SubscriberDispatch {
+
+                public enum Policy {
+                    /**
+                     * The subscriber is called synchronously, within the transaction that published. This is the
+                     * default.
+                     */
+                    SYNC,
+                    /**
+                     * The subscriber is called asynchronously, once the publishing transaction has committed
+                     * (and not at all if it rolls back), in a new interaction and transaction of its own.
+                     */
+                    ASYNC,
+                    /**
+                     * As per {@link #ASYNC}, but the subscriber is called with batches of up to
+                     * {@link SubscriberDispatch#getBatchSize() batch size} changes (or executions), collected for
+                     * no longer than the {@link SubscriberDispatch#getBatchWindow() batch window}.
+                     */
+                    BATCHED;
+
+                    public boolean isSync() { return this == SYNC; }
+                    public boolean isBatched() { return this == BATCHED; }
+                }
+
+                /**
+                 * The dispatch policy per subscriber, keyed by the subscriber's logical type name (as per its
+                 * <code>@Named</code> annotation, else its fully qualified class name).  Subscribers not listed are
+                 * called {@link Policy#SYNC synchronously}.
+                 *
+                 * <p>
+                 *     As the keys contain dots, use bracket notation, eg.
+                 *     <code>causeway.core.runtime-services.subscriber-dispatch.policies[causeway.ext.auditTrail.EntityPropertyChangeSubscriberForAuditTrail]=ASYNC</code>
+                 * </p>
+                 */
+                private Map<String, Policy> policies = new LinkedHashMap<>();
+
+                /**
+                 * Number of threads (per asynchronous subscriber).  Changes (or executions) concerning the same
+                 * target object are always handled by the same thread, so are delivered in order.
+                 */
+                @Min(value = 1)
+                private int threads = 2;
+
+                /**
+                 * The maximum number of changes (or executions) queued up (per asynchronous subscriber).
+                 */
+                @Min(value = 1)
+                private int queueCapacity = 10_000;
+
+                /**
+                 * How long a publishing thread waits for queue capacity when the queue is full, before instead
+                 * calling the subscriber itself (synchronously), for all the changes (or executions) still queued
+                 * up on that thread, followed by its own.
+                 */
+                private Duration backpressureTimeout = Duration.ofSeconds(5);
+
+                /**
+                 * For {@link Policy#BATCHED}, the maximum number of changes (or executions) per call.
+                 */
+                @Min(value = 1)
+                private int batchSize = 100;
+
+                /**
+                 * For {@link Policy#BATCHED}, how long to wait for a batch to fill up.
+                 */
+                private Duration batchWindow = Duration.ofMillis(200);
+            }
         }
     }
 
@@ -2097,6 +2179,19 @@ public static class Persistence {
         @Data
         public static class Commons {
 
+            /**
+             * How the <code>org.apache.causeway.schema</code> DTOs (commands, interactions and changes, as persisted
+             * by the command log, execution log, execution outbox and audit trail extensions) are encoded when
+             * written to the database.
+             *
+             * <p>
+             *     Values are always read irrespective of the codec they were written with, so this can be changed
+             *     without migrating existing rows.  Note though that rows written by {@link SchemaDtoCodec#XML_DEFLATE}
+             *     can no longer be queried or inspected as XML directly in the database.
+             * </p>
+             */
+            private SchemaDtoCodec schemaDtoCodec = SchemaDtoCodec.XML;
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -2113,6 +2208,19 @@ public static class RepositoryService {
                  * </p>
                  */
                 private boolean disableAutoFlush = false;
+
+                /**
+                 * When filtering by a (plain) {@link java.util.function.Predicate}, which cannot be translated into a
+                 * native query, instances are fetched (ordered by their primary key) and tested in pages of this size,
+                 * rather than all at once, and only matching instances are retained.
+                 *
+                 * <p>
+                 *     NOTE: this does not apply to {@link org.apache.causeway.applib.query.Criteria}, which are
+                 *     evaluated by the datastore.
+                 * </p>
+                 */
+                @Min(1)
+                private int predicatePageSize = 1000;
             }
 
             private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
@@ -2576,6 +2684,67 @@ public static class Mutation {
                 private String targetArgName = "_target";
             }
 
+            private final QueryCost queryCost = new QueryCost();
+            @Data
+            public static class QueryCost {
+
+                /**
+                 * The maximum cost of any single operation; operations whose cost exceeds this budget are rejected
+                 * before execution.  A value of <code>0</code> (the default) disables the check.
+                 *
+                 * <p>
+                 *     The cost of a field is its own cost plus the cost of its selected child fields, the latter
+                 *     multiplied by the expected cardinality for list-valued fields.  The expected cardinality of
+                 *     collections and of actions returning collections is their page size (as per
+                 *     {@link org.apache.causeway.applib.annotation.CollectionLayout#paged()}), falling back to
+                 *     {@link #getDefaultCardinality()}.
+                 * </p>
+                 */
+                private int maxCost = 0;
+
+                /**
+                 * The maximum depth of any single operation; deeper operations are rejected before execution.
+                 * A value of <code>0</code> (the default) disables the check.
+                 */
+                private int maxDepth = 0;
+
+                /**
+                 * The expected cardinality of list-valued fields for which the metamodel provides no page size.
+                 */
+                private int defaultCardinality = 10;
+
+                /**
+                 * The cost of a field that represents the invocation of a
+                 * {@link org.apache.causeway.applib.annotation.SemanticsOf#isSafeInNature() safe} action.
+                 */
+                private int safeActionCost = 5;
+
+                /**
+                 * The cost of a field that represents the invocation of an action that is not safe, in other words
+                 * one that changes the state of the system.
+                 */
+                private int nonSafeActionCost = 20;
+            }
+
+            private final PersistedQueries persistedQueries = new PersistedQueries();
+            @Data
+            public static class PersistedQueries {
+
+                /**
+                 * Whether to cache parsed and validated query documents, keyed by the SHA-256 hash of the query,
+                 * so that hot queries skip parsing and validation.  This also supports the
+                 * <a href="https://www.apollographql.com/docs/apollo-server/performance/apq/">automatic persisted queries</a>
+                 * protocol, where clients send just the hash (as the <code>persistedQuery</code> extension)
+                 * of a query previously registered.
+                 */
+                private boolean enabled = true;
+
+                /**
+                 * The maximum number of query documents to retain; the least recently used are evicted first.
+                 */
+                private int maxEntries = 1000;
+            }
+
             private final ScalarMarshaller scalarMarshaller = new ScalarMarshaller();
             @Data
             public static class ScalarMarshaller {
@@ -3230,6 +3399,37 @@ public static class DevelopmentUtilities {
                 private boolean enable = false;
             }
 
+            private final PageStore pageStore = new PageStore();
+            @Data
+            public static class PageStore {
+
+                /**
+                 * Whether to replace Wicket's default (disk based) page store with an off-heap page store
+                 * of {@link #getMaxSize() bounded size}, evicting the least recently used pages first.
+                 *
+                 * <p>
+                 *     Pages are held in a compact serialized form: repeated class descriptors are written as
+                 *     short references and the result is compressed.  As this form is only meaningful
+                 *     to the running application, pages do not survive a restart.
+                 * </p>
+                 */
+                private boolean offHeap = false;
+
+                /**
+                 * The maximum size of all pages held by the off-heap page store, across all sessions.
+                 *
+                 * <p>
+                 *     This also bounds the direct memory reserved by the store, which is allocated on demand.
+                 * </p>
+                 */
+                private DataSize maxSize = DataSize.ofMegabytes(64);
+
+                /**
+                 * The maximum size of all pages held by the off-heap page store for any single session.
+                 */
+                private DataSize maxSizePerSession = DataSize.ofMegabytes(10);
+            }
+
             private final RememberMe rememberMe = new RememberMe();
             @Data
             public static class RememberMe {
@@ -3654,16 +3854,32 @@ public static class AuditTrail {
              */
             public enum PersistPolicy {
                 /**
-                 * Persist to the audit trail.  This is the default.
+                 * Persist to the audit trail, one entry at a time as each property change is published.
+                 * This is the default.
                  */
                 ENABLED,
+                /**
+                 * Persist to the audit trail within the same transaction, but collect all property changes of
+                 * the transaction and write them in batches of {@link AuditTrail#getBatchSize()}, flushing once
+                 * per batch (allowing the persistence stack to use JDBC batch inserts, if so configured).
+                 *
+                 * <p>
+                 *     To write the audit trail asynchronously instead, once the originating transaction has
+                 *     committed, configure an <code>ASYNC</code> or <code>BATCHED</code> policy for the
+                 *     audit trail's subscriber under
+                 *     <code>causeway.core.runtime-services.subscriber-dispatch.policies</code>; this persist policy
+                 *     then applies to each (background) delivery.
+                 * </p>
+                 */
+                BATCHED,
                 /**
                  * Do <i>NOT</i> persist to the audit trail.
                  */
                 DISABLED;
 
-                public boolean isEnabled() { return this == ENABLED; }
+                public boolean isEnabled() { return this != DISABLED; }
                 public boolean isDisabled() { return this == DISABLED; }
+                public boolean isBatched() { return this == BATCHED; }
             }
 
             /**
@@ -3679,6 +3895,12 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * For {@link PersistPolicy#BATCHED}, the maximum number of audit trail entries written per flush.
+             */
+            @Min(1)
+            private int batchSize = 500;
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3721,6 +3943,72 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
+            @Data
+            public static class RunBackgroundCommands {
+
+                /**
+                 * The number of worker threads that the <code>RunBackgroundCommandsJob</code> uses to execute
+                 * background commands.
+                 *
+                 * <p>
+                 *     With the default of <code>1</code>, commands are executed one at a time, in the calling
+                 *     (Quartz) thread.
+                 * </p>
+                 */
+                @Min(1)
+                private int workerCount = 1;
+
+                /**
+                 * The maximum number of background commands claimed (marked as started) at a time.
+                 *
+                 * <p>
+                 *     The job keeps claiming batches until the queue is drained (or the job is paused).
+                 * </p>
+                 */
+                @Min(1)
+                private int batchSize = 100;
+
+                /**
+                 * How long a claimed background command may take to complete, before it is considered
+                 * abandoned (eg. because the node that claimed it has crashed), and is claimed again.
+                 *
+                 * <p>
+                 *     The lease is not renewed while the command executes: a command that is still running when
+                 *     its lease expires is claimed and executed <i>again</i>, by this or some other node.
+                 *     The lease should therefore be comfortably longer than the longest running background
+                 *     command, and only be set if commands are idempotent.
+                 * </p>
+                 *
+                 * <p>
+                 *     Unset by default, in which case abandoned commands are never reclaimed automatically.
+                 * </p>
+                 */
+                private Duration lease = null;
+
+                private final Retry retry = new Retry();
+                @Data
+                public static class Retry {
+
+                    /**
+                     * The maximum number of attempts to execute a command, when encountering deadlocks.
+                     */
+                    @Min(1)
+                    private int maxAttempts = 3;
+
+                    /**
+                     * Back-off before the first retry; doubled for each subsequent retry (up to
+                     * {@link #getMaxInterval()}), with random jitter applied.
+                     */
+                    private Duration initialInterval = Duration.ofSeconds(1);
+
+                    /**
+                     * Upper bound for the back-off between retries.
+                     */
+                    private Duration maxInterval = Duration.ofSeconds(30);
+                }
+            }
+
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -3935,6 +4223,46 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * When the execution log's subscriber is dispatched to in batches (see
+             * <code>causeway.core.runtime-services.subscriber-dispatch</code>), the number of entries
+             * after which the persistence context is flushed.
+             */
+            @Min(value = 1)
+            private int batchSize = 500;
+
+            private final Retention retention = new Retention();
+            /**
+             * Pruning of old entries, performed (in chunks, each in a transaction of its own) whenever the
+             * <code>ExecutionLogRetentionJob</code> runs.
+             */
+            @Data
+            public static class Retention {
+
+                /**
+                 * Entries older than this are deleted.  If not set, entries are not pruned by age.
+                 */
+                private Optional<Duration> maxAge = Optional.empty();
+
+                /**
+                 * Only (roughly) this many of the most recent entries are kept.  If not set (zero), entries are not
+                 * pruned by count.
+                 */
+                @Min(value = 0)
+                private int maxEntries = 0;
+
+                /**
+                 * The maximum number of entries deleted per transaction.
+                 */
+                @Min(value = 1)
+                private int chunkSize = 1_000;
+
+                public boolean isEnabled() {
+                    return maxAge.isPresent()
+                            || maxEntries > 0;
+                }
+            }
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -3952,6 +4280,18 @@ public static class RestApi {
                 @Min(value = 1)
                 @Max(value = 1000)
                 private int maxPending = 100;
+
+                /**
+                 * The maximum time that a long-polling client (calling <code>awaitPending</code> with a wait time)
+                 * is kept waiting for new interactions to arrive, before an empty batch is returned.
+                 *
+                 * <p>
+                 *     Each poll runs in a short transaction of its own, but for the duration of the wait the
+                 *     client's request still holds on to a servlet thread (and its interaction).
+                 *     It should therefore be kept short, a few seconds at most; clients simply call again.
+                 * </p>
+                 */
+                private Duration maxWait = Duration.ofSeconds(5);
             }
 
             /**
@@ -4236,6 +4576,45 @@ public enum AutoCreatePolicy {
 
             }
 
+            private final PermissionsCache permissionsCache = new PermissionsCache();
+            @Data
+            public static class PermissionsCache {
+
+                /**
+                 * Whether to cache each user's permissions across interactions, rather than re-reading them
+                 * from the database for every interaction (HTTP request).
+                 *
+                 * <p>
+                 *     Entries are invalidated whenever any <code>ApplicationUser</code>, <code>ApplicationRole</code>
+                 *     or <code>ApplicationPermission</code> is persisted, updated or removed.
+                 * </p>
+                 *
+                 * <p>
+                 *     Disabled by default: invalidation only affects the node where the change happened,
+                 *     so in a cluster, other nodes keep using (say) revoked permissions for up to the
+                 *     {@link #getTimeToLive() time-to-live}.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Maximum number of users whose permissions are held in the cache; the least recently used
+                 * entries are evicted first.
+                 */
+                private int maxSize = 1000;
+
+                /**
+                 * How long a user's permissions are held in the cache since they were read from the database.
+                 *
+                 * <p>
+                 *     This also bounds staleness if the secman tables are modified by some other node (or by
+                 *     other means than the framework's persistence layer).
+                 * </p>
+                 */
+                private Duration timeToLive = Duration.ofMinutes(1);
+
+            }
+
             public enum PermissionsEvaluationPolicy {
                 ALLOW_BEATS_VETO,
                 VETO_BEATS_ALLOW
@@ -43,6 +43,8 @@
  * <p>
  * We do this for collection parameter types List, Set, SortedSet, Collection, Can, Arrays
  * missing arguments and primitives that are not initialized.
+ * <p>
+ * Methods are invoked via {@link java.lang.invoke.MethodHandle}s, linked once per {@link Method}.
  */
 @UtilityClass
 public class CanonicalInvoker {
@@ -79,7 +81,7 @@ public Object invoke(
             final Object targetPojo,
             final @Nullable Object ... executionParameters) {
         var convertedExecutionParameters = ParameterConverters.DEFAULT.convertAll(method, executionParameters);
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        return MethodInvoker.forMethod(method).invoke(targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
@@ -90,7 +92,7 @@ public Object invokeWithConvertedArgs(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... convertedExecutionParameters) {
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        return MethodInvoker.forMethod(method).invoke(targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
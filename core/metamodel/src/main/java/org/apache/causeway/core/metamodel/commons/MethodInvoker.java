@@ -0,0 +1,159 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invokes a {@link Method} via a {@link MethodHandle}, that is linked only once per {@link Method}
+ * (on first use) and cached thereafter; as opposed to reflective {@link Method#invoke(Object, Object...)},
+ * which (with {@link _Reflect#invokeMethodOn(Method, Object, Object...)}) also has to check and toggle
+ * accessibility on each call.
+ * <p>
+ * Failures are reported the same way as with reflective invocation, that is, exceptions thrown by the
+ * invoked method are wrapped in an {@link InvocationTargetException}, while arguments not fitting the
+ * method's parameters result in an {@link IllegalArgumentException}.
+ * <p>
+ * Falls back to reflective invocation, if a {@link MethodHandle} cannot be linked
+ * (eg. because of module access restrictions).
+ */
+@Log4j2
+final class MethodInvoker {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static final MethodType GENERIC_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * Weakly keyed by declaring class, so we don't prevent class unloading (eg. on dev-tools restart).
+     */
+    private static final ClassValue<Map<Method, MethodInvoker>> INVOKERS_BY_DECLARING_CLASS =
+            new ClassValue<Map<Method, MethodInvoker>>() {
+                @Override
+                protected Map<Method, MethodInvoker> computeValue(final Class<?> declaringClass) {
+                    return _Maps.newConcurrentHashMap();
+                }
+            };
+
+    static MethodInvoker forMethod(final @NonNull Method method) {
+        return INVOKERS_BY_DECLARING_CLASS.get(method.getDeclaringClass())
+                .computeIfAbsent(method, MethodInvoker::new);
+    }
+
+    private final Method method;
+    private final boolean isStatic;
+    private final int paramCount;
+    /** of {@link #GENERIC_TYPE}, or {@code null} if we fall back to reflective invocation */
+    private final @Nullable MethodHandle methodHandle;
+
+    private MethodInvoker(final Method method) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.paramCount = method.getParameterCount();
+        this.methodHandle = link(method, isStatic, paramCount);
+    }
+
+    Try<Object> invoke(final @Nullable Object target, final @Nullable Object[] args) {
+        if(methodHandle==null) {
+            return _Reflect.invokeMethodOn(method, target, args);
+        }
+        val argsNonNull = args!=null
+                ? args
+                : NO_ARGS;
+        if(argsNonNull.length!=paramCount) {
+            return Try.failure(new IllegalArgumentException(String.format(
+                    "wrong number of arguments: %d expected: %d", argsNonNull.length, paramCount)));
+        }
+        if(target==null
+                && !isStatic) {
+            return Try.failure(new NullPointerException("target must not be null"));
+        }
+        try {
+            return Try.success((Object) methodHandle.invokeExact(target, argsNonNull));
+        } catch (ClassCastException | NullPointerException | WrongMethodTypeException e) {
+            // either thrown by the invoked method or by the handle's argument conversion
+            return Try.failure(isCompatible(target, argsNonNull)
+                    ? new InvocationTargetException(e)
+                    : new IllegalArgumentException("argument type mismatch", e));
+        } catch (Throwable e) {
+            return Try.failure(new InvocationTargetException(e));
+        }
+    }
+
+    // -- HELPER
+
+    private static @Nullable MethodHandle link(final Method method, final boolean isStatic, final int paramCount) {
+        try {
+            val lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            var methodHandle = lookup.unreflect(method).asFixedArity();
+            if(isStatic) {
+                // ignore the target
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            return methodHandle
+                    .asSpreader(Object[].class, paramCount)
+                    .asType(GENERIC_TYPE);
+        } catch (Exception e) {
+            log.debug("falling back to reflective invocation of {}", method, e);
+            return null;
+        }
+    }
+
+    private boolean isCompatible(final @Nullable Object target, final Object[] args) {
+        if(!isStatic
+                && !method.getDeclaringClass().isInstance(target)) {
+            return false;
+        }
+        val parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < paramCount; i++) {
+            val arg = args[i];
+            val paramType = parameterTypes[i];
+            if(arg==null) {
+                if(paramType.isPrimitive()) {
+                    return false;
+                }
+                continue;
+            }
+            if(!ClassExtensions.equalsWhenBoxing(arg.getClass(), paramType)
+                    && !paramType.isAssignableFrom(arg.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -142,6 +144,21 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * The entity pojos corresponding to given {@link Bookmark}s (all of this entity's logical type),
+     * keyed by bookmark; those that could not be found are absent from the resulting map.
+     * <p>
+     * The default implementation simply calls {@link #fetchByBookmark(Bookmark)} for each,
+     * implementations may override to fetch all of them with a single query.
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        final Map<Bookmark, Object> entityPojoByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entityPojoByBookmark.put(bookmark, entityPojo)));
+        return entityPojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
     void persist(Object pojo);
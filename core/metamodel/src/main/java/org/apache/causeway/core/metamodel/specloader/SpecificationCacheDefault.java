@@ -34,24 +34,35 @@
 import lombok.val;
 
 
+/**
+ * Reads ({@link #lookup(Class)} and the fast path of {@link #computeIfAbsent(Class, Function)})
+ * do not acquire any lock, while all mutations are serialized on {@code this}.
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = _Maps.newConcurrentHashMap();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
     @Override
-    public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+    public Optional<T> lookup(final @Nullable Class<?> cls) {
+        return cls!=null
+                ? Optional.ofNullable(specByClass.get(cls))
+                : Optional.empty();
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
+        // fast path, no locking
+        final T cached = specByClass.get(cls);
+        if(cached!=null) {
+            return cached;
+        }
+        // slow path; not using ConcurrentHashMap.computeIfAbsent(..) here,
+        // as the mappingFunction may recursively call back into this cache
         synchronized(this) {
             T spec = specByClass.get(cls);
             if(spec==null) {
@@ -285,18 +285,19 @@ public void createMetaModel() {
         });
 
         //XXX[CAUSEWAY-2382] when parallel introspecting, make sure we have the mixins before their holders
-        // (observation by experiment, no real understanding as to why)
+        // (observation by experiment, no real understanding as to why);
+        // within each phase, the _IntrospectionScheduler makes sure we have dependencies before their dependents
 
         _LogUtil.logBefore(log, cache, knownSpecs);
 
         log.info(" - introspecting {} type hierarchies", knownSpecs.size());
-        introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
+        introspect("type hierarchies", Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
 
         log.info(" - introspecting {} value types", valueTypeSpecs.size());
-        introspect(Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
+        introspect("value types", Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
 
         log.info(" - introspecting {} mixins", causewayBeanTypeRegistry.getMixinTypes().size());
-        introspect(Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
+        introspect("mixins", Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
 
         log.info(" - introspecting {} managed beans contributing (domain services)",
                 causewayBeanTypeRegistry.getManagedBeansContributing().size());
@@ -309,19 +310,21 @@ public void createMetaModel() {
 
         serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
 
-        introspect(Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
+        introspect("domain objects", Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
 
         _LogUtil.logAfter(log, cache, knownSpecs);
 
         if(isFullIntrospect()) {
             val snapshot = cache.snapshotSpecs();
             log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
-            introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
-            introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            introspect("mixins (eagerly)", snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+            introspect("others (eagerly)", snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
         }
 
         log.info(" - running remaining validators");
+        val validationStopWatch = _Timing.now();
         _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        log.info("   validation done in {} ms", validationStopWatch.stop().getMillis());
 
         stopWatch.stop();
         log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
@@ -647,29 +650,41 @@ private void introspectSequential(
         }
     }
 
+    /**
+     * Introspects in waves, as planned by the {@link _IntrospectionScheduler}:
+     * groups of (mutually) dependent specs are introspected sequentially,
+     * while independent groups of the same wave are introspected in parallel (fork/join).
+     */
     private void introspectParallel(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
-            try {
-                spec.introspectUpTo(upTo);
-            } catch (Throwable ex) {
-                log.error(ex);
-                throw ex;
-            }
-        });
+        val waves = _IntrospectionScheduler.plan(specs, upTo);
+        log.debug("   scheduled {} specs in {} waves", specs.size(), waves.size());
+        for (val wave : waves) {
+            wave.parallelStream()
+            .forEach(group -> {
+                try {
+                    introspectSequential(Can.ofCollection(group), upTo);
+                } catch (Throwable ex) {
+                    log.error(ex);
+                    throw ex;
+                }
+            });
+        }
     }
 
     private void introspect(
+            final String phase,
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
+        val stopWatch = _Timing.now();
         val isConcurrentFromConfig = causewayConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
         if(isConcurrentFromConfig) {
             introspectParallel(specs, upTo);
         } else {
             introspectSequential(specs, upTo);
         }
+        log.info("   {} done in {} ms", phase, stopWatch.stop().getMillis());
     }
 
     private void invalidateCache(final Class<?> cls) {
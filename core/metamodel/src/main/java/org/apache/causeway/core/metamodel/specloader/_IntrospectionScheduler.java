@@ -0,0 +1,291 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.MalformedParameterizedTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Plans parallel introspection of a batch of specifications, such that no specification is introspected
+ * before (or concurrently with) any of its dependencies within the same batch.
+ * <p>
+ * Dependencies are supertypes (superclasses and interfaces) and, when introspecting members,
+ * also the return and parameter types (including their element types) of all declared methods and
+ * constructors (the latter for mixins), as discovered from the class (prior to introspection).
+ * <p>
+ * Specifications that (transitively) depend on each other form a group, that is introspected sequentially
+ * (in original order). Groups are arranged in waves, each wave only depending on groups of former waves;
+ * groups of the same wave can be introspected in parallel.
+ */
+@UtilityClass
+final class _IntrospectionScheduler {
+
+    /**
+     * Waves of groups of specifications, as described above.
+     */
+    List<List<List<ObjectSpecification>>> plan(
+            final Can<ObjectSpecification> specs,
+            final IntrospectionState upTo) {
+
+        val specByType = new HashMap<Class<?>, ObjectSpecification>();
+        specs.forEach(spec->specByType.put(spec.getCorrespondingClass(), spec));
+
+        val includeMemberTypes = upTo == IntrospectionState.FULLY_INTROSPECTED;
+
+        return schedule(specs.toList(), spec->{
+            val dependencies = new ArrayList<ObjectSpecification>();
+            for(val type : dependencyTypesOf(spec.getCorrespondingClass(), includeMemberTypes)) {
+                val dependency = specByType.get(type);
+                if(dependency!=null
+                        && dependency!=spec) {
+                    dependencies.add(dependency);
+                }
+            }
+            return dependencies;
+        });
+    }
+
+    /**
+     * Groups strongly connected nodes (Tarjan), then arranges the groups in waves (longest path layering).
+     * Both groups and waves preserve the original node order.
+     */
+    <T> List<List<List<T>>> schedule(
+            final List<T> nodes,
+            final Function<T, Collection<T>> dependenciesOf) {
+
+        val nodeCount = nodes.size();
+        val indexOf = new HashMap<T, Integer>();
+        for (int i = 0; i < nodeCount; i++) {
+            indexOf.put(nodes.get(i), i);
+        }
+        val edges = new int[nodeCount][];
+        for (int i = 0; i < nodeCount; i++) {
+            edges[i] = dependenciesOf.apply(nodes.get(i)).stream()
+                    .map(indexOf::get)
+                    .filter(index->index!=null)
+                    .mapToInt(Integer::intValue)
+                    .distinct()
+                    .toArray();
+        }
+
+        val groupOf = stronglyConnectedComponents(edges);
+        val groupCount = Arrays.stream(groupOf).max().orElse(-1) + 1;
+
+        // Tarjan emits groups in reverse topological order, that is, dependencies first
+        val waveOfGroup = new int[groupCount];
+        val membersOfGroup = new ArrayList<List<Integer>>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            membersOfGroup.add(new ArrayList<>());
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            membersOfGroup.get(groupOf[i]).add(i);
+        }
+        int waveCount = 0;
+        for (int g = 0; g < groupCount; g++) {
+            int wave = 0;
+            for(val member : membersOfGroup.get(g)) {
+                for(val dependency : edges[member]) {
+                    val dependencyGroup = groupOf[dependency];
+                    if(dependencyGroup!=g) {
+                        wave = Math.max(wave, waveOfGroup[dependencyGroup] + 1);
+                    }
+                }
+            }
+            waveOfGroup[g] = wave;
+            waveCount = Math.max(waveCount, wave + 1);
+        }
+
+        // assemble, preserving original node order within waves and groups
+        val waves = new ArrayList<List<List<T>>>(waveCount);
+        for (int w = 0; w < waveCount; w++) {
+            waves.add(new ArrayList<>());
+        }
+        val groupsSeen = new HashMap<Integer, List<T>>();
+        for (int i = 0; i < nodeCount; i++) {
+            val g = groupOf[i];
+            groupsSeen.computeIfAbsent(g, __->{
+                    val group = new ArrayList<T>();
+                    waves.get(waveOfGroup[g]).add(group);
+                    return group;
+                })
+                .add(nodes.get(i));
+        }
+        return waves;
+    }
+
+    // -- HELPER
+
+    private Set<Class<?>> dependencyTypesOf(final Class<?> type, final boolean includeMemberTypes) {
+        val dependencyTypes = new LinkedHashSet<Class<?>>();
+        collectSupertypes(type, dependencyTypes);
+        if(includeMemberTypes) {
+            try {
+                for(Method method : type.getDeclaredMethods()) {
+                    if(method.isSynthetic()) {
+                        continue;
+                    }
+                    collectTypes(method.getGenericReturnType(), dependencyTypes);
+                    collectParameterTypes(method, dependencyTypes);
+                }
+                for(val constructor : type.getDeclaredConstructors()) {
+                    collectParameterTypes(constructor, dependencyTypes);
+                }
+            } catch (LinkageError | TypeNotPresentException | MalformedParameterizedTypeException e) {
+                // ignore, introspection will report on this
+            }
+        }
+        return dependencyTypes;
+    }
+
+    private void collectSupertypes(final Class<?> type, final Set<Class<?>> supertypes) {
+        val superclass = type.getSuperclass();
+        if(superclass!=null
+                && supertypes.add(superclass)) {
+            collectSupertypes(superclass, supertypes);
+        }
+        for(val superinterface : type.getInterfaces()) {
+            if(supertypes.add(superinterface)) {
+                collectSupertypes(superinterface, supertypes);
+            }
+        }
+    }
+
+    private void collectParameterTypes(final Executable executable, final Set<Class<?>> types) {
+        for(val parameterType : executable.getGenericParameterTypes()) {
+            collectTypes(parameterType, types);
+        }
+    }
+
+    /**
+     * Collects given type, as well as its element types, that is, array component types
+     * and (recursively) type arguments, including wildcard bounds.
+     */
+    private void collectTypes(final Type genericType, final Set<Class<?>> types) {
+        if(genericType instanceof Class) {
+            Class<?> type = (Class<?>) genericType;
+            while(type.isArray()) {
+                type = type.getComponentType();
+            }
+            if(!type.isPrimitive()) {
+                types.add(type);
+            }
+        } else if(genericType instanceof ParameterizedType) {
+            val parameterizedType = (ParameterizedType) genericType;
+            collectTypes(parameterizedType.getRawType(), types);
+            for(val typeArgument : parameterizedType.getActualTypeArguments()) {
+                collectTypes(typeArgument, types);
+            }
+        } else if(genericType instanceof GenericArrayType) {
+            collectTypes(((GenericArrayType) genericType).getGenericComponentType(), types);
+        } else if(genericType instanceof WildcardType) {
+            val wildcardType = (WildcardType) genericType;
+            for(val bound : wildcardType.getUpperBounds()) {
+                collectTypes(bound, types);
+            }
+            for(val bound : wildcardType.getLowerBounds()) {
+                collectTypes(bound, types);
+            }
+        }
+        // type variables are not followed
+    }
+
+    /**
+     * Iterative Tarjan, to not depend on stack depth for large models.
+     * @return group index per node
+     */
+    private int[] stronglyConnectedComponents(final int[][] edges) {
+        val nodeCount = edges.length;
+        val index = new int[nodeCount];
+        val lowLink = new int[nodeCount];
+        val onStack = new boolean[nodeCount];
+        val groupOf = new int[nodeCount];
+        Arrays.fill(index, -1);
+
+        final Deque<Integer> stack = new ArrayDeque<>();
+        final Deque<int[]> callStack = new ArrayDeque<>(); // {node, next edge}
+        int nextIndex = 0;
+        int nextGroup = 0;
+
+        for (int root = 0; root < nodeCount; root++) {
+            if(index[root]!=-1) {
+                continue;
+            }
+            callStack.push(new int[] {root, 0});
+            while(!callStack.isEmpty()) {
+                val frame = callStack.peek();
+                val node = frame[0];
+                if(frame[1]==0
+                        && index[node]==-1) {
+                    index[node] = lowLink[node] = nextIndex++;
+                    stack.push(node);
+                    onStack[node] = true;
+                }
+                if(frame[1] < edges[node].length) {
+                    val dependency = edges[node][frame[1]++];
+                    if(index[dependency]==-1) {
+                        callStack.push(new int[] {dependency, 0});
+                    } else if(onStack[dependency]) {
+                        lowLink[node] = Math.min(lowLink[node], index[dependency]);
+                    }
+                    continue;
+                }
+                // all edges visited
+                callStack.pop();
+                if(!callStack.isEmpty()) {
+                    val parent = callStack.peek()[0];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if(lowLink[node]==index[node]) {
+                    int member;
+                    do {
+                        member = stack.pop();
+                        onStack[member] = false;
+                        groupOf[member] = nextGroup;
+                    } while(member!=node);
+                    nextGroup++;
+                }
+            }
+        }
+        return groupOf;
+    }
+
+}
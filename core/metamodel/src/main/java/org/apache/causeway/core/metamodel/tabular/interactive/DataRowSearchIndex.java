@@ -0,0 +1,167 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.interactive;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * In-memory inverted index over the searchable text of a table's data rows,
+ * in support of quick-search filtering.
+ * <p>
+ * Rows are addressed by their position within the table,
+ * search results are represented as {@link BitSet}s of row indices.
+ * A search term matches a row, if it is the prefix of any of the row's tokens;
+ * multiple search terms are AND-ed.
+ * <p>
+ * The result of the most recent search is memoized. When the search text gets
+ * refined (eg. while the user is typing), only the previous hits are considered.
+ */
+final class DataRowSearchIndex {
+
+    /**
+     * Up to this number of candidate rows, rows are matched directly against their tokens,
+     * rather than by intersecting with the term's posting list.
+     */
+    static final int DIRECT_MATCH_THRESHOLD = 256;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Getter private final int rowCount;
+    private final String[][] tokensByRow;
+    private final NavigableMap<String, BitSet> rowsByToken = new TreeMap<>();
+
+    // memoized most recent search
+    private Can<String> lastTerms = Can.empty();
+    private BitSet lastHits;
+
+    DataRowSearchIndex(final @NonNull List<String> searchableTextByRow) {
+        this.rowCount = searchableTextByRow.size();
+        this.tokensByRow = new String[rowCount][];
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            val tokens = tokenize(searchableTextByRow.get(rowIndex));
+            tokensByRow[rowIndex] = tokens.toArray(new String[0]);
+            for(val token : tokens) {
+                rowsByToken.computeIfAbsent(token, __->new BitSet(rowCount)).set(rowIndex);
+            }
+        }
+        this.lastHits = allRows();
+    }
+
+    /**
+     * Returns the indices of all rows matching given search argument,
+     * or all rows, if the search argument is empty.
+     */
+    synchronized BitSet search(final @Nullable String searchArgument) {
+        val terms = tokenize(searchArgument);
+        if(terms.isEmpty()) {
+            return allRows();
+        }
+
+        val hits = isRefinementOf(terms, lastTerms)
+                ? (BitSet) lastHits.clone()
+                : allRows();
+
+        for(val term : terms) {
+            if(hits.isEmpty()) {
+                break;
+            }
+            if(hits.cardinality() <= DIRECT_MATCH_THRESHOLD) {
+                for (int rowIndex = hits.nextSetBit(0); rowIndex >= 0; rowIndex = hits.nextSetBit(rowIndex + 1)) {
+                    if(!anyStartsWith(tokensByRow[rowIndex], term)) {
+                        hits.clear(rowIndex);
+                    }
+                }
+            } else {
+                hits.and(postingsFor(term));
+            }
+        }
+
+        this.lastTerms = terms;
+        this.lastHits = hits;
+        return (BitSet) hits.clone();
+    }
+
+    // -- HELPER
+
+    private BitSet allRows() {
+        val allRows = new BitSet(rowCount);
+        allRows.set(0, rowCount);
+        return allRows;
+    }
+
+    /**
+     * Union of the posting lists of all tokens, that given term is a prefix of.
+     */
+    private BitSet postingsFor(final String term) {
+        val postings = new BitSet(rowCount);
+        rowsByToken.subMap(term, true, term + Character.MAX_VALUE, false)
+            .values()
+            .forEach(postings::or);
+        return postings;
+    }
+
+    /**
+     * Whether every previous term is the prefix of some current term,
+     * in which case the current hits are a subset of the previous hits.
+     */
+    static boolean isRefinementOf(final Can<String> terms, final Can<String> previousTerms) {
+        return previousTerms.isNotEmpty()
+                && previousTerms.stream()
+                    .allMatch(previousTerm->terms.stream().anyMatch(term->term.startsWith(previousTerm)));
+    }
+
+    private static boolean anyStartsWith(final String[] tokens, final String term) {
+        // tokens are sorted, so the first candidate is found by binary search
+        int index = Arrays.binarySearch(tokens, term);
+        if(index < 0) {
+            index = -index - 1;
+        }
+        return index < tokens.length
+                && tokens[index].startsWith(term);
+    }
+
+    /**
+     * Splits given text into distinct, sorted, lower-case tokens.
+     */
+    static Can<String> tokenize(final @Nullable String text) {
+        if(_Strings.isNullOrEmpty(text)) {
+            return Can.empty();
+        }
+        return Can.ofStream(TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token->!token.isEmpty())
+                .distinct()
+                .sorted());
+    }
+
+}
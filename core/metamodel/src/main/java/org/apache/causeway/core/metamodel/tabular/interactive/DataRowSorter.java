@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.interactive;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Stable sort of a table's data rows by a sort key, in support of paging through sorted tables.
+ * <p>
+ * Each row's sort key is read once per sort, rather than twice per comparison.
+ * The most recent sort is memoized, keyed by the rows (identity), the sort key and the direction.
+ * As the sort keys may have changed since (eg. a row's property got edited), a memoized sort is only reused
+ * if it still is the stable sort of the current keys, which is verified reading each key once more,
+ * in linear time. Otherwise rows are sorted anew.
+ *
+ * @param <T> row type
+ * @param <K> sort key type
+ */
+@RequiredArgsConstructor
+final class DataRowSorter<T, K> {
+
+    private final @NonNull Comparator<K> naturalOrder;
+
+    private volatile Memo<T> memo;
+
+    Can<T> sort(
+            final @NonNull Can<T> rows,
+            final @NonNull String sortKeyId,
+            final boolean ascending,
+            final @NonNull Function<T, K> sortKeyFunction) {
+        if(rows.size()<2) {
+            return rows;
+        }
+        val keyOrder = ascending
+                ? naturalOrder
+                : naturalOrder.reversed();
+
+        val memo = this.memo;
+        if(memo!=null
+                && memo.isFor(rows, sortKeyId, ascending)
+                && memo.isStableSortOf(sortKeyFunction, keyOrder)) {
+            return memo.sortedRows;
+        }
+
+        val keys = new ArrayList<K>(rows.size());
+        rows.forEach(row->keys.add(sortKeyFunction.apply(row)));
+        // sorting an ordered stream is stable
+        val sortedIndices = IntStream.range(0, rows.size())
+                .boxed()
+                .sorted((i, j)->keyOrder.compare(keys.get(i), keys.get(j)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        val sortedRows = rows.pickByIndex(sortedIndices);
+        this.memo = new Memo<>(rows, sortKeyId, ascending, sortedIndices, sortedRows);
+        return sortedRows;
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static final class Memo<T> {
+        private final Can<T> rows;
+        private final String sortKeyId;
+        private final boolean ascending;
+        private final int[] sortedIndices;
+        private final Can<T> sortedRows;
+
+        boolean isFor(final Can<T> rows, final String sortKeyId, final boolean ascending) {
+            return this.rows == rows // identity, as filtered rows are re-computed on invalidation
+                    && this.ascending == ascending
+                    && this.sortKeyId.equals(sortKeyId);
+        }
+
+        /**
+         * Whether (with respect to the current sort keys) the memoized order is ascending,
+         * and equal keys retain the rows' original order.
+         */
+        <K> boolean isStableSortOf(final Function<T, K> sortKeyFunction, final Comparator<K> keyOrder) {
+            int previousIndex = sortedIndices[0];
+            K previousKey = sortKeyFunction.apply(rows.getElseFail(previousIndex));
+            for (int i = 1; i < sortedIndices.length; i++) {
+                val index = sortedIndices[i];
+                val key = sortKeyFunction.apply(rows.getElseFail(index));
+                val comparison = keyOrder.compare(previousKey, key);
+                if(comparison > 0
+                        || (comparison == 0 && previousIndex > index)) {
+                    return false;
+                }
+                previousIndex = index;
+                previousKey = key;
+            }
+            return true;
+        }
+    }
+
+}
@@ -24,6 +24,7 @@
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -31,6 +32,8 @@
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -52,9 +55,12 @@
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.causeway.core.metamodel.interactions.managed.MultiselectChoices;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
 import lombok.AccessLevel;
@@ -107,6 +113,9 @@ public static DataTableInteractive forAction(
 
     @Getter private final @NonNull LazyObservable<Can<ManagedObject>> dataElements;
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
+    private final @NonNull _Lazy<Can<DataRow>> dataRowsUnfiltered;
+    private final @NonNull _Lazy<DataRowSearchIndex> searchIndex;
+    private final @NonNull _Lazy<Map<UUID, DataRow>> dataRowByUuid;
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsFiltered;
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsSelected;
     @Getter private final _BindableAbstract<Boolean> selectAllToggle;
@@ -129,15 +138,35 @@ private DataTableInteractive(
 
         searchArgument = _Bindables.forValue(null);
 
-        dataRowsFiltered = _Observables.lazy(()->
+        // data rows are created only once, such that filtering preserves row identity (and selection)
+        dataRowsUnfiltered = _Lazy.threadSafe(()->
             dataElements.getValue().stream()
-                //XXX future extension: filter by searchArgument
                 .filter(this::ignoreHidden)
                 .sorted(managedMember.getMetaModel().getElementComparator()
                         .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
                 .map(domainObject->new DataRow(this, domainObject))
                 .collect(Can.toCan()));
 
+        // built on first use only, that is, when a search argument is first set
+        searchIndex = _Lazy.threadSafe(()->
+            new DataRowSearchIndex(dataRowsUnfiltered.get().stream()
+                .map(this::searchableTextOf)
+                .collect(Collectors.toList())));
+
+        dataRowByUuid = _Lazy.threadSafe(()->{
+            val byUuid = _Maps.<UUID, DataRow>newHashMap();
+            dataRowsUnfiltered.get().forEach(dataRow->byUuid.put(dataRow.getUuid(), dataRow));
+            return byUuid;
+        });
+
+        dataRowsFiltered = _Observables.lazy(()->{
+            val dataRows = dataRowsUnfiltered.get();
+            val searchArg = searchArgument.getValue();
+            return _Strings.isNullOrEmpty(searchArg)
+                    ? dataRows
+                    : dataRows.pickByIndex(searchIndex.get().search(searchArg).stream());
+        });
+
         dataRowsSelected = _Observables.lazy(()->
             dataRowsFiltered.getValue().stream()
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
@@ -199,12 +228,50 @@ public ObjectSpecification getElementType() {
         return getMetaModel().getElementType();
     }
 
-    private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
+    /**
+     * Lookup by {@link DataRow#getUuid()}, regardless of the current {@link #getSearchArgument()},
+     * as data rows are not re-created when the filter changes.
+     */
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
-        // lookup can be safely cached
-        return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
-                .filter(dr->dr.getUuid().equals(uuid))
-                .findFirst());
+        return Optional.ofNullable(dataRowByUuid.get().get(uuid));
+    }
+
+    // -- SORTING
+
+    private final DataRowSorter<DataRow, ManagedObject> dataRowSorter = new DataRowSorter<>(ManagedObjects::compare);
+
+    /**
+     * Filtered data rows, sorted by given property (if any).
+     * <p>
+     * The sort is memoized, such that paging through a sorted table does not re-sort all rows
+     * on every page flip, see {@link DataRowSorter}.
+     */
+    public Can<DataRow> getDataRowsFilteredAndSorted(
+            final @Nullable OneToOneAssociation sortProperty,
+            final boolean ascending) {
+        val dataRows = dataRowsFiltered.getValue();
+        return sortProperty!=null
+                ? dataRowSorter.sort(dataRows, sortProperty.getId(), ascending,
+                        dataRow->sortProperty.get(dataRow.getRowElement(), InteractionInitiatedBy.FRAMEWORK))
+                : dataRows;
+    }
+
+    // -- SEARCH
+
+    /**
+     * Row title and the titles of all (visible) property columns.
+     */
+    private String searchableTextOf(final DataRow dataRow) {
+        val rowElement = dataRow.getRowElement();
+        val searchableText = new StringBuilder(rowElement.getTitle());
+        getDataColumns().getValue().stream()
+            .map(DataColumn::getAssociationMetaModel)
+            .filter(ObjectAssociation::isOneToOneAssociation)
+            .filter(assoc->assoc.isVisible(rowElement, InteractionInitiatedBy.USER, Where.ALL_TABLES).isAllowed())
+            .map(assoc->assoc.get(rowElement, InteractionInitiatedBy.FRAMEWORK))
+            .filter(cellValue->!ManagedObjects.isNullOrUnspecifiedOrEmpty(cellValue))
+            .forEach(cellValue->searchableText.append(' ').append(cellValue.getTitle()));
+        return searchableText.toString();
     }
 
     // -- TOGGLE ALL
@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+/**
+ * Compares {@link MethodInvoker} (pre-linked {@link java.lang.invoke.MethodHandle}s)
+ * with reflective invocation, as formerly used by {@link CanonicalInvoker},
+ * for a property getter (no args) and an action (2 args, one primitive).
+ * <p>
+ * Not a test, hence not picked up by surefire. Run via {@link #main(String[])}
+ * from the IDE (test class-path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvokerBenchmark {
+
+    public static class Customer {
+        private String name = "Jane";
+        private int visits;
+        @SuppressWarnings("unused")
+        private String getName() { return name; }
+        public int addVisits(final int increment, final String reason) { return visits += increment; }
+    }
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private Customer customer;
+    private Method getter;
+    private Method action;
+    private Object[] actionArgs;
+
+    @Setup
+    public void setup() throws Exception {
+        customer = new Customer();
+        getter = Customer.class.getDeclaredMethod("getName");
+        action = Customer.class.getDeclaredMethod("addVisits", int.class, String.class);
+        actionArgs = new Object[] {1, "benchmark"};
+    }
+
+    @Benchmark
+    public Object getterReflective() {
+        return _Reflect.invokeMethodOn(getter, customer, NO_ARGS).valueAsNullableElseFail();
+    }
+
+    @Benchmark
+    public Object getterMethodHandle() {
+        return MethodInvoker.forMethod(getter).invoke(customer, NO_ARGS).valueAsNullableElseFail();
+    }
+
+    @Benchmark
+    public Object actionReflective() {
+        return _Reflect.invokeMethodOn(action, customer, actionArgs).valueAsNullableElseFail();
+    }
+
+    @Benchmark
+    public Object actionMethodHandle() {
+        return MethodInvoker.forMethod(action).invoke(customer, actionArgs).valueAsNullableElseFail();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MethodInvokerBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+}
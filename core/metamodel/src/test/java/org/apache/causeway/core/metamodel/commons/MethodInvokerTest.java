@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.functional.Try;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class MethodInvokerTest {
+
+    @SuppressWarnings("unused")
+    static class Customer {
+        private String name = "Jane";
+        private int visits;
+        public String getName() { return name; }
+        private void setName(final String name) { this.name = name; }
+        int addVisits(final int increment, final long unused) { return visits += increment; }
+        public static String greet(final String name) { return "Hello " + name; }
+        public String fail() { throw new IllegalStateException("boom"); }
+    }
+
+    private final Customer customer = new Customer();
+
+    @Test
+    void getter() {
+        assertEquals("Jane", invoke("getName").getValue().orElse(null));
+    }
+
+    @Test
+    void privateSetter_returnsNull() {
+        val result = invoke("setName", "John");
+        assertTrue(result.isSuccess());
+        assertNull(result.getValue().orElse(null));
+        assertEquals("John", customer.getName());
+    }
+
+    @Test
+    void primitiveParams_areUnboxed() {
+        assertEquals(2, invoke("addVisits", 2, 0L).getValue().orElse(null));
+        assertEquals(5, invoke("addVisits", 3, 0L).getValue().orElse(null));
+    }
+
+    @Test
+    void staticMethod_ignoresTarget() {
+        assertEquals("Hello Jane", invoke("greet", "Jane").getValue().orElse(null));
+    }
+
+    @Test
+    void sameMethod_isLinkedOnce() {
+        val method = method("getName");
+        assertSame(MethodInvoker.forMethod(method), MethodInvoker.forMethod(method));
+    }
+
+    @Test
+    void exceptionThrownByMethod_isWrapped() {
+        val failure = invoke("fail").getFailure().orElseThrow();
+        assertTrue(failure instanceof InvocationTargetException);
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void argumentMismatch_isIllegalArgument() {
+        // null for primitive
+        assertTrue(invoke("addVisits", null, 0L).getFailure().orElseThrow() instanceof IllegalArgumentException);
+        // wrong type
+        assertTrue(invoke("setName", 42).getFailure().orElseThrow() instanceof IllegalArgumentException);
+        // wrong count
+        assertTrue(invoke("setName").getFailure().orElseThrow() instanceof IllegalArgumentException);
+    }
+
+    // -- HELPER
+
+    private Try<Object> invoke(final String methodName, final Object... args) {
+        return MethodInvoker.forMethod(method(methodName)).invoke(customer, args);
+    }
+
+    @SneakyThrows
+    private static Method method(final String methodName) {
+        for(val method : Customer.class.getDeclaredMethods()) {
+            if(method.getName().equals(methodName)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+}
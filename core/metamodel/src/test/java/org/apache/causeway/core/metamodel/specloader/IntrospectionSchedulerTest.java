@@ -0,0 +1,93 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntrospectionSchedulerTest {
+
+    @Test
+    void independentNodes_formSingleWave() {
+        assertEquals(
+                List.of(List.of(List.of("a"), List.of("b"), List.of("c"))),
+                schedule(List.of("a", "b", "c"), Map.of()));
+    }
+
+    @Test
+    void dependencies_comeInEarlierWaves() {
+        // c extends b extends a; d independent
+        assertEquals(
+                List.of(
+                    List.of(List.of("a"), List.of("d")),
+                    List.of(List.of("b")),
+                    List.of(List.of("c"))),
+                schedule(List.of("c", "b", "a", "d"), Map.of(
+                        "c", List.of("b", "a"),
+                        "b", List.of("a"))));
+    }
+
+    @Test
+    void cycles_areGroupedAndKeepOriginalOrder() {
+        // order <-> customer (bidirectional), both depend on address; product independent
+        assertEquals(
+                List.of(
+                    List.of(List.of("address"), List.of("product")),
+                    List.of(List.of("order", "customer"))),
+                schedule(List.of("order", "address", "customer", "product"), Map.of(
+                        "order", List.of("customer", "address"),
+                        "customer", List.of("order", "address"))));
+    }
+
+    @Test
+    void unknownDependencies_areIgnored() {
+        assertEquals(
+                List.of(List.of(List.of("a"))),
+                schedule(List.of("a"), Map.of("a", List.of("java.lang.Object"))));
+    }
+
+    @Test
+    void longChain_doesNotOverflowStack() {
+        final int length = 50_000;
+        final List<Integer> nodes = IntStream.range(0, length).boxed().collect(Collectors.toList());
+        // each node depends on its successor
+        final List<List<List<Integer>>> waves = _IntrospectionScheduler.<Integer>schedule(nodes, node->
+            node < length - 1
+                ? List.of(node + 1)
+                : List.of());
+        assertEquals(length, waves.size());
+        assertEquals(List.of(List.of(length - 1)), waves.get(0));
+        assertEquals(List.of(List.of(0)), waves.get(length - 1));
+    }
+
+    // -- HELPER
+
+    private static List<List<List<String>>> schedule(
+            final List<String> nodes,
+            final Map<String, List<String>> dependencies) {
+        return _IntrospectionScheduler.<String>schedule(nodes, node->dependencies.getOrDefault(node, List.of()));
+    }
+
+}
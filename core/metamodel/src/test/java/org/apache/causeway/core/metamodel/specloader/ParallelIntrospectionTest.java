@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.Action;
+import org.apache.causeway.applib.annotation.Collection;
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.MemberSupport;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
+import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistryDefault;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.val;
+
+/**
+ * Introspects the same types sequentially and in parallel, expecting the same metamodel.
+ */
+class ParallelIntrospectionTest {
+
+    // -- DOMAIN
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public abstract static class Party {
+        @Property @Getter @Setter private String name;
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Customer extends Party {
+        @Collection @Getter private final List<Order> orders = List.of();
+        @Action public Order placeOrder(final Product product, final int quantity) { return null; }
+        @Action public Customer merge(final Set<? extends Customer> others) { return this; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Order {
+        @Property @Getter @Setter private Customer customer;
+        @Action public Order addLines(final Product[] products) { return this; }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Product {
+        @Property @Getter @Setter private String code;
+    }
+
+    @Action
+    @RequiredArgsConstructor
+    public static class Customer_reorder {
+        private final Customer mixee;
+        @MemberSupport public Order act(final Order order, final Map<String, Product> substitutes) { return order; }
+    }
+
+    // -- TEST
+
+    @Test
+    void parallel_introspection_yields_same_facets_as_sequential() {
+        val sequential = facetsPerSpec(false);
+        val parallel = facetsPerSpec(true);
+
+        assertTrue(sequential.containsKey(Customer.class.getName()));
+        assertEquals(sequential.keySet(), parallel.keySet());
+        sequential.forEach((specId, facets)->
+            assertEquals(facets, parallel.get(specId), ()->"facets differ for " + specId));
+    }
+
+    // -- HELPER
+
+    /**
+     * @return facet types per spec (including its members and action parameters),
+     * after creating the metamodel
+     */
+    private static Map<String, List<String>> facetsPerSpec(final boolean parallelize) {
+        val mmc = MetaModelContext_forTesting.builder()
+                .causewayBeanTypeRegistry(new CausewayBeanTypeRegistryDefault(Can.of(
+                        CausewayBeanMetaData.causewayManaged(BeanSort.VIEW_MODEL, Customer.class),
+                        CausewayBeanMetaData.causewayManaged(BeanSort.VIEW_MODEL, Order.class),
+                        CausewayBeanMetaData.causewayManaged(BeanSort.VIEW_MODEL, Product.class),
+                        CausewayBeanMetaData.causewayManaged(BeanSort.MIXIN, Customer_reorder.class))))
+                .build();
+        mmc.getConfiguration().getCore().getMetaModel().getIntrospector().setParallelize(parallelize);
+
+        val specificationLoader = mmc.getSpecificationLoader();
+        try {
+            specificationLoader.createMetaModel();
+            return specificationLoader.snapshotSpecifications().stream()
+                    .collect(Collectors.toMap(
+                            ObjectSpecification::getFullIdentifier,
+                            ParallelIntrospectionTest::facetsOf,
+                            (a, b)->a,
+                            TreeMap::new));
+        } finally {
+            specificationLoader.disposeMetaModel();
+        }
+    }
+
+    private static List<String> facetsOf(final ObjectSpecification spec) {
+        val facetHolders = Stream.<FacetHolder>concat(
+                Stream.<FacetHolder>concat(
+                        Stream.of(spec),
+                        spec.streamAssociations(MixedIn.INCLUDED)),
+                spec.streamAnyActions(MixedIn.INCLUDED)
+                    .flatMap(action->Stream.<FacetHolder>concat(
+                            Stream.of(action),
+                            action.streamParameters())));
+        return facetHolders
+                .flatMap(ParallelIntrospectionTest::facetTypesOf)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static Stream<String> facetTypesOf(final FacetHolder facetHolder) {
+        return facetHolder.streamFacets()
+                .map(facet->facetHolder.getFeatureIdentifier() + ": " + facet.getClass().getName());
+    }
+
+}
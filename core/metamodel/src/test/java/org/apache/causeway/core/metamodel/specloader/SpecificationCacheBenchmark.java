@@ -0,0 +1,144 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Compares {@link SpecificationCacheDefault#lookup(Class)} with the former
+ * {@code synchronized} lookup, at 1, 8 and 64 threads.
+ * <p>
+ * Not a test, hence not picked up by surefire. Run via {@link #main(String[])}
+ * from the IDE (test class-path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationCacheBenchmark {
+
+    private static final Class<?>[] TYPES = {
+            String.class, Integer.class, Long.class, Short.class, Byte.class,
+            Double.class, Float.class, Boolean.class, Character.class,
+            java.math.BigInteger.class, java.math.BigDecimal.class,
+            java.util.UUID.class, java.util.Locale.class, java.net.URL.class,
+            java.time.LocalDate.class, java.time.LocalTime.class, java.time.LocalDateTime.class,
+            java.time.OffsetDateTime.class, java.time.ZonedDateTime.class, java.time.Instant.class,
+            java.util.Date.class, java.sql.Date.class, java.sql.Timestamp.class,
+            java.util.List.class, java.util.Set.class, java.util.Map.class,
+            Object.class, Number.class, Enum.class, Void.class, Thread.class, Runnable.class};
+
+    private SpecificationCache<ObjectSpecification> lockFree;
+    private SpecificationCache<ObjectSpecification> synchronizedBaseline;
+
+    @Setup
+    public void setup() {
+        lockFree = new SpecificationCacheDefault<>();
+        synchronizedBaseline = new SynchronizedSpecificationCache<>();
+        for(Class<?> type : TYPES) {
+            final ObjectSpecification spec = mockSpec(type);
+            lockFree.computeIfAbsent(type, __->spec);
+            synchronizedBaseline.computeIfAbsent(type, __->spec);
+        }
+    }
+
+    @Benchmark
+    public Optional<ObjectSpecification> lookupLockFree() {
+        return lockFree.lookup(randomType());
+    }
+
+    @Benchmark
+    public Optional<ObjectSpecification> lookupSynchronized() {
+        return synchronizedBaseline.lookup(randomType());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        for(int threads : new int[] {1, 8, 64}) {
+            new Runner(new OptionsBuilder()
+                    .include(SpecificationCacheBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+            .run();
+        }
+    }
+
+    // -- HELPER
+
+    private static Class<?> randomType() {
+        return TYPES[ThreadLocalRandom.current().nextInt(TYPES.length)];
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ObjectSpecification mockSpec(final Class<?> type) {
+        final ObjectSpecification spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)type);
+        return spec;
+    }
+
+    /**
+     * Baseline: the former implementation, guarding every read with the cache's monitor.
+     */
+    static class SynchronizedSpecificationCache<T extends ObjectSpecification>
+    extends SpecificationCacheDefault<T> {
+
+        private final Map<Class<?>, T> specByClass = new HashMap<>();
+
+        @Override
+        public Optional<T> lookup(final Class<?> cls) {
+            synchronized(this) {
+                return Optional.ofNullable(specByClass.get(cls));
+            }
+        }
+
+        @Override
+        public T computeIfAbsent(
+                final Class<?> cls,
+                final Function<Class<?>, T> mappingFunction) {
+            synchronized(this) {
+                return specByClass.computeIfAbsent(cls, mappingFunction);
+            }
+        }
+
+    }
+
+}
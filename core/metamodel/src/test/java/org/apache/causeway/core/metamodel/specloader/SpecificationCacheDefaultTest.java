@@ -95,6 +95,23 @@ public void allSpecs_whenCached() {
         assertThat(allSpecs.size(), is(2));
     }
 
+    @Test
+    public void computeIfAbsent_whenMappingFunctionIsReentrant() {
+        val spec = specificationCache.computeIfAbsent(Customer.class, __->{
+            specificationCache.computeIfAbsent(Order.class, ___->orderSpec);
+            return customerSpec;
+        });
+
+        assertSame(spec, customerSpec);
+        assertSame(orderSpec, specificationCache.lookup(Order.class).orElse(null));
+        assertThat(specificationCache.snapshotSpecs().size(), is(2));
+    }
+
+    @Test
+    public void lookup_whenNull() {
+        assertFalse(specificationCache.lookup(null).isPresent());
+    }
+
     @Test
     public void getByObjectType_whenNotSet() {
         val type = logicalTypeResolver.lookup(cus.getLogicalTypeName());
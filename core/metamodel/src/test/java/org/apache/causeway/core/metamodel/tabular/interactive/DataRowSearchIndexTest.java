@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.interactive;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.val;
+
+class DataRowSearchIndexTest {
+
+    private final DataRowSearchIndex index = new DataRowSearchIndex(List.of(
+            "Jane Doe jane.doe@example.com London",   // 0
+            "John Doe john@example.com Paris",        // 1
+            "Joanna Smith joanna@example.org London", // 2
+            "Mike Miller 42 Berlin"));                // 3
+
+    @Test
+    void emptySearch_matchesAllRows() {
+        assertEquals(List.of(0, 1, 2, 3), rowIndices(index.search(null)));
+        assertEquals(List.of(0, 1, 2, 3), rowIndices(index.search("  ")));
+    }
+
+    @Test
+    void termsMatchTokenPrefixes_caseInsensitive() {
+        assertEquals(List.of(1, 2), rowIndices(index.search("jo")));
+        assertEquals(List.of(0, 2), rowIndices(index.search("LONDON")));
+        assertEquals(List.of(3), rowIndices(index.search("4")));
+        assertEquals(List.of(), rowIndices(index.search("ondon")));
+    }
+
+    @Test
+    void multipleTerms_areAnded() {
+        assertEquals(List.of(0), rowIndices(index.search("doe lon")));
+        assertEquals(List.of(2), rowIndices(index.search("london, jo")));
+        assertEquals(List.of(), rowIndices(index.search("doe berlin")));
+    }
+
+    @Test
+    void refinedSearch_yieldsSameResultAsFreshSearch() {
+        // simulate typing
+        assertEquals(List.of(0, 1, 2), rowIndices(index.search("j")));
+        assertEquals(List.of(1, 2), rowIndices(index.search("jo")));
+        assertEquals(List.of(1), rowIndices(index.search("joh")));
+        // broadening (backspace) must not be restricted by the previous hits
+        assertEquals(List.of(1, 2), rowIndices(index.search("jo")));
+        assertEquals(List.of(0, 1, 2), rowIndices(index.search("j")));
+        assertEquals(List.of(1), rowIndices(index.search("jo doe")));
+    }
+
+    @Test
+    void largeIndex_usesPostingLists() {
+        val rowCount = 10 * DataRowSearchIndex.DIRECT_MATCH_THRESHOLD;
+        val largeIndex = new DataRowSearchIndex(IntStream.range(0, rowCount)
+                .mapToObj(i->"row" + i + (i % 2 == 0 ? " even" : " odd"))
+                .collect(Collectors.toList()));
+        assertEquals(rowCount / 2, largeIndex.search("even").cardinality());
+        assertEquals(
+                IntStream.range(0, rowCount)
+                    .filter(i->i % 2 == 1 && ("row" + i).startsWith("row7"))
+                    .boxed()
+                    .collect(Collectors.toList()),
+                rowIndices(largeIndex.search("row7 odd")));
+    }
+
+    @Test
+    void refinement() {
+        assertTrue(DataRowSearchIndex.isRefinementOf(Can.of("joh"), Can.of("jo")));
+        assertTrue(DataRowSearchIndex.isRefinementOf(Can.of("doe", "jo"), Can.of("jo")));
+        assertFalse(DataRowSearchIndex.isRefinementOf(Can.of("jo"), Can.of("joh")));
+        assertFalse(DataRowSearchIndex.isRefinementOf(Can.of("jo"), Can.empty()));
+    }
+
+    // -- HELPER
+
+    private static List<Integer> rowIndices(final BitSet hits) {
+        return hits.stream().boxed().collect(Collectors.toList());
+    }
+
+}
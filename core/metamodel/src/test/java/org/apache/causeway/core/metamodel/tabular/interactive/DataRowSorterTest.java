@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.interactive;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.val;
+
+class DataRowSorterTest {
+
+    private final DataRowSorter<String, Integer> sorter = new DataRowSorter<>(Comparator.<Integer>naturalOrder());
+    private final Can<String> rows = Can.of("a", "b", "c", "d");
+    private final Map<String, Integer> keyByRow = new HashMap<>();
+    private final AtomicInteger keyReads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        keyByRow.putAll(Map.of("a", 3, "b", 1, "c", 2, "d", 1));
+    }
+
+    @Test
+    void sortsStably_inEitherDirection() {
+        assertEquals(List.of("b", "d", "c", "a"), sort(true).toList());
+        assertEquals(List.of("a", "c", "b", "d"), sort(false).toList());
+    }
+
+    @Test
+    void reusesMemoizedSort_readingEachKeyOnce() {
+        val sorted = sort(true);
+        keyReads.set(0);
+
+        assertSame(sorted, sort(true));
+        assertEquals(rows.size(), keyReads.get());
+    }
+
+    @Test
+    void sortsAnew_whenSortKeyOrDirectionOrRowsChange() {
+        val sorted = sort(true);
+
+        assertEquals(List.of("a", "c", "b", "d"), sort(false).toList());
+        assertEquals(sorted.toList(), sorter.sort(rows, "otherKey", true, this::keyOf).toList());
+        assertEquals(List.of("b", "c"), sorter.sort(Can.of("c", "b"), "key", true, this::keyOf).toList());
+    }
+
+    @Test
+    void sortsAnew_whenKeysChange() {
+        sort(true);
+
+        keyByRow.put("a", 0);
+        assertEquals(List.of("a", "b", "d", "c"), sort(true).toList());
+
+        // memoized order still is the stable sort
+        keyByRow.put("b", 0);
+        keyByRow.put("d", 0);
+        assertEquals(List.of("a", "b", "d", "c"), sort(true).toList());
+
+        // memoized order still sorted, but no longer stable
+        keyByRow.put("c", 0);
+        assertEquals(List.of("a", "b", "c", "d"), sort(true).toList());
+    }
+
+    // -- HELPER
+
+    private Can<String> sort(final boolean ascending) {
+        return sorter.sort(rows, "key", ascending, this::keyOf);
+    }
+
+    private Integer keyOf(final String row) {
+        keyReads.incrementAndGet();
+        return keyByRow.get(row);
+    }
+
+}
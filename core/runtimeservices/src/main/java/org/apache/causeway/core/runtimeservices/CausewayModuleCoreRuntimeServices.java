@@ -55,6 +55,7 @@
 import org.apache.causeway.core.runtimeservices.publish.ExecutionPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.LifecycleCallbackNotifier;
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.causeway.core.runtimeservices.publish.SubscriberDispatchService;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.causeway.core.runtimeservices.routing.RoutingServiceDefault;
@@ -114,6 +115,7 @@
         SerializingAdapterDefault.class,
         SitemapServiceDefault.class,
         SpringBeansService.class,
+        SubscriberDispatchService.class,
         TransactionServiceSpring.class,
         TranslationServicePo.class,
         UrlEncodingServiceWithCompression.class,
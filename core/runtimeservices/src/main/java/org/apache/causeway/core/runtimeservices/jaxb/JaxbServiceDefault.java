@@ -65,7 +65,7 @@ protected JAXBContext jaxbContextForList(@NonNull final DomainObjectList domainO
                 .orElse(null);
         if (elementType!=null
                 && elementType.getAnnotation(XmlJavaTypeAdapter.class) == null) {
-            return JaxbUtils.jaxbContextFor(DomainObjectList.class, elementType);
+            return JaxbUtils.jaxbContextFor(true, DomainObjectList.class, elementType);
         } else {
             return JaxbUtils.jaxbContextFor(DomainObjectList.class, true);
         }
@@ -63,6 +63,7 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final TransactionService transactionService;
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
+    private final SubscriberDispatchService subscriberDispatchService;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
 
@@ -103,11 +104,11 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(propertyChanges)
             );
 
-            propertyChanges.forEach(propertyChange->{
+            if(propertyChanges.isNotEmpty()) {
                 for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChange);
+                    subscriberDispatchService.dispatch(subscriber, propertyChanges);
                 }
-            });
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
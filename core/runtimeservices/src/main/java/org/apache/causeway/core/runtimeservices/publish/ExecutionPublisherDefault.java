@@ -55,6 +55,7 @@
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final SubscriberDispatchService subscriberDispatchService;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
     /**
@@ -105,7 +106,7 @@ private void notifySubscribers(final Execution<?,?> execution) {
 
         if(canPublish()) {
             for (val subscriber : enabledSubscribers) {
-                subscriber.onExecution(execution);
+                subscriberDispatchService.dispatch(subscriber, execution);
             }
         }
 
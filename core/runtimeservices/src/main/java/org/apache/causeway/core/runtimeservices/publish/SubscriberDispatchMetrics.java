@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the changes (or executions) dispatched asynchronously to a single subscriber
+ * (on this node, since start-up).
+ *
+ * @see SubscriberDispatchService#getMetrics()
+ * @since 2.0 {@index}
+ */
+public class SubscriberDispatchMetrics {
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private volatile Duration lastLatency = Duration.ZERO;
+
+    /**
+     * Number of changes (or executions) delivered to the subscriber.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+    /**
+     * Number of changes (or executions) the subscriber failed to handle.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+    /**
+     * Number of calls made to the subscriber.
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+    /**
+     * Number of changes (or executions) that, because the queue was full, were delivered synchronously
+     * by the publishing thread instead.
+     */
+    public long getCallerRunsCount() {
+        return callerRunsCount.get();
+    }
+    /**
+     * Number of changes (or executions) queued up, but not yet delivered.
+     */
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+    /**
+     * The time between the most recently delivered change (or execution) being queued up and it being delivered.
+     */
+    public Duration getLastLatency() {
+        return lastLatency;
+    }
+    /**
+     * The longest time between a change (or execution) being queued up and it being delivered.
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatencyNanos.get());
+    }
+
+    void onQueued(final int count) {
+        queueDepth.addAndGet(count);
+    }
+    void onDequeued(final int count) {
+        queueDepth.addAndGet(-count);
+    }
+    void onDelivered(final int count, final long latencyNanos) {
+        deliveredCount.addAndGet(count);
+        batchCount.incrementAndGet();
+        lastLatency = Duration.ofNanos(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+    void onFailed(final int count) {
+        failedCount.addAndGet(count);
+    }
+    void onCallerRuns(final int count) {
+        callerRunsCount.addAndGet(count);
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.SubscriberDispatch;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Calls {@link EntityPropertyChangeSubscriber}s and {@link ExecutionSubscriber}s on behalf of the framework's
+ * publishers, as per each subscriber's configured {@link SubscriberDispatch.Policy dispatch policy}.
+ * <p>
+ * Synchronous subscribers are called directly. Asynchronous ones are handed the changes (or executions) once the
+ * publishing transaction has committed, on background threads, each delivery within an interaction and transaction
+ * of its own.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".SubscriberDispatchService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class SubscriberDispatchService {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final InteractionLayerTracker iaTracker;
+    private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+
+    private final Map<Object, _SubscriberDispatcher<?>> dispatchers = new ConcurrentHashMap<>();
+
+    public void dispatch(final EntityPropertyChangeSubscriber subscriber, final Can<EntityPropertyChange> propertyChanges) {
+        val policy = policyFor(subscriber);
+        if(policy.isSync()) {
+            subscriber.onChanging(propertyChanges);
+            return;
+        }
+        val dispatcher = this.<EntityPropertyChange>dispatcherFor(subscriber, policy,
+                EntityPropertyChange::getTarget,
+                batch -> subscriber.onChanging(Can.ofCollection(batch)));
+        dispatchAfterCommit(dispatcher, propertyChanges);
+    }
+
+    public void dispatch(final ExecutionSubscriber subscriber, final Execution<?, ?> execution) {
+        val policy = policyFor(subscriber);
+        if(policy.isSync()) {
+            subscriber.onExecution(execution);
+            return;
+        }
+        val dispatcher = this.<Execution<?, ?>>dispatcherFor(subscriber, policy,
+                SubscriberDispatchService::targetOf,
+                batch -> {
+                    if(policy.isBatched()) {
+                        subscriber.onExecutions(Can.ofCollection(batch));
+                    } else {
+                        batch.forEach(subscriber::onExecution);
+                    }
+                });
+        dispatchAfterCommit(dispatcher, Can.ofSingleton(execution));
+    }
+
+    /**
+     * Metrics for each asynchronous subscriber (that has been dispatched to so far), keyed by subscriber name.
+     */
+    public Map<String, SubscriberDispatchMetrics> getMetrics() {
+        val metrics = new TreeMap<String, SubscriberDispatchMetrics>();
+        dispatchers.forEach((subscriber, dispatcher) ->
+            metrics.put(subscriberNameOf(subscriber), dispatcher.getMetrics()));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchers.values().forEach(dispatcher -> dispatcher.shutdown(SHUTDOWN_TIMEOUT));
+    }
+
+    // -- HELPER
+
+    private SubscriberDispatch config() {
+        return causewayConfiguration.getCore().getRuntimeServices().getSubscriberDispatch();
+    }
+
+    private SubscriberDispatch.Policy policyFor(final Object subscriber) {
+        val policies = config().getPolicies();
+        return policies.isEmpty()
+                ? SubscriberDispatch.Policy.SYNC
+                : policies.getOrDefault(subscriberNameOf(subscriber), SubscriberDispatch.Policy.SYNC);
+    }
+
+    private <T> _SubscriberDispatcher<T> dispatcherFor(
+            final Object subscriber,
+            final SubscriberDispatch.Policy policy,
+            final Function<T, Object> orderingKey,
+            final Consumer<List<T>> handler) {
+        return _Casts.uncheckedCast(
+                dispatchers.computeIfAbsent(subscriber, __ ->
+                    new _SubscriberDispatcher<T>(
+                            subscriberNameOf(subscriber),
+                            policy,
+                            config(),
+                            orderingKey,
+                            (batch, interactionContext) -> deliver(batch, interactionContext, handler))));
+    }
+
+    private <T> void deliver(
+            final List<T> batch,
+            final InteractionContext interactionContext,
+            final Consumer<List<T>> handler) {
+        val interactionService = interactionServiceProvider.get();
+        val transactionService = transactionServiceProvider.get();
+        final ThrowingRunnable inTransaction = () ->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> handler.accept(batch))
+            .ifFailureFail();
+        (interactionContext != null
+                ? interactionService.runAndCatch(interactionContext, inTransaction)
+                : interactionService.runAnonymousAndCatch(inTransaction))
+        .ifFailureFail();
+    }
+
+    /**
+     * Hands the items over to the dispatcher once the current transaction has committed (or discards them if
+     * rolled back); or immediately, if there is no transaction.
+     */
+    private <T> void dispatchAfterCommit(final _SubscriberDispatcher<T> dispatcher, final Can<T> items) {
+        val interactionContext = iaTracker.currentInteractionContext().orElse(null);
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatcher.dispatch(items, interactionContext);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.dispatch(items, interactionContext);
+            }
+        });
+    }
+
+    private static String subscriberNameOf(final Object subscriber) {
+        val subscriberClass = ClassUtils.getUserClass(subscriber);
+        return Optional.ofNullable(subscriberClass.getAnnotation(Named.class))
+                .map(Named::value)
+                .orElseGet(subscriberClass::getName);
+    }
+
+    private static Object targetOf(final Execution<?, ?> execution) {
+        val dto = execution.getDto();
+        return dto != null
+                && dto.getTarget() != null
+                    ? Bookmark.forOidDto(dto.getTarget())
+                    : execution.getInteraction().getInteractionId();
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.SubscriberDispatch;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Delivers changes (or executions) to a single subscriber on background threads (lanes).
+ * <p>
+ * Each lane has a bounded queue of its own. Items are assigned to lanes by their ordering key
+ * (the target object's bookmark), so that items concerning the same object are delivered in the order
+ * they were dispatched.
+ */
+@Log4j2
+final class _SubscriberDispatcher<T> {
+
+    @RequiredArgsConstructor
+    private static class Pending<T> {
+        final T item;
+        final @Nullable InteractionContext interactionContext;
+        final long queuedAtNanos;
+    }
+
+    private final String subscriberName;
+    private final boolean batched;
+    private final int batchSize;
+    private final long batchWindowNanos;
+    private final long backpressureTimeoutNanos;
+    private final Function<T, Object> orderingKey;
+    private final BiConsumer<List<T>, InteractionContext> deliverer;
+    private final SubscriberDispatchMetrics metrics = new SubscriberDispatchMetrics();
+    private final List<Lane> lanes;
+
+    private volatile boolean stopped;
+
+    /**
+     * @param deliverer - delivers the given items within the given interaction context (or anonymously, if
+     *      <code>null</code>), throwing if not successful
+     */
+    _SubscriberDispatcher(
+            final @NonNull String subscriberName,
+            final SubscriberDispatch.Policy policy,
+            final SubscriberDispatch config,
+            final @NonNull Function<T, Object> orderingKey,
+            final @NonNull BiConsumer<List<T>, InteractionContext> deliverer) {
+        this.subscriberName = subscriberName;
+        this.batched = policy.isBatched();
+        this.batchSize = batched ? config.getBatchSize() : 1;
+        this.batchWindowNanos = config.getBatchWindow().toNanos();
+        this.backpressureTimeoutNanos = config.getBackpressureTimeout().toNanos();
+        this.orderingKey = orderingKey;
+        this.deliverer = deliverer;
+
+        val laneCapacity = Math.max(1, config.getQueueCapacity() / config.getThreads());
+        this.lanes = new ArrayList<>(config.getThreads());
+        for (int i = 0; i < config.getThreads(); i++) {
+            lanes.add(new Lane(laneCapacity, "causeway-dispatch-" + subscriberName + "-" + i));
+        }
+    }
+
+    SubscriberDispatchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Queues up the given items for delivery.
+     * <p>
+     * If a lane's queue remains full for longer than the backpressure timeout, the calling thread instead takes over
+     * that lane: it waits for the lane's current delivery (if any) to complete, then delivers all the items still
+     * queued up in that lane, followed by the item at hand. Items are thus never overtaken by later ones for the
+     * same object. Having been drained, the lane then accepts the remaining items as usual.
+     */
+    void dispatch(final Can<T> items, final @Nullable InteractionContext interactionContext) {
+        val now = System.nanoTime();
+        for (val item : items) {
+            val pending = new Pending<T>(item, interactionContext, now);
+            val lane = laneFor(item);
+            if(!lane.offer(pending)) {
+                lane.drainAndDeliver(pending);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting items, and waits (up to the given timeout) for those already queued up to be delivered.
+     */
+    void shutdown(final Duration timeout) {
+        stopped = true;
+        val deadline = System.nanoTime() + timeout.toNanos();
+        for (val lane : lanes) {
+            try {
+                lane.thread.join(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if(lane.thread.isAlive()) {
+                lane.thread.interrupt();
+            }
+        }
+        val undelivered = metrics.getQueueDepth();
+        if(undelivered > 0) {
+            log.warn("{}: {} change(s) not delivered on shutdown", subscriberName, undelivered);
+        }
+    }
+
+    // -- HELPER
+
+    private Lane laneFor(final T item) {
+        return lanes.get(Math.floorMod(Objects.hashCode(orderingKey.apply(item)), lanes.size()));
+    }
+
+    private void deliver(final List<Pending<T>> batch) {
+        val items = new ArrayList<T>(batch.size());
+        batch.forEach(pending -> items.add(pending.item));
+        // items of a batch may stem from different interactions, so are delivered anonymously
+        val interactionContext = batched
+                ? null
+                : batch.get(0).interactionContext;
+        try {
+            deliverer.accept(items, interactionContext);
+            metrics.onDelivered(items.size(), System.nanoTime() - batch.get(0).queuedAtNanos);
+        } catch (Exception e) {
+            log.warn("{}: failed to deliver {} change(s), retrying one at a time", subscriberName, items.size(), e);
+            batch.forEach(this::redeliver);
+        }
+    }
+
+    /**
+     * Retries a single item (of a failed delivery), such that one bad item does not take down the rest of its batch.
+     * Items failing again are given up on, and logged in full.
+     */
+    private void redeliver(final Pending<T> pending) {
+        try {
+            deliverer.accept(List.of(pending.item), pending.interactionContext);
+            metrics.onDelivered(1, System.nanoTime() - pending.queuedAtNanos);
+        } catch (Exception e) {
+            metrics.onFailed(1);
+            log.error("{}: failed to deliver, giving up on: {}", subscriberName, pending.item, e);
+        }
+    }
+
+    private class Lane {
+
+        private final BlockingQueue<Pending<T>> queue;
+        private final Thread thread;
+        /**
+         * Held while dequeuing and delivering, by the lane's thread or by a calling thread taking over
+         * (fair, so that a waiting caller is not starved by the lane's thread).
+         */
+        private final ReentrantLock deliveryLock = new ReentrantLock(true);
+
+        Lane(final int capacity, final String threadName) {
+            this.queue = new LinkedBlockingQueue<>(capacity);
+            this.thread = new Thread(this::run, threadName);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        boolean offer(final Pending<T> pending) {
+            if(stopped) {
+                return false;
+            }
+            try {
+                if(queue.offer(pending, backpressureTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    metrics.onQueued(1);
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        /**
+         * Delivers (on the calling thread) all items still queued up, followed by the given one.
+         */
+        void drainAndDeliver(final Pending<T> pending) {
+            deliveryLock.lock();
+            try {
+                val callerRuns = new ArrayList<Pending<T>>(queue.size() + 1);
+                metrics.onDequeued(queue.drainTo(callerRuns));
+                callerRuns.add(pending);
+                metrics.onCallerRuns(callerRuns.size());
+                for (int from = 0; from < callerRuns.size(); from += batchSize) {
+                    deliver(callerRuns.subList(from, Math.min(from + batchSize, callerRuns.size())));
+                }
+            } finally {
+                deliveryLock.unlock();
+            }
+        }
+
+        private void run() {
+            while(!stopped
+                    || !queue.isEmpty()) {
+                try {
+                    deliveryLock.lockInterruptibly();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    val first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if(first == null) {
+                        continue;
+                    }
+                    val batch = new ArrayList<Pending<T>>(batchSize);
+                    batch.add(first);
+                    val deadline = System.nanoTime() + batchWindowNanos;
+                    while(batch.size() < batchSize) {
+                        val next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if(next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    metrics.onDequeued(batch.size());
+                    deliver(batch);
+                } catch (InterruptedException e) {
+                    return;
+                } finally {
+                    deliveryLock.unlock();
+                }
+            }
+        }
+    }
+
+}
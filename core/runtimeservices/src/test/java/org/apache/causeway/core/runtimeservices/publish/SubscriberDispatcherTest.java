@@ -0,0 +1,182 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.SubscriberDispatch;
+
+import lombok.val;
+
+class SubscriberDispatcherTest {
+
+    @Test
+    void async_delivers_in_order_per_ordering_key() {
+        val config = new SubscriberDispatch();
+        config.setThreads(3);
+
+        val delivered = Collections.synchronizedList(new ArrayList<Integer>());
+        val dispatcher = new _SubscriberDispatcher<Integer>("test", SubscriberDispatch.Policy.ASYNC, config,
+                item -> item % 5,
+                (batch, interactionContext) -> delivered.addAll(batch));
+
+        val items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        dispatcher.dispatch(Can.ofCollection(items), null);
+        dispatcher.shutdown(Duration.ofSeconds(10));
+
+        assertEquals(200, delivered.size());
+        for (int key = 0; key < 5; key++) {
+            val expectedKey = key;
+            assertEquals(
+                    items.stream().filter(item -> item % 5 == expectedKey).collect(Collectors.toList()),
+                    delivered.stream().filter(item -> item % 5 == expectedKey).collect(Collectors.toList()));
+        }
+
+        val metrics = dispatcher.getMetrics();
+        assertEquals(200, metrics.getDeliveredCount());
+        assertEquals(200, metrics.getBatchCount());
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(0, metrics.getFailedCount());
+    }
+
+    @Test
+    void batched_delivers_up_to_batch_size() {
+        val config = new SubscriberDispatch();
+        config.setThreads(1);
+        config.setBatchSize(10);
+        config.setBatchWindow(Duration.ofSeconds(1));
+
+        val batchSizes = Collections.synchronizedList(new ArrayList<Integer>());
+        val dispatcher = new _SubscriberDispatcher<Integer>("test", SubscriberDispatch.Policy.BATCHED, config,
+                item -> "same",
+                (batch, interactionContext) -> batchSizes.add(batch.size()));
+
+        dispatcher.dispatch(Can.ofCollection(IntStream.range(0, 25).boxed().collect(Collectors.toList())), null);
+        dispatcher.shutdown(Duration.ofSeconds(10));
+
+        assertEquals(25, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+        assertEquals(batchSizes.size(), dispatcher.getMetrics().getBatchCount());
+    }
+
+    @Test
+    void failures_are_counted() {
+        val config = new SubscriberDispatch();
+        config.setThreads(1);
+
+        val dispatcher = new _SubscriberDispatcher<Integer>("test", SubscriberDispatch.Policy.ASYNC, config,
+                item -> item,
+                (batch, interactionContext) -> { throw new IllegalStateException("failed"); });
+
+        dispatcher.dispatch(Can.of(1, 2, 3), null);
+        dispatcher.shutdown(Duration.ofSeconds(10));
+
+        assertEquals(3, dispatcher.getMetrics().getFailedCount());
+        assertEquals(0, dispatcher.getMetrics().getDeliveredCount());
+    }
+
+    @Test
+    void failed_batch_is_retried_one_at_a_time() {
+        val config = new SubscriberDispatch();
+        config.setThreads(1);
+        config.setBatchSize(10);
+        config.setBatchWindow(Duration.ofSeconds(1));
+
+        val delivered = Collections.synchronizedList(new ArrayList<Integer>());
+        val dispatcher = new _SubscriberDispatcher<Integer>("test", SubscriberDispatch.Policy.BATCHED, config,
+                item -> "same",
+                (batch, interactionContext) -> {
+                    if(batch.contains(3)) {
+                        throw new IllegalStateException("poison");
+                    }
+                    delivered.addAll(batch);
+                });
+
+        dispatcher.dispatch(Can.of(1, 2, 3, 4, 5), null);
+        dispatcher.shutdown(Duration.ofSeconds(10));
+
+        assertEquals(List.of(1, 2, 4, 5), delivered);
+        assertEquals(4, dispatcher.getMetrics().getDeliveredCount());
+        assertEquals(1, dispatcher.getMetrics().getFailedCount());
+    }
+
+    @Test
+    void after_backpressure_timeout_the_caller_drains_the_lane_in_order() throws InterruptedException {
+        val config = new SubscriberDispatch();
+        config.setThreads(1);
+        config.setQueueCapacity(1);
+        config.setBackpressureTimeout(Duration.ofMillis(200));
+
+        val laneBlocked = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val delivered = Collections.synchronizedList(new ArrayList<Integer>());
+        val dispatcher = new _SubscriberDispatcher<Integer>("test", SubscriberDispatch.Policy.ASYNC, config,
+                item -> "same",
+                (batch, interactionContext) -> {
+                    if(batch.contains(0)) {
+                        laneBlocked.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    delivered.addAll(batch);
+                });
+
+        // the lane is kept busy with item 0, and item 1 fills its queue
+        dispatcher.dispatch(Can.of(0), null);
+        assertTrue(laneBlocked.await(10, TimeUnit.SECONDS));
+        dispatcher.dispatch(Can.of(1), null);
+
+        // unblocks the lane only once the caller has timed out waiting for capacity
+        val releaser = new Thread(() -> {
+            try {
+                Thread.sleep(600);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+
+        dispatcher.dispatch(Can.ofCollection(IntStream.range(2, 10).boxed().collect(Collectors.toList())), null);
+        releaser.join();
+        dispatcher.shutdown(Duration.ofSeconds(10));
+
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), delivered);
+        assertTrue(dispatcher.getMetrics().getCallerRunsCount() >= 2);
+        assertEquals(10, dispatcher.getMetrics().getDeliveredCount());
+        assertEquals(0, dispatcher.getMetrics().getQueueDepth());
+    }
+
+}
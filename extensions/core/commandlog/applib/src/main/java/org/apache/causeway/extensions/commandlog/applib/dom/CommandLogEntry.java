@@ -150,6 +150,11 @@ public static class Nq {
         public static final String FIND_MOST_RECENT_COMPLETED           = LOGICAL_TYPE_NAME + ".findMostRecentCompleted";
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
+        /**
+         * Background commands that were claimed (started) before a given time, but have not completed,
+         * ie. whose lease has expired.
+         */
+        public static final String FIND_BACKGROUND_AND_STARTED_BEFORE_AND_NOT_YET_COMPLETED = LOGICAL_TYPE_NAME + ".findBackgroundAndStartedBeforeAndNotYetCompleted";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
     }
 
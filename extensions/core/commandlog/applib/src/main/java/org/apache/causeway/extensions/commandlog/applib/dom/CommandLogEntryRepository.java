@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.dom;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -131,6 +132,30 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * Claims up to <code>batchSize</code> background commands for execution, by marking them as started
+     * (at <code>claimedAt</code>).
+     *
+     * <p>
+     * Each claim is atomic (a conditional update of the entry's <code>startedAt</code>), so that multiple nodes
+     * can safely drain the same queue of background commands: an entry claimed by one node is not returned
+     * to any other.
+     * </p>
+     *
+     * <p>
+     * If <code>leaseExpiredBefore</code> is specified, then entries claimed before that time but not yet
+     * completed are considered abandoned (eg. the node that claimed them has crashed), and are claimed again.
+     * Note that this cannot tell a crashed node from a command that merely runs longer than the lease, in which
+     * case the command will be executed twice.
+     * </p>
+     *
+     * @see #findBackgroundAndNotYetStarted()
+     */
+    List<CommandLogEntry> claimBackgroundAndNotYetStarted(
+            final int batchSize,
+            final Timestamp claimedAt,
+            final @Nullable Timestamp leaseExpiredBefore);
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
 
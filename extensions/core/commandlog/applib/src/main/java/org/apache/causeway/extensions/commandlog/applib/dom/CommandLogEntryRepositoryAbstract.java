@@ -298,6 +298,51 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> claimBackgroundAndNotYetStarted(
+            final int batchSize,
+            final Timestamp claimedAt,
+            final @Nullable Timestamp leaseExpiredBefore) {
+
+        val candidates = new ArrayList<C>(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(batchSize)));
+        if(leaseExpiredBefore != null
+                && candidates.size() < batchSize) {
+            candidates.addAll(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_STARTED_BEFORE_AND_NOT_YET_COMPLETED)
+                        .withParameter("startedBefore", leaseExpiredBefore)
+                        .withLimit(batchSize - candidates.size())));
+        }
+
+        val claimed = new ArrayList<CommandLogEntry>(candidates.size());
+        for (val candidate : candidates) {
+            if(tryClaim(candidate, claimedAt)) {
+                claimed.add(candidate);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Marks given entry as started at <code>claimedAt</code>, provided that its <code>startedAt</code>
+     * has not been changed concurrently (eg. by another node) since it was queried.
+     *
+     * <p>
+     * This default implementation merely sets the entry's <code>startedAt</code>, which is sufficient for a single
+     * node only. Persistence specific subclasses override this using a conditional update, so that the claim is
+     * atomic.
+     * </p>
+     *
+     * @return whether the entry was claimed
+     */
+    protected boolean tryClaim(final C commandLogEntry, final Timestamp claimedAt) {
+        commandLogEntry.setStartedAt(claimedAt);
+        return true;
+    }
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
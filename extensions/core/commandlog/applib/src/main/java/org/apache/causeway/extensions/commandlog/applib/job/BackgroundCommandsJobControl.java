@@ -18,11 +18,16 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 
 import lombok.Getter;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -33,6 +38,10 @@
  *     dashboard.
  * </p>
  *
+ * <p>
+ *     Also collects metrics (throughput, queue depth) of the {@link RunBackgroundCommandsJob}, as executed on this node.
+ * </p>
+ *
  * @see RunBackgroundCommandsJob
  */
 @Service
@@ -67,4 +76,85 @@ public boolean isRunning() {
         return state == State.RUNNING;
     }
 
+    // -- METRICS
+
+    private final AtomicLong succeededCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private volatile int lastRunExecutedCount;
+    private volatile Duration lastRunDuration = Duration.ZERO;
+
+    /**
+     * Number of background commands executed successfully (since start-up).
+     */
+    @Programmatic
+    public long getSucceededCount() {
+        return succeededCount.get();
+    }
+    /**
+     * Number of background commands that failed (since start-up).
+     */
+    @Programmatic
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+    /**
+     * Number of retries (since start-up), due to deadlocks.
+     */
+    @Programmatic
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+    /**
+     * Number of background commands claimed by this node, but not yet executed.
+     */
+    @Programmatic
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+    /**
+     * Number of background commands executed by the most recent run.
+     */
+    @Programmatic
+    public int getLastRunExecutedCount() {
+        return lastRunExecutedCount;
+    }
+    @Programmatic
+    public Duration getLastRunDuration() {
+        return lastRunDuration;
+    }
+    /**
+     * Throughput of the most recent run, in commands per second.
+     */
+    @Programmatic
+    public double getLastRunThroughput() {
+        val millis = lastRunDuration.toMillis();
+        return millis > 0
+                ? lastRunExecutedCount * 1000d / millis
+                : 0d;
+    }
+
+    void onClaimed(final int count) {
+        queueDepth.addAndGet(count);
+    }
+    void onDequeued(final int count) {
+        queueDepth.addAndGet(-count);
+    }
+    void onSucceeded() {
+        succeededCount.incrementAndGet();
+    }
+    void onFailed() {
+        failedCount.incrementAndGet();
+    }
+    void onRetry() {
+        retryCount.incrementAndGet();
+    }
+    void onRunCompleted(final int executedCount, final Duration duration) {
+        this.lastRunExecutedCount = executedCount;
+        this.lastRunDuration = duration;
+        log.debug("executed {} background command(s) in {}", executedCount, duration);
+    }
+
 }
@@ -18,9 +18,21 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -34,6 +46,7 @@
 import org.quartz.PersistJobDataAfterExecution;
 
 import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
@@ -44,6 +57,7 @@
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
@@ -56,8 +70,19 @@
  * executes them.
  *
  * <p>
+ *     Commands are claimed in batches (marked as started, atomically per command), so that multiple nodes can
+ *     drain the same queue safely.  Claimed commands are executed either one at a time, or by a pool of workers,
+ *     as per <code>causeway.extensions.command-log.run-background-commands.worker-count</code>.
+ * </p>
+ *
+ * <p>
+ *     If the job is interrupted (eg. on shutdown), it stops claiming and executing commands; any commands claimed
+ *     but not yet started are released (marked as not started) again, to be picked up by the next run.
+ * </p>
+ *
+ * <p>
  *     Note that although this is a component, a new instance is created for each run.  It is for this reason that
- *     the control is managed through the injected {@link BackgroundCommandsJobControl}
+ *     the control (and the metrics) are managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
  *
  * @see BackgroundCommandsJobControl
@@ -70,15 +95,13 @@
 @Log4j2
 public class RunBackgroundCommandsJob implements Job {
 
-    final static int RETRY_COUNT = 3;
-    final static long RETRY_INTERVAL_MILLIS = 1000;
-
     @Inject InteractionService interactionService;
     @Inject TransactionService transactionService;
     @Inject ClockService clockService;
     @Inject CommandLogEntryRepository commandLogEntryRepository;
     @Inject CommandExecutorService commandExecutorService;
     @Inject BackgroundCommandsJobControl backgroundCommandsJobControl;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 
     @Override
@@ -89,54 +112,186 @@ public void execute(final JobExecutionContext quartzContext) {
             return;
         }
 
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+
         val userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         val interactionContext = InteractionContext.builder().user(userMemento).build();
 
-        // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
-        final Optional<List<CommandDto>> commandDtosIfAny = pendingCommandDtos(interactionContext);
+        val startedAtNanos = System.nanoTime();
+        val workerPool = config.getWorkerCount() > 1
+                ? newWorkerPool(config.getWorkerCount())
+                : null;
+        int executedCount = 0;
+        try {
+            while(!Thread.currentThread().isInterrupted()) {
+                // we claim a batch of Commands first; we use their CommandDto as it is serializable across transactions
+                val claimedAt = clockService.getClock().nowAsJavaSqlTimestamp();
+                final List<CommandDto> commandDtos = claimPendingCommandDtos(interactionContext, config, claimedAt)
+                        .orElse(Collections.emptyList());
+                if(commandDtos.isEmpty()) {
+                    break;
+                }
+                val batch = new ClaimedBatch(commandDtos);
+                backgroundCommandsJobControl.onClaimed(commandDtos.size());
+                List<CommandDto> notStarted = Collections.emptyList();
+                try {
+                    // for each command, we execute within its own transaction.  Failure of one should not impact the next.
+                    executeAll(batch, interactionContext, workerPool, config.getRetry());
+                } finally {
+                    // any commands not executed (eg. if interrupted) are no longer queued on this node either
+                    notStarted = batch.abandon();
+                    backgroundCommandsJobControl.onDequeued(batch.release(commandDtos.size()));
+                    if(!notStarted.isEmpty()) {
+                        releaseClaims(notStarted, interactionContext);
+                    }
+                }
+                executedCount += commandDtos.size() - notStarted.size();
 
-        // for each command, we execute within its own transaction.  Failure of one should not impact the next.
-        commandDtosIfAny.ifPresent(commandDtos -> {
-            for (val commandDto : commandDtos) {
-                executeCommandWithinOwnTransaction(commandDto, interactionContext);
+                if(commandDtos.size() < config.getBatchSize()
+                        || backgroundCommandsJobControl.isPaused()) {
+                    break; // drained (or paused)
+                }
             }
-        });
+        } finally {
+            if(workerPool != null) {
+                workerPool.shutdownNow();
+            }
+            backgroundCommandsJobControl.onRunCompleted(executedCount, Duration.ofNanos(System.nanoTime() - startedAtNanos));
+        }
     }
 
-    private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
+    private Optional<List<CommandDto>> claimPendingCommandDtos(
+            final InteractionContext interactionContext,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config,
+            final Timestamp claimedAt) {
         return interactionService.callAndCatch(interactionContext, () ->
-            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                val leaseExpiredBefore = config.getLease() != null
+                        ? Timestamp.from(claimedAt.toInstant().minus(config.getLease()))
+                        : null;
+                return commandLogEntryRepository.claimBackgroundAndNotYetStarted(
+                            config.getBatchSize(), claimedAt, leaseExpiredBefore)
                         .stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .collect(Collectors.toList())
-                )
+                        .collect(Collectors.toList());
+                })
                 .ifFailureFail()
                 .valueAsNonNullElseFail()
             )
-            .ifFailureFail()    // we give up if unable to find these
+            .ifFailureFail()    // we give up if unable to claim these
             .getValue();
     }
 
+    /**
+     * Releases the claims of given commands, that were claimed but never started (eg. because the job was
+     * interrupted), such that the next run picks these up again, rather than these waiting for their lease
+     * to expire (or, without a lease, remaining claimed forever).
+     */
+    private void releaseClaims(
+            final List<CommandDto> commandDtos,
+            final InteractionContext interactionContext) {
+        // clear the interrupt while releasing, as it might otherwise fail the transaction
+        val wasInterrupted = Thread.interrupted();
+        try {
+            interactionService.runAndCatch(interactionContext, () -> {
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                    for (val commandDto : commandDtos) {
+                        // look up the CommandLogEntry again because we are within a new transaction.
+                        commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()))
+                                .filter(commandLogEntry -> commandLogEntry.getCompletedAt() == null)
+                                .ifPresent(commandLogEntry -> commandLogEntry.setStartedAt(null));
+                    }
+                })
+                .ifFailureFail();
+            })
+            .ifFailure(throwable -> log.error("Failed to release claimed but not started background commands", throwable));
+        } finally {
+            if(wasInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void executeAll(
+            final ClaimedBatch batch,
+            final InteractionContext interactionContext,
+            final @Nullable ExecutorService workerPool,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.Retry retry) {
+
+        val commandDtos = batch.getCommandDtos();
+
+        if(workerPool == null) {
+            for (val commandDto : commandDtos) {
+                if(Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                executeAndDequeue(commandDto, interactionContext, retry, batch);
+            }
+            return;
+        }
+
+        val futures = new ArrayList<Future<?>>(commandDtos.size());
+        for (val commandDto : commandDtos) {
+            futures.add(workerPool.submit(() ->
+                executeAndDequeue(commandDto, interactionContext, retry, batch)));
+        }
+        // wait for the whole batch, before claiming the next one
+        for (val future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Failed to execute background command", e.getCause());
+            }
+        }
+    }
+
+    private void executeAndDequeue(
+            final CommandDto commandDto,
+            final InteractionContext interactionContext,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.Retry retry,
+            final ClaimedBatch batch) {
+        if(Thread.currentThread().isInterrupted()
+                || !batch.tryStart(commandDto)) {
+            return; // not started, so released along with the rest of the (abandoned) batch
+        }
+        try {
+            executeCommandWithinOwnTransaction(commandDto, interactionContext, retry);
+        } finally {
+            backgroundCommandsJobControl.onDequeued(batch.release(1));
+        }
+    }
+
     private void executeCommandWithinOwnTransaction(
             final CommandDto commandDto,
-            final InteractionContext interactionContext
+            final InteractionContext interactionContext,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.Retry retry
     ) {
-        int retryCount = RETRY_COUNT;
-        while(retryCount > 0) {
+        int attempt = 1;
+        while(true) {
             Try<?> result = interactionService.runAndCatch(interactionContext, () -> {
                 executeCommandWithinOwnTransactionElseFail(commandDto);
             });
-            if (isEncounteredDeadlock(result)) {
-                retryCount--;
+            if (isEncounteredDeadlock(result)
+                    && attempt < retry.getMaxAttempts()
+                    && !Thread.currentThread().isInterrupted()) {
                 log.debug("Deadlock occurred, retrying command: " + CommandDtoUtils.dtoMapper().toString(commandDto));
-                sleep(RETRY_INTERVAL_MILLIS);
-            } else {
-                retryCount=0;   // ie break
+                backgroundCommandsJobControl.onRetry();
+                sleep(backoffMillis(attempt, retry));
+                attempt++;
+                continue;
+            }
+            if(result.isFailure()) {
+                backgroundCommandsJobControl.onFailed();
                 result.ifFailure(throwable -> {
                     logAndCaptureFailure(throwable, commandDto, interactionContext);
                 });
+            } else {
+                backgroundCommandsJobControl.onSucceeded();
             }
+            return;
         }
     }
 
@@ -183,11 +338,86 @@ private static boolean isEncounteredDeadlock(Try<?> result) {
                 .orElse(false);
     }
 
+    /**
+     * Exponential back-off (doubling with each attempt, capped at the configured maximum),
+     * with 'equal jitter', such that nodes contending for the same rows do not retry in lock-step.
+     */
+    static long backoffMillis(
+            final int attempt,
+            final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.Retry retry) {
+        val initialMillis = Math.max(1L, retry.getInitialInterval().toMillis());
+        val maxMillis = Math.max(initialMillis, retry.getMaxInterval().toMillis());
+        val exponent = Math.min(attempt - 1, 30);
+        val backoffMillis = initialMillis > (maxMillis >> exponent)
+                ? maxMillis // saturated
+                : initialMillis << exponent;
+        val halfMillis = backoffMillis / 2;
+        return halfMillis + ThreadLocalRandom.current().nextLong(backoffMillis - halfMillis + 1);
+    }
+
+    /**
+     * Tracks the commands of a claimed batch that are still queued (not yet executed) on this node,
+     * such that each is dequeued exactly once, even if a worker completes only after the batch was abandoned.
+     * Also tracks which commands were started, such that none is started once the batch was abandoned.
+     */
+    static final class ClaimedBatch {
+        private final List<CommandDto> commandDtos;
+        private final AtomicInteger queued;
+        /** guarded by itself */
+        private final Set<CommandDto> started = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean abandoned; // guarded by started
+        ClaimedBatch(final List<CommandDto> commandDtos) {
+            this.commandDtos = commandDtos;
+            this.queued = new AtomicInteger(commandDtos.size());
+        }
+        List<CommandDto> getCommandDtos() {
+            return commandDtos;
+        }
+        /**
+         * @return whether given command may be started, that is, unless the batch was abandoned already
+         */
+        boolean tryStart(final CommandDto commandDto) {
+            synchronized(started) {
+                return !abandoned
+                        && started.add(commandDto);
+            }
+        }
+        /**
+         * Prevents any further command from being started.
+         * @return those commands, that were not started
+         */
+        List<CommandDto> abandon() {
+            synchronized(started) {
+                abandoned = true;
+                return commandDtos.stream()
+                        .filter(commandDto -> !started.contains(commandDto))
+                        .collect(Collectors.toList());
+            }
+        }
+        /**
+         * @return the number actually released, at most <code>count</code>
+         */
+        int release(final int count) {
+            val previouslyQueued = queued.getAndUpdate(n -> Math.max(0, n - count));
+            return Math.min(previouslyQueued, count);
+        }
+    }
+
+    private static ExecutorService newWorkerPool(final int workerCount) {
+        val threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(workerCount, runnable -> {
+            val thread = new Thread(runnable, "RunBackgroundCommandsJob-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private static void sleep(long retryIntervalMs) {
         try {
             Thread.sleep(retryIntervalMs);
         } catch (InterruptedException e) {
-            // do nothing - continue
+            // preserve the interrupt, such that no further commands are started
+            Thread.currentThread().interrupt();
         }
     }
 
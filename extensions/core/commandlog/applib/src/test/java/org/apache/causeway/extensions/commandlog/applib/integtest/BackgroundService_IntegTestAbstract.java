@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -36,6 +37,7 @@
 
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
@@ -216,6 +218,45 @@ void using_background_service() {
 
     }
 
+    @Test
+    void claims_are_exclusive_until_the_lease_expires() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        val claimedAt = clockService.getClock().nowAsJavaSqlTimestamp();
+        val later = new Timestamp(claimedAt.getTime() + 1_000L);
+
+        // when
+        assertThat(claim(claimedAt, null)).isEqualTo(1);
+
+        // then not claimed again, neither without a lease, nor while the lease has not expired
+        assertThat(claim(later, null)).isZero();
+        assertThat(claim(later, claimedAt)).isZero();
+
+        // but once the lease has expired, it is claimed again (just the once)
+        assertThat(claim(later, new Timestamp(claimedAt.getTime() + 1L))).isEqualTo(1);
+        assertThat(claim(later, new Timestamp(claimedAt.getTime() + 1L))).isZero();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val after = commandLogEntryRepository.findAll();
+            assertThat(after).hasSize(1);
+            assertThat(after.get(0).getStartedAt()).isEqualTo(later);
+            assertThat(after.get(0).getCompletedAt()).isNull();
+        }).ifFailureFail();
+    }
+
+    private int claim(final Timestamp claimedAt, final Timestamp leaseExpiredBefore) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                    commandLogEntryRepository.claimBackgroundAndNotYetStarted(10, claimedAt, leaseExpiredBefore).size())
+                .ifFailureFail()
+                .valueAsNonNullElseFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -231,6 +272,7 @@ private void removeAllCommandLogEntriesAndCounters() {
     @Inject TransactionService transactionService;
     @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
     @Inject BookmarkService bookmarkService;
+    @Inject ClockService clockService;
     @Inject CounterRepository counterRepository;
 
 }
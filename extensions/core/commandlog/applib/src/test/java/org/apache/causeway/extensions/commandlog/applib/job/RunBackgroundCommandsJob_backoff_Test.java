@@ -0,0 +1,47 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.RepeatedTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.val;
+
+class RunBackgroundCommandsJob_backoff_Test {
+
+    @RepeatedTest(20)
+    void doubles_with_each_attempt_and_applies_jitter() {
+        val retry = new CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.Retry();
+        retry.setInitialInterval(Duration.ofMillis(100));
+        retry.setMaxInterval(Duration.ofMillis(1000));
+
+        assertThat(RunBackgroundCommandsJob.backoffMillis(1, retry)).isBetween(50L, 100L);
+        assertThat(RunBackgroundCommandsJob.backoffMillis(2, retry)).isBetween(100L, 200L);
+        assertThat(RunBackgroundCommandsJob.backoffMillis(3, retry)).isBetween(200L, 400L);
+        // capped
+        assertThat(RunBackgroundCommandsJob.backoffMillis(5, retry)).isBetween(500L, 1000L);
+        assertThat(RunBackgroundCommandsJob.backoffMillis(Integer.MAX_VALUE, retry)).isBetween(500L, 1000L);
+    }
+
+}
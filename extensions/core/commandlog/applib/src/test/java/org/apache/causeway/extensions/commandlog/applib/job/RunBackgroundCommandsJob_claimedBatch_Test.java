@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+class RunBackgroundCommandsJob_claimedBatch_Test {
+
+    @Test
+    void releases_each_claim_exactly_once() {
+        val batch = new RunBackgroundCommandsJob.ClaimedBatch(
+                List.of(new CommandDto(), new CommandDto(), new CommandDto()));
+
+        assertThat(batch.release(1)).isEqualTo(1);
+        // eg. the job was interrupted, so releases the remainder of the batch
+        assertThat(batch.release(3)).isEqualTo(2);
+        // a worker completing afterwards must not release again
+        assertThat(batch.release(1)).isZero();
+        assertThat(batch.release(3)).isZero();
+    }
+
+    @Test
+    void once_abandoned_no_command_is_started() {
+        val first = new CommandDto();
+        val second = new CommandDto();
+        val third = new CommandDto();
+        val batch = new RunBackgroundCommandsJob.ClaimedBatch(List.of(first, second, third));
+
+        assertThat(batch.tryStart(first)).isTrue();
+        assertThat(batch.tryStart(first)).isFalse(); // started once only
+
+        assertThat(batch.abandon()).containsExactly(second, third);
+
+        // a worker picking up a command afterwards must not start it
+        assertThat(batch.tryStart(second)).isFalse();
+    }
+
+}
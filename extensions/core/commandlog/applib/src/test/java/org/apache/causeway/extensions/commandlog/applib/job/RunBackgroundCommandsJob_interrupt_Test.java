@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.clock.VirtualClock;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.command.CommandExecutorService;
+import org.apache.causeway.applib.services.command.CommandExecutorService.InteractionContextPolicy;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+class RunBackgroundCommandsJob_interrupt_Test {
+
+    RunBackgroundCommandsJob job;
+    List<CommandLogEntry> claimedEntries;
+
+    @BeforeEach
+    void setup() {
+        val causewayConfiguration = new CausewayConfiguration(null, null);
+        // a full batch, so that (unless interrupted) the job would claim another
+        causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().setBatchSize(3);
+
+        claimedEntries = IntStream.range(0, 3)
+                .mapToObj(i -> newCommandLogEntry())
+                .collect(Collectors.toList());
+
+        job = new RunBackgroundCommandsJob();
+        job.causewayConfiguration = causewayConfiguration;
+        job.backgroundCommandsJobControl = new BackgroundCommandsJobControl();
+        job.interactionService = Mockito.mock(InteractionService.class);
+        job.transactionService = Mockito.mock(TransactionService.class);
+        job.clockService = Mockito.mock(ClockService.class);
+        job.commandLogEntryRepository = Mockito.mock(CommandLogEntryRepository.class);
+        job.commandExecutorService = Mockito.mock(CommandExecutorService.class);
+
+        when(job.interactionService.callAndCatch(any(InteractionContext.class), any(Callable.class)))
+                .thenAnswer(invocation -> Try.call(invocation.<Callable<?>>getArgument(1)));
+        when(job.interactionService.runAndCatch(any(InteractionContext.class), any(ThrowingRunnable.class)))
+                .thenAnswer(invocation -> Try.run(invocation.<ThrowingRunnable>getArgument(1)));
+        when(job.transactionService.callTransactional(any(Propagation.class), any(Callable.class)))
+                .thenAnswer(invocation -> Try.call(invocation.<Callable<?>>getArgument(1)));
+        when(job.transactionService.runTransactional(any(Propagation.class), any(ThrowingRunnable.class)))
+                .thenAnswer(invocation -> Try.run(invocation.<ThrowingRunnable>getArgument(1)));
+        when(job.clockService.getClock())
+                .thenReturn(VirtualClock.frozenAt(Instant.parse("2022-01-01T00:00:00Z")));
+
+        when(job.commandLogEntryRepository.claimBackgroundAndNotYetStarted(anyInt(), any(), any()))
+                .thenReturn(claimedEntries)
+                .thenReturn(Collections.emptyList());
+        when(job.commandLogEntryRepository.findByInteractionId(any(UUID.class)))
+                .thenAnswer(invocation -> claimedEntries.stream()
+                        .filter(entry -> entry.getCommandDto().getInteractionId()
+                                .equals(invocation.<UUID>getArgument(0).toString()))
+                        .findFirst());
+    }
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void when_interrupted_stops_and_releases_the_commands_not_started() {
+
+        // eg. the scheduler shuts down, while the first command executes
+        when(job.commandExecutorService.executeCommand(eq(InteractionContextPolicy.NO_SWITCH), any(CommandDto.class)))
+                .thenAnswer(invocation -> {
+                    Thread.currentThread().interrupt();
+                    return Try.empty();
+                });
+
+        job.execute(null);
+
+        // only the first command was executed
+        verify(job.commandExecutorService, times(1))
+                .executeCommand(eq(InteractionContextPolicy.NO_SWITCH), any(CommandDto.class));
+        verify(claimedEntries.get(0), never()).setStartedAt(null);
+        // the others are no longer claimed, so are picked up by the next run
+        verify(claimedEntries.get(1)).setStartedAt(null);
+        verify(claimedEntries.get(2)).setStartedAt(null);
+
+        // no further batch was claimed
+        verify(job.commandLogEntryRepository, times(1)).claimBackgroundAndNotYetStarted(anyInt(), any(), any());
+        assertThat(job.backgroundCommandsJobControl.getQueueDepth()).isZero();
+
+        // the interrupt is preserved
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+
+    // -- HELPER
+
+    private static CommandLogEntry newCommandLogEntry() {
+        val commandDto = new CommandDto();
+        commandDto.setInteractionId(UUID.randomUUID().toString());
+        val entry = Mockito.mock(CommandLogEntry.class);
+        when(entry.getCommandDto()).thenReturn(commandDto);
+        return entry;
+    }
+
+}
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.HashMap;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +30,9 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +47,45 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims the entry by re-reading it with a locking read (<code>SELECT ... FOR UPDATE</code>), provided its
+     * <code>startedAt</code> is still as previously queried, and only then marking it as started.
+     *
+     * <p>
+     * A concurrent claim (eg. from another node) blocks on the row lock until the first claim commits; its re-read
+     * then no longer matches, so the entry is not claimed twice.  (JDOQL bulk updates are not used, as DataNucleus
+     * only allows them with <code>datanucleus.query.jdoql.allowAll</code> enabled.)
+     * </p>
+     */
+    @Override
+    protected boolean tryClaim(final CommandLogEntry commandLogEntry, final Timestamp claimedAt) {
+        val previouslyStartedAt = commandLogEntry.getStartedAt();
+        val query = jdoSupportService.getPersistenceManager()
+                .newQuery(CommandLogEntry.class,
+                        "interactionId == :interactionId "
+                        + (previouslyStartedAt == null
+                                ? "&& startedAt == null"
+                                : "&& startedAt == :previouslyStartedAt"));
+        query.setSerializeRead(true);
+        val params = new HashMap<String, Object>();
+        params.put("interactionId", commandLogEntry.getInteractionId());
+        if(previouslyStartedAt != null) {
+            params.put("previouslyStartedAt", previouslyStartedAt);
+        }
+        val unchanged = query.setNamedParameters(params).executeList();
+        if(unchanged.size() != 1) {
+            return false; // claimed concurrently
+        }
+        unchanged.get(0).setStartedAt(claimedAt);
+        return true;
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +29,9 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +46,41 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims the entry using a conditional bulk update, so that concurrent claims (eg. from other nodes)
+     * are detected by the number of rows affected.
+     *
+     * <p>
+     * As bulk updates bypass the persistence context, the (managed) entry is refreshed once claimed.
+     * </p>
+     */
+    @Override
+    protected boolean tryClaim(final CommandLogEntry commandLogEntry, final Timestamp claimedAt) {
+        val previouslyStartedAt = commandLogEntry.getStartedAt();
+        val entityManager = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class);
+        val update = entityManager
+                .createQuery("UPDATE CommandLogEntry cl "
+                        + "   SET cl.startedAt = :claimedAt "
+                        + " WHERE cl.pk.interactionId = :interactionId "
+                        + (previouslyStartedAt == null
+                                ? "   AND cl.startedAt is null"
+                                : "   AND cl.startedAt = :previouslyStartedAt"))
+                .setParameter("claimedAt", claimedAt)
+                .setParameter("interactionId", commandLogEntry.getInteractionId());
+        if(previouslyStartedAt != null) {
+            update.setParameter("previouslyStartedAt", previouslyStartedAt);
+        }
+        if(update.executeUpdate() != 1) {
+            return false; // claimed concurrently
+        }
+        entityManager.refresh(commandLogEntry);
+        return true;
+    }
+
 }
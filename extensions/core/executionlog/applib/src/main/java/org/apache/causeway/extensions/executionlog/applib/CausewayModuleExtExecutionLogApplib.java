@@ -27,6 +27,7 @@
 import org.apache.causeway.extensions.executionlog.applib.contributions.Object_recentExecutions;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry;
 import org.apache.causeway.extensions.executionlog.applib.dom.mixins.ExecutionLogEntry_siblingExecutions;
+import org.apache.causeway.extensions.executionlog.applib.job.ExecutionLogRetentionJob;
 import org.apache.causeway.extensions.executionlog.applib.spiimpl.ExecutionSubscriberForExecutionLog;
 import org.apache.causeway.testing.fixtures.applib.modules.ModuleWithFixtures;
 
@@ -47,6 +48,7 @@
         // @Service's
         ExecutionSubscriberForExecutionLog.class,
         ExecutionLogEntry.TableColumnOrderDefault.class,
+        ExecutionLogRetentionJob.class,
 })
 public class CausewayModuleExtExecutionLogApplib
 implements ModuleWithFixtures {
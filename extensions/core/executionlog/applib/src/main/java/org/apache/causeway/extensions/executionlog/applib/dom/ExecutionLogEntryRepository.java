@@ -29,6 +29,7 @@
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.commons.collections.Can;
 
 import lombok.Getter;
 
@@ -53,6 +54,11 @@ public NotFoundException(final UUID interactionId) {
 
     ExecutionLogEntry createEntryAndPersist(final Execution execution);
 
+    /**
+     * Persists an entry for each of the given executions, flushing every <code>batchSize</code> entries.
+     */
+    void createEntriesAndPersist(final Can<Execution<?, ?>> executions, final int batchSize);
+
     List<ExecutionLogEntry> findByInteractionId(final UUID interactionId);
 
     Optional<ExecutionLogEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence);
@@ -83,6 +89,19 @@ List<ExecutionLogEntry> findByFromAndTo(
 
     List<ExecutionLogEntry> findRecentByTarget(final Bookmark target);
 
+    /**
+     * The timestamp of the n-th most recent entry (counting from 1), if there are that many.
+     */
+    Optional<Timestamp> findTimestampOfNthMostRecent(final int n);
+
+    /**
+     * Deletes (about) <code>limit</code> of the entries time-stamped at or before the given timestamp,
+     * oldest first.
+     *
+     * @return the number of entries deleted; zero once there are no more such entries
+     */
+    long removeUpTo(final Timestamp upTo, final int limit);
+
 
     /**
      * intended for testing purposes only
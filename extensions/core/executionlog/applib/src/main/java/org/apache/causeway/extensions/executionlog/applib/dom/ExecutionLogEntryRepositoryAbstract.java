@@ -36,6 +36,8 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
@@ -55,6 +57,7 @@
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
 
     protected ExecutionLogEntryRepositoryAbstract(final Class<E> executionLogEntryClass) {
         this.executionLogEntryClass = executionLogEntryClass;
@@ -81,6 +84,17 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    @Override
+    public void createEntriesAndPersist(final Can<Execution<?, ?>> executions, final int batchSize) {
+        int count = 0;
+        for (val execution : executions) {
+            createEntryAndPersist(execution);
+            if(++count % batchSize == 0) {
+                transactionService.flushTransaction();
+            }
+        }
+    }
+
     @Override
     public List<ExecutionLogEntry> findByInteractionId(final UUID interactionId) {
         return _Casts.uncheckedCast(
@@ -254,6 +268,28 @@ public List<ExecutionLogEntry> findAll() {
     }
 
 
+    @Override
+    public Optional<Timestamp> findTimestampOfNthMostRecent(final int n) {
+        return repositoryService().firstMatch(
+                    Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_MOST_RECENT)
+                            .withRange(n - 1L, 1L))
+                .map(ExecutionLogEntry::getTimestamp);
+    }
+
+    /**
+     * This default implementation removes the entries one by one (and not necessarily oldest first).  Persistence
+     * specific subclasses override this using a bulk delete.
+     */
+    @Override
+    public long removeUpTo(final Timestamp upTo, final int limit) {
+        val entries = repositoryService().allMatches(
+                Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_BY_TIMESTAMP_BEFORE)
+                        .withParameter("to", upTo)
+                        .withLimit(limit));
+        entries.forEach(repositoryService()::remove);
+        return entries.size();
+    }
+
     /**
      * intended for testing purposes only
      */
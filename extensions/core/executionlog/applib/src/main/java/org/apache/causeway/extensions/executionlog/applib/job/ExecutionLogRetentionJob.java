@@ -0,0 +1,157 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionlog.applib.job;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * An implementation of a Quartz {@link Job} that prunes {@link ExecutionLogEntry}s, as per the
+ * <code>causeway.extensions.execution-log.retention</code> configuration: entries older than the maximum age,
+ * and/or beyond the maximum number of entries to keep, are deleted.
+ *
+ * <p>
+ *     Entries are deleted oldest first, in chunks, each chunk in a transaction of its own; so that the job neither
+ *     holds long-running locks nor builds up a large transaction, however much history has accumulated.
+ * </p>
+ *
+ * <p>
+ *     Note that this job is not scheduled by the framework; the application is expected to schedule it (eg. nightly).
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@DisallowConcurrentExecution
+@Log4j2
+public class ExecutionLogRetentionJob implements Job {
+
+    @Inject InteractionService interactionService;
+    @Inject TransactionService transactionService;
+    @Inject ClockService clockService;
+    @Inject ExecutionLogEntryRepository executionLogEntryRepository;
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    @Override
+    public void execute(final JobExecutionContext quartzContext) {
+
+        val config = causewayConfiguration.getExtensions().getExecutionLog().getRetention();
+        if(!config.isEnabled()) {
+            log.debug("no retention policy configured");
+            return;
+        }
+
+        val userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
+        val interactionContext = InteractionContext.builder().user(userMemento).build();
+
+        val startedAtNanos = System.nanoTime();
+        val upToIfAny = determineUpTo(interactionContext, config);
+        if(!upToIfAny.isPresent()) {
+            return;
+        }
+        val upTo = upToIfAny.get();
+
+        long deletedCount = 0L;
+        while(!Thread.currentThread().isInterrupted()) {
+            val deleted = removeChunkWithinOwnTransaction(interactionContext, upTo, config.getChunkSize());
+            if(deleted == 0L) {
+                break;
+            }
+            deletedCount += deleted;
+        }
+
+        log.info("deleted {} execution log entries up to {}, took {}",
+                deletedCount, upTo, Duration.ofNanos(System.nanoTime() - startedAtNanos));
+    }
+
+    /**
+     * The later of the cut-offs as per maximum age and maximum number of entries (if any).
+     */
+    private Optional<Timestamp> determineUpTo(
+            final InteractionContext interactionContext,
+            final CausewayConfiguration.Extensions.ExecutionLog.Retention config) {
+
+        val upToByAge = config.getMaxAge()
+                .map(maxAge -> Timestamp.from(clockService.getClock().nowAsInstant().minus(maxAge)));
+
+        val upToByCount = config.getMaxEntries() > 0
+                ? findTimestampOfNthMostRecentWithinOwnTransaction(interactionContext, config.getMaxEntries())
+                        // keep all entries sharing the timestamp of the n-th most recent
+                        .map(timestamp -> new Timestamp(timestamp.getTime() - 1L))
+                : Optional.<Timestamp>empty();
+
+        if(upToByAge.isPresent()
+                && upToByCount.isPresent()) {
+            return upToByAge.get().after(upToByCount.get())
+                    ? upToByAge
+                    : upToByCount;
+        }
+        return upToByAge.isPresent()
+                ? upToByAge
+                : upToByCount;
+    }
+
+    private Optional<Timestamp> findTimestampOfNthMostRecentWithinOwnTransaction(
+            final InteractionContext interactionContext,
+            final int n) {
+        return interactionService.callAndCatch(interactionContext, () ->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                executionLogEntryRepository.findTimestampOfNthMostRecent(n))
+            .ifFailureFail()
+            .valueAsNonNullElseFail())
+        .ifFailureFail()
+        .valueAsNonNullElseFail();
+    }
+
+    private long removeChunkWithinOwnTransaction(
+            final InteractionContext interactionContext,
+            final Timestamp upTo,
+            final int chunkSize) {
+        return interactionService.callAndCatch(interactionContext, () ->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                executionLogEntryRepository.removeUpTo(upTo, chunkSize))
+            .ifFailureFail()
+            .valueAsNonNullElseFail())
+        .ifFailureFail()
+        .valueAsNonNullElseFail();
+    }
+
+}
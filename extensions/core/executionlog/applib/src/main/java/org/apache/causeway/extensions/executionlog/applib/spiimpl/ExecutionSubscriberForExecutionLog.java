@@ -28,6 +28,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionlog.applib.CausewayModuleExtExecutionLogApplib;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
@@ -65,4 +66,17 @@ public void onExecution(Execution<?, ?> execution) {
         executionLogEntryRepository.createEntryAndPersist(execution);
     }
 
+    /**
+     * Persists the entries in bulk, flushing as per the configured batch size.
+     */
+    @Override
+    public void onExecutions(final Can<Execution<?, ?>> executions) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        executionLogEntryRepository.createEntriesAndPersist(executions,
+                causewayConfiguration.getExtensions().getExecutionLog().getBatchSize());
+    }
+
 }
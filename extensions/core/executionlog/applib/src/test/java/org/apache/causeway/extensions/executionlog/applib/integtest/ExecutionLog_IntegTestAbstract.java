@@ -388,6 +388,55 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void find_nth_most_recent_and_remove_up_to() {
+
+        // given (yesterday)
+        sudoService.run(
+                InteractionContext.switchClock(
+                        VirtualClock.nowAt(clockService.getClock().nowAsLocalDateTime().minusDays(1))),
+                () -> {
+                    wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+                    interactionService.closeInteractionLayers();    // to flush within changed time...
+                });
+        interactionService.openInteraction();
+
+        // given (today)
+        counter1 = counterRepository.findByName("counter-1");
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.nextInteraction();
+
+        counter2 = counterRepository.findByName("counter-2");
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.nextInteraction();
+
+        assertThat(executionLogEntryRepository.findMostRecent()).hasSize(3);
+
+        // when
+        val oldestIfAny = executionLogEntryRepository.findTimestampOfNthMostRecent(3);
+        val beyondOldestIfAny = executionLogEntryRepository.findTimestampOfNthMostRecent(4);
+
+        // then
+        assertThat(oldestIfAny).isPresent();
+        assertThat(beyondOldestIfAny).isEmpty();
+
+        // when
+        val upTo = Timestamp.valueOf(clockService.getClock().nowAsLocalDateTime().minusHours(12));
+        val removed = executionLogEntryRepository.removeUpTo(upTo, 10);
+        interactionService.nextInteraction();
+
+        // then
+        assertThat(removed).isEqualTo(1L);
+        assertThat(executionLogEntryRepository.findMostRecent()).hasSize(2);
+        assertThat(executionLogEntryRepository.findByTimestampBefore(upTo)).isEmpty();
+
+        // when
+        val removedAgain = executionLogEntryRepository.removeUpTo(upTo, 10);
+
+        // then
+        assertThat(removedAgain).isZero();
+    }
+
     @Inject ExecutionLogEntryRepository executionLogEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
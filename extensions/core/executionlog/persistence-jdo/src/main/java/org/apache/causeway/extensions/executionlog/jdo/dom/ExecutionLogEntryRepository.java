@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.executionlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.Collections;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -29,8 +33,10 @@
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jdo.CausewayModuleExtExecutionLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionLogEntryRepository.LOGICAL_TYPE_NAME)
@@ -41,6 +47,8 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogPersistenceJdo.NAMESPACE + ".ExecutionLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
@@ -56,4 +64,26 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    /**
+     * Determines the timestamp of the <code>limit</code>-th oldest entry (by way of a projection), then deletes
+     * up to that timestamp using a single (JDOQL) bulk delete.
+     */
+    @Override
+    public long removeUpTo(final Timestamp upTo, final int limit) {
+        val persistenceManager = jdoSupportService.getPersistenceManager();
+        val query = persistenceManager.newQuery(ExecutionLogEntry.class, "timestamp <= :upTo");
+        query.setResult("timestamp");
+        query.setOrdering("timestamp ascending");
+        query.setRange(0, limit);
+        val timestamps = query
+                .setNamedParameters(Collections.singletonMap("upTo", upTo))
+                .executeResultList(Timestamp.class);
+        if(timestamps.isEmpty()) {
+            return 0L;
+        }
+        return persistenceManager
+                .newQuery(ExecutionLogEntry.class, "timestamp <= :chunkUpTo")
+                .deletePersistentAll(Collections.singletonMap("chunkUpTo", timestamps.get(timestamps.size() - 1)));
+    }
+
 }
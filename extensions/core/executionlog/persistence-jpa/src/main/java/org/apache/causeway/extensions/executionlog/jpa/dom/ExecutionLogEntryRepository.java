@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.extensions.executionlog.jpa.dom;
 
+import java.sql.Timestamp;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -29,8 +32,10 @@
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jpa.CausewayModuleExtExecutionLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionLogEntryRepository.LOGICAL_TYPE_NAME)
@@ -41,6 +46,8 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogPersistenceJpa.NAMESPACE + ".ExecutionLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
@@ -56,4 +63,29 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    /**
+     * Determines the timestamp of the <code>limit</code>-th oldest entry (by way of a projection), then deletes
+     * up to that timestamp using a single bulk delete.
+     */
+    @Override
+    public long removeUpTo(final Timestamp upTo, final int limit) {
+        val entityManager = jpaSupportService.getEntityManagerElseFail(ExecutionLogEntry.class);
+        val timestamps = entityManager
+                .createQuery("SELECT ele.timestamp "
+                        + "  FROM ExecutionLogEntry ele "
+                        + " WHERE ele.timestamp <= :upTo "
+                        + " ORDER BY ele.timestamp ASC", Timestamp.class)
+                .setParameter("upTo", upTo)
+                .setMaxResults(limit)
+                .getResultList();
+        if(timestamps.isEmpty()) {
+            return 0L;
+        }
+        return entityManager
+                .createQuery("DELETE FROM ExecutionLogEntry ele "
+                        + " WHERE ele.timestamp <= :chunkUpTo")
+                .setParameter("chunkUpTo", timestamps.get(timestamps.size() - 1))
+                .executeUpdate();
+    }
+
 }
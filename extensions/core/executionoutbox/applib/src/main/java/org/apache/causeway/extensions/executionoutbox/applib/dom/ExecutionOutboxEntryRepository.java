@@ -24,6 +24,7 @@
 import java.util.UUID;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
@@ -57,6 +58,11 @@ public NotFoundException(final UUID interactionId) {
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * As {@link #findOldest()}, but only those entries time-stamped at or after given watermark.
+     */
+    List<ExecutionOutboxEntry> findOldestFrom(final Timestamp from);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -79,6 +85,18 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes the entries identified by given interaction ids and sequences (typically those handed out to
+     * and processed by an <i>outbox client</i>), in bulk.
+     *
+     * <p>
+     *     Entries not (or no longer) present are ignored.
+     * </p>
+     *
+     * @return the number of entries deleted
+     */
+    long deleteAll(final List<? extends HasInteractionIdAndSequence> entryKeys);
+
     /**
      * for testing purposes only
      */
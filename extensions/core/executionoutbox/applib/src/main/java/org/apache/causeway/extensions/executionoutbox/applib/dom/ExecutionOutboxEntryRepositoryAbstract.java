@@ -19,15 +19,21 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
@@ -63,6 +69,8 @@ public NotFoundException(final UUID interactionId) {
         }
     }
 
+    protected static final int BULK_DELETE_MAX_INTERACTIONS = 100;
+
     private final Class<E> executionOutboxEntryClass;
 
     @Inject Provider<RepositoryService> repositoryServiceProvider;
@@ -114,6 +122,16 @@ public List<ExecutionOutboxEntry> findOldest() {
         );
     }
 
+    public List<ExecutionOutboxEntry> findOldestFrom(final Timestamp from) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST_FROM)
+                        .withParameter("from", from)
+                        .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending())
+                )
+        );
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -172,6 +190,40 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    /**
+     * This default implementation removes the entries one by one.  Persistence specific subclasses override this
+     * using bulk deletes.
+     */
+    public long deleteAll(final List<? extends HasInteractionIdAndSequence> entryKeys) {
+        return entryKeys.stream()
+                .filter(entryKey -> deleteByInteractionIdAndSequence(entryKey.getInteractionId(), entryKey.getSequence()))
+                .count();
+    }
+
+    /**
+     * Supports bulk deletes in persistence specific subclasses: groups the sequences of given entry keys by their
+     * interaction id, and passes these on to the given <code>bulkDelete</code> in chunks
+     * (of up to {@link #BULK_DELETE_MAX_INTERACTIONS} interactions each, so as to bound the size of each statement).
+     *
+     * @return the total number of entries deleted
+     */
+    protected static long deleteAllInChunks(
+            final List<? extends HasInteractionIdAndSequence> entryKeys,
+            final ToLongFunction<List<Map.Entry<UUID, List<Integer>>>> bulkDelete) {
+        final List<Map.Entry<UUID, List<Integer>>> sequencesByInteractionId = new ArrayList<>(entryKeys.stream()
+                .collect(Collectors.groupingBy(
+                        HasInteractionIdAndSequence::getInteractionId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(HasInteractionIdAndSequence::getSequence, Collectors.toList())))
+                .entrySet());
+        long deleted = 0;
+        for(int from = 0; from < sequencesByInteractionId.size(); from += BULK_DELETE_MAX_INTERACTIONS) {
+            deleted += bulkDelete.applyAsLong(sequencesByInteractionId.subList(
+                    from, Math.min(from + BULK_DELETE_MAX_INTERACTIONS, sequencesByInteractionId.size())));
+        }
+        return deleted;
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -18,18 +18,28 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.restapi;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -43,6 +53,13 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     Alternatively, clients can call {@link #awaitPending(String, int)} (which long-polls for new entries from a
+ *     watermark onwards), and then {@link #ack(String) acknowledge} the entries processed in bulk.
+ *     Entries are handed out in batches over plain request/response (rather than pushed as a stream, eg. using
+ *     server-sent events), as the API is served through the Restful Objects viewer's action endpoints.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -52,6 +69,8 @@ public class OutboxRestApi  {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".OutboxRestApi";
 
+    private static final long LONG_POLL_INTERVAL_MILLIS = 500;
+
     final @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
 
     /**
@@ -74,6 +93,85 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As {@link #pending()}, but only entries time-stamped at or after given <code>watermark</code>, and if there
+     * are none, waits (long-polls) for up to <code>waitSecs</code> seconds for new entries to arrive, before
+     * returning an empty batch.
+     *
+     * <p>
+     *     The watermark is in epoch millis; clients pass the time-stamp of the latest entry handed out so far
+     *     (or <code>0</code> to start from the oldest entry). Entries of that very millisecond are handed out
+     *     again, so none are skipped; acknowledging these again is harmless.
+     *     An entry whose transaction commits late, with a time-stamp behind the watermark, is not deleted
+     *     (as only entries handed out are {@link #ack(String) acknowledged}); it is picked up once the client
+     *     starts over from watermark <code>0</code>, as it should do every so often.
+     * </p>
+     *
+     * <p>
+     *     Each poll runs in a transaction of its own, so sees entries committed while waiting (also under
+     *     snapshot isolation). The wait is capped by configuration
+     *     (<code>causeway.extensions.execution-outbox.rest-api.max-wait</code>), as it holds on to the
+     *     request's servlet thread.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents awaitPending(final String watermark, final int waitSecs) {
+        val from = new Timestamp(Long.parseLong(_Strings.isNullOrEmpty(watermark) ? "0" : watermark.trim()));
+        val maxWait = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxWait();
+        val waitMillis = Math.min(TimeUnit.SECONDS.toMillis(Math.max(waitSecs, 0)), maxWait.toMillis());
+        val deadline = System.currentTimeMillis() + waitMillis;
+
+        while(!anyPendingFrom(from)) {
+            val remainingMillis = deadline - System.currentTimeMillis();
+            if(remainingMillis <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(remainingMillis, LONG_POLL_INTERVAL_MILLIS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // read (only now) within the request's own transaction, so the entries are attached
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        outboxEvents.getExecutions().addAll(executionOutboxEntryRepository.findOldestFrom(from));
+        return outboxEvents;
+    }
+
+    private boolean anyPendingFrom(final Timestamp from) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                () -> !executionOutboxEntryRepository.findOldestFrom(from).isEmpty())
+            .valueAsNonNullElseFail();
+    }
+
+    /**
+     * Deletes the entries with given ids, in bulk.
+     *
+     * <p>
+     *     The ids are those of the entries handed out by {@link #pending()} or {@link #awaitPending(String, int)},
+     *     each of the form <code>interactionId_sequence</code>, separated by commas.
+     *     Entries are acknowledged by id (rather than by time-stamp), so that an entry whose transaction
+     *     commits late (with a time-stamp before that of entries already handed out) is not lost.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public void ack(final String entryIds) {
+        val entryKeys = _Strings.splitThenStreamTrimmed(entryIds, ",")
+                .map(EntryKey::parse)
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteAll(entryKeys);
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -99,5 +197,23 @@ public void deleteMany(final String interactionsDtoXml) {
     }
 
     @Inject FactoryService factoryService;
+    @Inject TransactionService transactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    @lombok.Value
+    private static class EntryKey implements HasInteractionIdAndSequence {
+        private static final String SEPARATOR = "_";
+        private final UUID interactionId;
+        private final int sequence;
+        static EntryKey parse(final String entryId) {
+            val separatorIndex = entryId.lastIndexOf(SEPARATOR);
+            if(separatorIndex < 0) {
+                throw _Exceptions.illegalArgument("not an outbox entry id: '%s'", entryId);
+            }
+            return new EntryKey(
+                    UUID.fromString(entryId.substring(0, separatorIndex)),
+                    Integer.parseInt(entryId.substring(separatorIndex + 1)));
+        }
+    }
 
 }
@@ -18,9 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -46,6 +48,7 @@
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixin;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixinWithExecutionPublishingDisabled;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
@@ -283,7 +286,112 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void ack_deletes_just_the_entries_handed_out() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        List<ExecutionOutboxEntry> handedOut = outboxRestApi.awaitPending("0", 0).getExecutions();
+        assertThat(handedOut).hasSize(2);
+
+        // when
+        outboxRestApi.ack(entryIdsOf(handedOut.subList(0, 1)));
+
+        // then
+        assertThat(executionOutboxEntryRepository.findOldest()).containsExactly(handedOut.get(1));
+
+        // when
+        outboxRestApi.ack(entryIdsOf(handedOut));   // acknowledging again is harmless
+
+        // then
+        assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+    }
+
+    @Test
+    void late_committed_entry_is_not_lost() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        List<ExecutionOutboxEntry> firstBatch = outboxRestApi.awaitPending("0", 0).getExecutions();
+        assertThat(firstBatch).hasSize(1);
+        val handedOut = firstBatch.get(0);
+        val interactionDto = handedOut.getInteractionDto();
+
+        // and given an entry time-stamped before the one handed out, but only committed after it had been handed out
+        val lateInteractionId = UUID.randomUUID();
+        executionOutboxEntryRepository.upsert(
+                lateInteractionId, 0, handedOut.getExecutionType(),
+                new Timestamp(handedOut.getTimestamp().getTime() - 1_000L),
+                handedOut.getUsername(), handedOut.getTarget(), handedOut.getLogicalMemberIdentifier(),
+                interactionDto);
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        // when
+        outboxRestApi.ack(entryIdsOf(firstBatch));
+
+        // then
+        List<ExecutionOutboxEntry> secondBatch = outboxRestApi.awaitPending("0", 0).getExecutions();
+        assertThat(secondBatch).hasSize(1);
+        assertThat(secondBatch.get(0).getInteractionId()).isEqualTo(lateInteractionId);
+
+        // when
+        outboxRestApi.ack(entryIdsOf(secondBatch));
+
+        // then
+        assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+    }
+
+    @Test
+    void await_pending_hands_out_entries_from_the_watermark_onwards() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        val earlier = outboxRestApi.awaitPending("0", 0).getExecutions().get(0);
+
+        // and given an entry time-stamped a second later
+        val laterInteractionId = UUID.randomUUID();
+        val laterTimestamp = new Timestamp(earlier.getTimestamp().getTime() + 1_000L);
+        executionOutboxEntryRepository.upsert(
+                laterInteractionId, 0, earlier.getExecutionType(), laterTimestamp,
+                earlier.getUsername(), earlier.getTarget(), earlier.getLogicalMemberIdentifier(),
+                earlier.getInteractionDto());
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        // when
+        List<ExecutionOutboxEntry> fromWatermark =
+                outboxRestApi.awaitPending("" + laterTimestamp.getTime(), 0).getExecutions();
+
+        // then (inclusive of the watermark's own millisecond)
+        assertThat(fromWatermark).hasSize(1);
+        assertThat(fromWatermark.get(0).getInteractionId()).isEqualTo(laterInteractionId);
+
+        // when
+        List<ExecutionOutboxEntry> fromStart = outboxRestApi.awaitPending("0", 0).getExecutions();
+
+        // then
+        assertThat(fromStart).hasSize(2);
+    }
+
+    private static String entryIdsOf(final List<ExecutionOutboxEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.getInteractionId() + "_" + entry.getSequence())
+                .collect(Collectors.joining(","));
+    }
+
     @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
+    @Inject OutboxRestApi outboxRestApi;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
     @Inject InteractionService interactionService;
@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -25,11 +31,14 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionOutboxEntryRepositoryAbstract.LOGICAL_TYPE_NAME)
@@ -38,6 +47,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -58,4 +69,24 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    /**
+     * Deletes the entries using a single (JDOQL) bulk delete per chunk of interactions.
+     */
+    @Override
+    public long deleteAll(final List<? extends HasInteractionIdAndSequence> entryKeys) {
+        val pm = jdoSupportService.getPersistenceManager();
+        return deleteAllInChunks(entryKeys, sequencesByInteractionId -> {
+            val filter = IntStream.range(0, sequencesByInteractionId.size())
+                    .mapToObj(i -> "(interactionId == :interactionId" + i + " && :sequences" + i + ".contains(sequence))")
+                    .collect(Collectors.joining(" || "));
+            val parameters = new HashMap<String, Object>();
+            for(int i = 0; i < sequencesByInteractionId.size(); i++) {
+                parameters.put("interactionId" + i, sequencesByInteractionId.get(i).getKey());
+                parameters.put("sequences" + i, sequencesByInteractionId.get(i).getValue());
+            }
+            return pm.newQuery(ExecutionOutboxEntry.class, filter)
+                    .deletePersistentAll(parameters);
+        });
+    }
+
 }
@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -25,11 +30,14 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionOutboxEntryRepositoryAbstract.LOGICAL_TYPE_NAME)
@@ -38,6 +46,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JpaSupportService jpaSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -58,4 +68,23 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    /**
+     * Deletes the entries using a single (JPQL) bulk delete per chunk of interactions.
+     */
+    @Override
+    public long deleteAll(final List<? extends HasInteractionIdAndSequence> entryKeys) {
+        val entityManager = jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        return deleteAllInChunks(entryKeys, sequencesByInteractionId -> {
+            val where = IntStream.range(0, sequencesByInteractionId.size())
+                    .mapToObj(i -> "(ele.pk.interactionId = :interactionId" + i + " AND ele.pk.sequence IN :sequences" + i + ")")
+                    .collect(Collectors.joining(" OR "));
+            val query = entityManager.createQuery("DELETE FROM ExecutionOutboxEntry ele WHERE " + where);
+            for(int i = 0; i < sequencesByInteractionId.size(); i++) {
+                query.setParameter("interactionId" + i, sequencesByInteractionId.get(i).getKey());
+                query.setParameter("sequences" + i, sequencesByInteractionId.get(i).getValue());
+            }
+            return query.executeUpdate();
+        });
+    }
+
 }
@@ -20,16 +20,21 @@
 
 package org.apache.causeway.extensions.executionoutbox.restclient.api;
 
+import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
 
+import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.io.JsonUtils;
+import org.apache.causeway.extensions.executionoutbox.restclient.api.ack.AckMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
 import org.apache.causeway.schema.common.v2.InteractionType;
@@ -131,6 +136,73 @@ public List<InteractionDto> pending() {
                 .orElseGet(Collections::emptyList);
     }
 
+    /**
+     * As {@link #pending()}, but only interactions that started at or after given <code>watermark</code>
+     * (epoch millis), waiting (long-polling) up to <code>waitSecs</code> seconds for new ones, if there are none yet.
+     *
+     * <p>
+     *     Consumers start with a watermark of <code>0</code>, process and {@link #ack(List) acknowledge} the
+     *     returned interactions, then call again with the {@link #watermarkOf(List, long) watermark of that batch}.
+     *     As the interactions of the watermark's own millisecond are returned again, consumers must tolerate
+     *     duplicates. Every so often consumers should start over from <code>0</code>, to also pick up interactions
+     *     that committed late, behind the watermark.
+     * </p>
+     *
+     * <p>
+     *     The server caps the wait (by default at a few seconds); the read timeout (if any) must allow for it.
+     * </p>
+     */
+    public List<InteractionDto> awaitPending(final long watermark, final int waitSecs) {
+
+        Invocation.Builder invocationBuilder = client.getJaxRsClient()
+                .target(client.uri(outboxClientConfig.getAwaitPendingUri()))
+                // quoted, so that the watermark is passed as a string (rather than a number)
+                .queryParam("watermark", "\"" + watermark + "\"")
+                .queryParam("waitSecs", waitSecs)
+                .request()
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
+        var response = invocationBuilder.get();
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
+    /**
+     * The watermark to request the {@link #awaitPending(long, int) next batch} with, having processed given
+     * interactions; that is, the latest of their start times (in epoch millis), or the
+     * <code>previousWatermark</code> if there are none.
+     */
+    public static long watermarkOf(final List<InteractionDto> interactionDtos, final long previousWatermark) {
+        return interactionDtos.stream()
+                .map(InteractionDto::getExecution)
+                .filter(execution -> execution.getMetrics() != null
+                        && execution.getMetrics().getTimings() != null)
+                .map(execution -> JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(
+                        execution.getMetrics().getTimings().getStartedAt()))
+                .filter(Objects::nonNull)
+                .mapToLong(Timestamp::getTime)
+                .reduce(previousWatermark, Math::max);
+    }
+
+    /**
+     * Acknowledges (deletes) the given interactions, as previously handed out by {@link #pending()} or
+     * {@link #awaitPending(long, int)}, in a single call.
+     */
+    public void ack(final List<InteractionDto> interactionDtos) {
+        if(interactionDtos.isEmpty()) {
+            return;
+        }
+        val entryIds = interactionDtos.stream()
+                .map(interactionDto -> interactionDto.getInteractionId() + "_" + interactionDto.getExecution().getSequence())
+                .collect(Collectors.joining(","));
+        invoke(outboxClientConfig.getAckUri(),
+                new AckMessage(entryIds));
+    }
+
     public void delete(final String interactionId, final int sequence) {
         invoke(outboxClientConfig.getDeleteUri(),
                 new DeleteMessage(interactionId, sequence));
@@ -41,6 +41,12 @@ public class OutboxClientConfig {
     @XmlElement(name="pendingUri")
     private String pendingUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pending/invoke";
 
+    @XmlElement(name="awaitPendingUri")
+    private String awaitPendingUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/awaitPending/invoke";
+
+    @XmlElement(name="ackUri")
+    private String ackUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/ack/invoke";
+
     @XmlElement(name="deleteUri")
     private String deleteUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/delete/invoke";
 
@@ -38,6 +38,25 @@ public interface AuditTrailEntryRepository {
 
     AuditTrailEntry createFor(final EntityPropertyChange change);
 
+    /**
+     * Creates an entry for each of the changes, flushing once every <code>batchSize</code> entries
+     * (rather than once per entry, as {@link #createFor(EntityPropertyChange)} does).
+     *
+     * <p>
+     *     The default implementation simply calls {@link #createFor(EntityPropertyChange)} for each change.
+     * </p>
+     *
+     * @return the number of entries created
+     */
+    default int createForAll(final Iterable<EntityPropertyChange> changes, final int batchSize) {
+        int created = 0;
+        for(final EntityPropertyChange change : changes) {
+            createFor(change);
+            ++created;
+        }
+        return created;
+    }
+
     Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target);
 
     List<AuditTrailEntry> findRecentByTarget(final Bookmark target);
@@ -33,6 +33,7 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
@@ -49,6 +50,7 @@
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
 
     private final Class<E> auditTrailEntryClass;
 
@@ -66,6 +68,26 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    @Override
+    public int createForAll(final Iterable<EntityPropertyChange> changes, final int batchSize) {
+        int created = 0;
+        int pending = 0;
+        for(val change : changes) {
+            E entry = factoryService.detachedEntity(auditTrailEntryClass);
+            entry.init(change);
+            repositoryService.persist(entry);
+            ++created;
+            if(++pending >= batchSize) {
+                transactionService.flushTransaction();
+                pending = 0;
+            }
+        }
+        if(pending > 0) {
+            transactionService.flushTransaction();
+        }
+        return created;
+    }
+
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService.firstMatch(
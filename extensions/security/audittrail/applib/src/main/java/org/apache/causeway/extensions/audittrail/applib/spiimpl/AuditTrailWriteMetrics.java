@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.val;
+
+/**
+ * Metrics of the audit trail entries written in batches by {@link EntityPropertyChangeSubscriberForAuditTrail}
+ * (on this node, since start-up).
+ *
+ * @since 2.0 {@index}
+ */
+public class AuditTrailWriteMetrics {
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    /**
+     * Number of audit trail entries written in batches.
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+    /**
+     * Number of batches written.
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+    /**
+     * Average throughput, in audit trail entries written per second of write time.
+     */
+    public double getThroughput() {
+        val nanos = writeNanos.get();
+        return nanos > 0
+                ? writtenCount.get() * 1_000_000_000d / nanos
+                : 0d;
+    }
+
+    void onWritten(final int count, final long writeNanos) {
+        this.writtenCount.addAndGet(count);
+        this.batchCount.incrementAndGet();
+        this.writeNanos.addAndGet(writeNanos);
+    }
+
+}
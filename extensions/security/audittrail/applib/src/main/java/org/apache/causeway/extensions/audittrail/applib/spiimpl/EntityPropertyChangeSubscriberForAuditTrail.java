@@ -31,18 +31,29 @@
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.AuditTrail.PersistPolicy;
 import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 
 /**
  * Implementation of the Causeway {@link EntityPropertyChangeSubscriber} creates a log
  * entry to the database (the {@link AuditTrailEntry} entity) each time a
  * user either logs on or logs out, or if their session expires.
  *
+ * <p>
+ *     Depending on the configured {@link PersistPolicy}, entries are either written one at a time, or in batches.
+ *     Either way they are written within the transaction the changes are delivered in; to have them written
+ *     asynchronously (after the originating transaction has committed), configure this subscriber's dispatch policy
+ *     (<code>causeway.core.runtime-services.subscriber-dispatch.policies</code>) instead.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -59,9 +70,12 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     final AuditTrailEntryRepository auditTrailEntryRepository;
     final CausewayConfiguration causewayConfiguration;
 
+    @Getter
+    private final AuditTrailWriteMetrics metrics = new AuditTrailWriteMetrics();
+
     @Override
     public boolean isEnabled() {
-        return causewayConfiguration.getExtensions().getAuditTrail().getPersist().isEnabled();
+        return persistPolicy().isEnabled();
     }
 
     @Override
@@ -72,4 +86,34 @@ public void onChanging(final EntityPropertyChange entityPropertyChange) {
         auditTrailEntryRepository.createFor(entityPropertyChange);
     }
 
+    @Override
+    public void onChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if (!isEnabled()
+                || entityPropertyChanges.isEmpty()) {
+            return;
+        }
+        if(persistPolicy().isBatched()) {
+            writeBatched(entityPropertyChanges);
+            return;
+        }
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Extensions.AuditTrail auditTrailConfig() {
+        return causewayConfiguration.getExtensions().getAuditTrail();
+    }
+
+    private PersistPolicy persistPolicy() {
+        return auditTrailConfig().getPersist();
+    }
+
+    private void writeBatched(final Can<EntityPropertyChange> entityPropertyChanges) {
+        val startNanos = System.nanoTime();
+        val count = auditTrailEntryRepository.createForAll(entityPropertyChanges, auditTrailConfig().getBatchSize());
+        val writeNanos = System.nanoTime() - startNanos;
+        metrics.onWritten(count, writeNanos);
+    }
+
 }
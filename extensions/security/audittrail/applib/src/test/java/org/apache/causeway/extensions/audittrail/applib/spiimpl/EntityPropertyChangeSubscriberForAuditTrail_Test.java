@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.AuditTrail.PersistPolicy;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EntityPropertyChangeSubscriberForAuditTrail_Test {
+
+    @Mock TransactionService mockTransactionService;
+    @Mock AuditTrailEntryRepository mockAuditTrailEntryRepository;
+
+    CausewayConfiguration causewayConfiguration;
+    EntityPropertyChangeSubscriberForAuditTrail subscriber;
+
+    final Can<EntityPropertyChange> changes = Can.of(
+            change(0),
+            change(1),
+            change(2));
+
+    @BeforeEach
+    void setUp() {
+        causewayConfiguration = new CausewayConfiguration(null, null);
+        subscriber = new EntityPropertyChangeSubscriberForAuditTrail(
+                mockTransactionService, mockAuditTrailEntryRepository, causewayConfiguration);
+    }
+
+    @Test
+    void enabled_creates_one_entry_at_a_time() {
+        subscriber.onChanging(changes);
+
+        verify(mockAuditTrailEntryRepository, times(3)).createFor(any());
+        verify(mockAuditTrailEntryRepository, never()).createForAll(any(), anyInt());
+    }
+
+    @Test
+    void batched_creates_all_entries_at_once() {
+        auditTrailConfig().setPersist(PersistPolicy.BATCHED);
+        auditTrailConfig().setBatchSize(2);
+        when(mockAuditTrailEntryRepository.createForAll(changes, 2)).thenReturn(3);
+
+        subscriber.onChanging(changes);
+
+        verify(mockAuditTrailEntryRepository).createForAll(changes, 2);
+        verify(mockAuditTrailEntryRepository, never()).createFor(any());
+        assertEquals(3, subscriber.getMetrics().getWrittenCount());
+        assertEquals(1, subscriber.getMetrics().getBatchCount());
+    }
+
+    @Test
+    void disabled_creates_nothing() {
+        auditTrailConfig().setPersist(PersistPolicy.DISABLED);
+
+        assertFalse(subscriber.isEnabled());
+        subscriber.onChanging(changes);
+
+        verify(mockAuditTrailEntryRepository, never()).createFor(any());
+        verify(mockAuditTrailEntryRepository, never()).createForAll(any(), anyInt());
+    }
+
+    private static EntityPropertyChange change(final int sequence) {
+        return EntityPropertyChange.of(UUID.randomUUID(), sequence,
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Counter", "1"),
+                "test.Counter#num", "num", "" + sequence, "" + (sequence + 1), "sven", null);
+    }
+
+    private CausewayConfiguration.Extensions.AuditTrail auditTrailConfig() {
+        return causewayConfiguration.getExtensions().getAuditTrail();
+    }
+
+}
@@ -21,10 +21,12 @@
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Multimaps;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
@@ -99,6 +101,18 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Decision table, populated on demand: the {@link Evaluation}s already computed,
+     * indexed by {@link ApplicationFeatureId} and then by {@link ApplicationPermissionMode#ordinal()}.
+     *
+     * <p>
+     *     As this set is immutable, any given feature/mode combination needs to be evaluated
+     *     (walking its path and consulting the {@link PermissionsEvaluationService}) only once;
+     *     subsequent lookups are a single hash lookup, not allocating any objects.
+     * </p>
+     */
+    private transient volatile Map<ApplicationFeatureId, Evaluation[]> evaluationsByFeature;
+
 
     // -- constructor
 
@@ -145,6 +159,23 @@ public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
 
+        val evaluations = evaluationsByFeature()
+                .computeIfAbsent(featureId, __->new Evaluation[ApplicationPermissionMode.values().length]);
+        val modeIndex = mode.ordinal();
+        val memoized = evaluations[modeIndex];
+        if(memoized != null) {
+            return memoized;
+        }
+        // benign race: concurrent threads would compute the same (immutable) evaluation
+        val evaluation = doEvaluate(featureId, mode);
+        evaluations[modeIndex] = evaluation;
+        return evaluation;
+    }
+
+    private Evaluation doEvaluate(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
+
         for (val pathId : featureId.getPathIds()) {
             val permissionValues = permissionsByFeature.get(pathId);
             val evaluation = permissionsEvaluationService.evaluate(featureId, mode, permissionValues);
@@ -155,6 +186,15 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private Map<ApplicationFeatureId, Evaluation[]> evaluationsByFeature() {
+        Map<ApplicationFeatureId, Evaluation[]> evaluationsByFeature = this.evaluationsByFeature;
+        if(evaluationsByFeature == null) {
+            // benign race; also re-initializes after de-serialization
+            this.evaluationsByFeature = evaluationsByFeature = _Maps.newConcurrentHashMap();
+        }
+        return evaluationsByFeature;
+    }
+
 
     // -- equals, hashCode, toString
     @Override
@@ -72,6 +72,7 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject AuthorizorSecmanPermissionCache sharedCache;
     @Inject MetaModelService metaModelService;
 
     private _Lazy<Identifier> logoutIdentifier = _Lazy.threadSafe(this::logoutIdentifier);
@@ -107,9 +108,10 @@ private boolean grants(
         val userName = authentication.getUser().getName();
         val permissionSetIfAny = cache.get()
                 .computeIfAbsent(userName, ()->
+                sharedCache.computeIfAbsent(userName, ()->
                 applicationUserRepository
                 .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                .map(ApplicationUser::getPermissionSet)));
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
@@ -118,6 +120,10 @@ private boolean grants(
         .orElse(false);
     }
 
+    /**
+     * Keeps the permissions stable for the duration of an interaction,
+     * backed by the (application scoped) {@link AuthorizorSecmanPermissionCache}.
+     */
     @Component
     @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCache")
     @InteractionScope
@@ -0,0 +1,271 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updateUsername;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped cache of each user's {@link ApplicationPermissionValueSet},
+ * shared across interactions and used by {@link AuthorizorSecman}.
+ *
+ * <p>
+ * Bounded in size (least recently used entries are evicted first) and in time
+ * (entries expire after the configured time-to-live).
+ * Entries are invalidated, whenever an {@link ApplicationUser}, {@link ApplicationRole}
+ * or {@link ApplicationPermission} is persisted, updated or removed, both immediately
+ * and once the surrounding transaction completes.
+ * When a user is renamed (by means of {@link ApplicationUser_updateUsername}), the entries
+ * of both the old and the new username are invalidated.
+ * </p>
+ *
+ * @see CausewayConfiguration.Extensions.Secman.PermissionsCache
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecmanPermissionCache")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AuthorizorSecmanPermissionCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+
+    /** access ordered, guarded by itself */
+    private final Map<String, CacheEntry> entriesByUsername;
+
+    /** incremented on every invalidation, such that lookups racing with an invalidation are not cached */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    // overridable for testing
+    LongSupplier nanoClock = System::nanoTime;
+
+    @Inject
+    public AuthorizorSecmanPermissionCache(final CausewayConfiguration causewayConfiguration) {
+        val config = causewayConfiguration.getExtensions().getSecman().getPermissionsCache();
+        this.enabled = config.isEnabled()
+                && config.getMaxSize()>0
+                && !config.getTimeToLive().isNegative()
+                && !config.getTimeToLive().isZero();
+        this.maxSize = config.getMaxSize();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.entriesByUsername = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+                if(size() > maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached permission set for given {@code userName}, if present and not expired,
+     * otherwise calls given {@code lookup} and (unless concurrently invalidated) caches its result.
+     */
+    public Optional<ApplicationPermissionValueSet> computeIfAbsent(
+            final @NonNull String userName,
+            final @NonNull Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+        if(!enabled) {
+            return lookup.get();
+        }
+
+        synchronized(entriesByUsername) {
+            val entry = entriesByUsername.get(userName);
+            if(entry!=null) {
+                if(!entry.isExpired(nanoClock.getAsLong())) {
+                    hitCount.increment();
+                    return entry.getPermissionSet();
+                }
+                entriesByUsername.remove(userName);
+                evictionCount.increment();
+            }
+        }
+
+        missCount.increment();
+
+        // not holding the lock while hitting the database
+        val generationBeforeLookup = generation.get();
+        val permissionSet = lookup.get();
+
+        synchronized(entriesByUsername) {
+            if(generationBeforeLookup == generation.get()) {
+                entriesByUsername.put(userName,
+                        new CacheEntry(permissionSet, nanoClock.getAsLong() + timeToLiveNanos));
+            }
+        }
+        return permissionSet;
+    }
+
+    public void invalidate(final @NonNull String userName) {
+        synchronized(entriesByUsername) {
+            generation.incrementAndGet();
+            invalidationCount.increment();
+            entriesByUsername.remove(userName);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized(entriesByUsername) {
+            generation.incrementAndGet();
+            invalidationCount.increment();
+            entriesByUsername.clear();
+        }
+    }
+
+    // -- METRICS
+
+    public int getSize() {
+        synchronized(entriesByUsername) {
+            return entriesByUsername.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    // -- ENTITY CHANGE LISTENERS
+
+    @EventListener(PostStoreEvent.class)
+    public void onPostStore(final PostStoreEvent event) {
+        invalidateIfAffected(event.getPersistableObject());
+    }
+
+    @EventListener(PreRemoveEvent.class)
+    public void onPreRemove(final PreRemoveEvent event) {
+        invalidateIfAffected(event.getPersistableObject());
+    }
+
+    /**
+     * The store of a renamed user only tells the new username, hence the old one is taken
+     * from the user just before the rename is executed.
+     */
+    @EventListener(ApplicationUser_updateUsername.DomainEvent.class)
+    public void onUpdateUsername(final ApplicationUser_updateUsername.DomainEvent event) {
+        if(event.getEventPhase() != AbstractDomainEvent.Phase.EXECUTING) {
+            return;
+        }
+        invalidateIfAffected(event.getSubject());
+    }
+
+    // -- HELPER
+
+    private void invalidateIfAffected(final Object entity) {
+        if(!enabled) {
+            return;
+        }
+        if(entity instanceof ApplicationUser) {
+            val userName = ((ApplicationUser) entity).getUsername();
+            if(userName!=null) {
+                log.debug("invalidating cached permissions of user {}", userName);
+                invalidateNowAndAfterCompletion(()->invalidate(userName));
+            }
+        } else if(entity instanceof ApplicationRole
+                || entity instanceof ApplicationPermission) {
+            log.debug("invalidating all cached permissions, triggered by {}", entity);
+            invalidateNowAndAfterCompletion(this::invalidateAll);
+        }
+    }
+
+    /**
+     * Invalidating again after completion, as concurrent interactions might have re-populated
+     * the cache with values read before this transaction committed.
+     */
+    private void invalidateNowAndAfterCompletion(final Runnable invalidation) {
+        invalidation.run();
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class CacheEntry {
+        private final Optional<ApplicationPermissionValueSet> permissionSet;
+        private final long expiresAtNanos;
+
+        Optional<ApplicationPermissionValueSet> getPermissionSet() {
+            return permissionSet;
+        }
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+}
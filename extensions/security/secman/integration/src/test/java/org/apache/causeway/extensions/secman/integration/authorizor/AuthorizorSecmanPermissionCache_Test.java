@@ -0,0 +1,208 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.applib.user.dom.mixins.ApplicationUser_updateUsername;
+
+import lombok.val;
+
+class AuthorizorSecmanPermissionCache_Test {
+
+    CausewayConfiguration causewayConfiguration;
+    AuthorizorSecmanPermissionCache cache;
+    AtomicLong now;
+    AtomicInteger lookups;
+
+    @BeforeEach
+    void setup() {
+        causewayConfiguration = new CausewayConfiguration(null, null);
+        val config = causewayConfiguration.getExtensions().getSecman().getPermissionsCache();
+        config.setEnabled(true);
+        config.setMaxSize(2);
+        config.setTimeToLive(Duration.ofSeconds(10));
+
+        now = new AtomicLong();
+        lookups = new AtomicInteger();
+        cache = newCache();
+    }
+
+    @Test
+    void second_lookup_is_a_hit() {
+        lookup("joe");
+        lookup("joe");
+
+        assertThat(lookups.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_forces_lookup() {
+        lookup("joe");
+        lookup("bob");
+        cache.invalidate("joe");
+        lookup("joe");
+        lookup("bob");
+
+        assertThat(lookups.get()).isEqualTo(3);
+
+        cache.invalidateAll();
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void expired_entries_are_evicted() {
+        lookup("joe");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        lookup("joe");
+
+        assertThat(lookups.get()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void least_recently_used_entries_are_evicted() {
+        lookup("joe");
+        lookup("bob");
+        lookup("joe");
+        lookup("sue"); // evicts bob
+        lookup("joe");
+        lookup("bob");
+
+        assertThat(lookups.get()).isEqualTo(4);
+        assertThat(cache.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void when_disabled_always_does_lookup() {
+        causewayConfiguration.getExtensions().getSecman().getPermissionsCache().setEnabled(false);
+        cache = newCache();
+
+        lookup("joe");
+        lookup("joe");
+
+        assertThat(lookups.get()).isEqualTo(2);
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void storing_a_permission_forces_lookup() {
+        lookup("joe");
+        lookup("bob");
+        cache.onPostStore(PostStoreEvent.of(Mockito.mock(ApplicationPermission.class)));
+        lookup("joe");
+        lookup("bob");
+
+        assertThat(lookups.get()).isEqualTo(4);
+    }
+
+    @Test
+    void removing_a_role_forces_lookup() {
+        lookup("joe");
+        cache.onPreRemove(PreRemoveEvent.of(Mockito.mock(ApplicationRole.class)));
+        lookup("joe");
+
+        assertThat(lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    void storing_a_user_forces_lookup_of_that_user_only() {
+        lookup("joe");
+        lookup("bob");
+        cache.onPostStore(PostStoreEvent.of(user("joe")));
+        lookup("joe");
+        lookup("bob");
+
+        assertThat(lookups.get()).isEqualTo(3);
+    }
+
+    @Test
+    void renaming_a_user_forces_lookup_of_old_and_new_username() {
+        lookup("joe");
+        lookup("joseph");
+
+        // executing the rename, while the user still has its old username
+        val user = user("joe");
+        val event = new ApplicationUser_updateUsername.DomainEvent();
+        event.setMixee(user);
+        event.setEventPhase(AbstractDomainEvent.Phase.EXECUTING);
+        cache.onUpdateUsername(event);
+
+        // storing the user, now having its new username
+        cache.onPostStore(PostStoreEvent.of(user("joseph")));
+
+        lookup("joe");
+        lookup("joseph");
+
+        assertThat(lookups.get()).isEqualTo(4);
+    }
+
+    @Test
+    void when_disabled_entity_changes_are_ignored() {
+        causewayConfiguration.getExtensions().getSecman().getPermissionsCache().setEnabled(false);
+        cache = newCache();
+
+        cache.onPostStore(PostStoreEvent.of(Mockito.mock(ApplicationRole.class)));
+
+        assertThat(cache.getInvalidationCount()).isZero();
+    }
+
+    // -- HELPER
+
+    private static ApplicationUser user(final String userName) {
+        val user = Mockito.mock(ApplicationUser.class);
+        Mockito.when(user.getUsername()).thenReturn(userName);
+        return user;
+    }
+
+    private AuthorizorSecmanPermissionCache newCache() {
+        val cache = new AuthorizorSecmanPermissionCache(causewayConfiguration);
+        cache.nanoClock = now::get;
+        return cache;
+    }
+
+    private Optional<ApplicationPermissionValueSet> lookup(final String userName) {
+        return cache.computeIfAbsent(userName, ()->{
+            lookups.incrementAndGet();
+            return Optional.of(new ApplicationPermissionValueSet(Collections.emptyList(), null));
+        });
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.commons.internal.collections._Multimaps;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+
+import lombok.val;
+
+/**
+ * Simulates the permission checks of a page render, that is a large menu bar
+ * (visibility and usability of each action) plus a table of 500 rows and 50 columns
+ * (visibility of each cell), comparing {@link ApplicationPermissionValueSet#grants}
+ * with the former (non memoizing) evaluation, that walks the feature's path for each check.
+ * <p>
+ * Not a test, hence not picked up by surefire. Run via {@link #main(String[])}
+ * from the IDE (test class-path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationPermissionValueSetBenchmark {
+
+    private static final int NAMESPACES = 10;
+    private static final int TYPES_PER_NAMESPACE = 10;
+    private static final int MENU_ACTIONS = 300;
+    private static final int TABLE_ROWS = 500;
+    private static final int TABLE_COLUMNS = 50;
+
+    private PermissionsEvaluationService evaluationService;
+    private ApplicationPermissionValueSet permissionSet;
+    private _Multimaps.SetMultimap<ApplicationFeatureId, ApplicationPermissionValue> permissionsByFeature;
+
+    private List<ApplicationFeatureId> menuActions;
+    private List<ApplicationFeatureId> tableColumns;
+
+    @Setup
+    public void setup() {
+        evaluationService = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+
+        val permissionValues = new ArrayList<ApplicationPermissionValue>();
+        for(int ns=0; ns<NAMESPACES; ++ns) {
+            permissionValues.add(new ApplicationPermissionValue(
+                    ApplicationFeatureId.newNamespace(namespace(ns)),
+                    ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.CHANGING));
+            for(int type=0; type<TYPES_PER_NAMESPACE; type+=3) {
+                permissionValues.add(new ApplicationPermissionValue(
+                        ApplicationFeatureId.newType(logicalTypeName(ns, type)),
+                        ApplicationPermissionRule.VETO, ApplicationPermissionMode.CHANGING));
+            }
+        }
+        permissionSet = new ApplicationPermissionValueSet(permissionValues, evaluationService);
+
+        permissionsByFeature = _Multimaps.newSortedSetMultimap(Collections.reverseOrder(), null);
+        permissionValues.forEach(value->permissionsByFeature.putElement(value.getFeatureId(), value));
+
+        menuActions = new ArrayList<>();
+        for(int i=0; i<MENU_ACTIONS; ++i) {
+            menuActions.add(ApplicationFeatureId.newMember(
+                    logicalTypeName(i % NAMESPACES, i % TYPES_PER_NAMESPACE), "action" + i));
+        }
+        tableColumns = new ArrayList<>();
+        for(int i=0; i<TABLE_COLUMNS; ++i) {
+            tableColumns.add(ApplicationFeatureId.newMember(logicalTypeName(0, 1), "property" + i));
+        }
+    }
+
+    @Benchmark
+    public void renderDecisionTable(final Blackhole blackhole) {
+        render(blackhole, (featureId, mode)->permissionSet.grants(featureId, mode));
+    }
+
+    @Benchmark
+    public void renderPathWalk(final Blackhole blackhole) {
+        render(blackhole, this::grantsByPathWalk);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApplicationPermissionValueSetBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+    // -- HELPER
+
+    @FunctionalInterface
+    private interface Grants {
+        boolean grants(ApplicationFeatureId featureId, ApplicationPermissionMode mode);
+    }
+
+    private void render(final Blackhole blackhole, final Grants grants) {
+        for(val action : menuActions) {
+            blackhole.consume(grants.grants(action, ApplicationPermissionMode.VIEWING));
+            blackhole.consume(grants.grants(action, ApplicationPermissionMode.CHANGING));
+        }
+        for(int row=0; row<TABLE_ROWS; ++row) {
+            for(val column : tableColumns) {
+                blackhole.consume(grants.grants(column, ApplicationPermissionMode.VIEWING));
+            }
+        }
+    }
+
+    /** the former implementation of {@link ApplicationPermissionValueSet#evaluate} */
+    private boolean grantsByPathWalk(final ApplicationFeatureId featureId, final ApplicationPermissionMode mode) {
+        for (val pathId : featureId.getPathIds()) {
+            val permissionValues = permissionsByFeature.get(pathId);
+            val evaluation = evaluationService.evaluate(featureId, mode, permissionValues);
+            if(evaluation != null) {
+                return evaluation.isGranted();
+            }
+        }
+        return false;
+    }
+
+    private static String namespace(final int ns) {
+        return "com.mycompany.module" + ns;
+    }
+
+    private static String logicalTypeName(final int ns, final int type) {
+        return namespace(ns) + ".Type" + type;
+    }
+
+}
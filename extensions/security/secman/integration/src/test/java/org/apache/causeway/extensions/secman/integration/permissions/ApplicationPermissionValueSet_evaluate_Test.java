@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newMember;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newType;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.VETO;
+
+import lombok.val;
+
+class ApplicationPermissionValueSet_evaluate_Test {
+
+    ApplicationPermissionValueSet permissionSet;
+
+    @BeforeEach
+    void setup() {
+        val evaluator = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+
+        permissionSet = new ApplicationPermissionValueSet(
+                List.of(
+                    new ApplicationPermissionValue(newNamespace("customer"), ALLOW, CHANGING),
+                    new ApplicationPermissionValue(newType("customer.Customer"), VETO, CHANGING)),
+                evaluator);
+    }
+
+    @Test
+    void repeated_evaluation_is_memoized() {
+        val first = permissionSet.evaluate(newMember("customer.Customer#lastName"), VIEWING);
+        val second = permissionSet.evaluate(newMember("customer.Customer#lastName"), VIEWING);
+
+        assertThat(first.isGranted()).isTrue();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void modes_are_evaluated_independently() {
+        assertThat(permissionSet.grants(newMember("customer.Address#street"), VIEWING)).isTrue();
+        assertThat(permissionSet.grants(newMember("customer.Address#street"), CHANGING)).isTrue();
+        assertThat(permissionSet.grants(newMember("customer.Customer#lastName"), VIEWING)).isTrue();
+        assertThat(permissionSet.grants(newMember("customer.Customer#lastName"), CHANGING)).isFalse();
+        assertThat(permissionSet.grants(newMember("order.Order#number"), VIEWING)).isFalse();
+    }
+
+}
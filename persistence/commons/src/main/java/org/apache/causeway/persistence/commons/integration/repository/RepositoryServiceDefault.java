@@ -23,7 +23,6 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -36,6 +35,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.exceptions.unrecoverable.PersistFailedException;
 import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
+import org.apache.causeway.applib.query.Criteria;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.factory.FactoryService;
@@ -44,7 +44,6 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.base._Casts;
-import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
@@ -79,6 +78,7 @@
     final MetaModelContext metaModelContext;
 
     private boolean autoFlush;
+    private int predicatePageSize;
 
     @PostConstruct
     public void init() {
@@ -86,6 +86,7 @@ public void init() {
                 causewayConfiguration.getPersistence().getCommons().getRepositoryService().isDisableAutoFlush() ||
                 causewayConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.predicatePageSize = causewayConfiguration.getPersistence().getCommons().getRepositoryService().getPredicatePageSize();
     }
 
     @Override
@@ -163,9 +164,11 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
-        return _NullSafe.stream(allInstances(ofType, start, count))
-                .filter(predicate)
-                .collect(Collectors.toCollection(ArrayList::new));
+        if(predicate instanceof Criteria) {
+            return allMatches(Query.matching(ofType, asCriteria(predicate))
+                    .withRange(QueryRange.of(start, count)));
+        }
+        return filterPaged(ofType, predicate, start, count);
     }
 
 
@@ -194,7 +197,9 @@ <T> List<T> submitQuery(final Query<T> query) {
 
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
+        final List<T> instances = predicate instanceof Criteria
+                ? allMatches(Query.matching(type, asCriteria(predicate)).withLimit(2L)) // No need to fetch more than 2.
+                : filterPaged(type, predicate, 0L, 2L);
         if (instances.size() > 1) {
             throw new RepositoryException("Found more than one instance of " + type + " matching filter " + predicate);
         }
@@ -213,7 +218,9 @@ public <T> Optional<T> uniqueMatch(final Query<T> query) {
 
     @Override
     public <T> Optional<T> firstMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
+        final List<T> instances = predicate instanceof Criteria
+                ? allMatches(Query.matching(type, asCriteria(predicate)).withLimit(1L))
+                : filterPaged(type, predicate, 0L, 1L);
         return firstInstanceElseEmpty(instances);
     }
 
@@ -259,6 +266,53 @@ public <T> void removeAll(final Class<T> cls) {
 
     // -- HELPER
 
+    /**
+     * Client-side filtering for predicates that cannot be translated into a native query:
+     * fetches all instances page by page (rather than all at once), retaining only those that match.
+     * The range applies to the matching instances, so fetching stops as soon as it is filled.
+     *
+     * @param count - zero meaning unconstrained
+     */
+    private <T> List<T> filterPaged(
+            final Class<T> ofType,
+            final Predicate<? super T> predicate,
+            final long start,
+            final long count) {
+
+        final long maxMatches = count<=0L ? Long.MAX_VALUE : count;
+        final List<T> matches = new ArrayList<>();
+        long matchesToSkip = start;
+        long offset = 0L;
+        while(true) {
+            val pageQuery = Query.allInstances(ofType).withRange(QueryRange.of(offset, predicatePageSize));
+            // auto-flush (if enabled) only once, before the first page
+            val page = offset == 0L
+                    ? allMatches(pageQuery)
+                    : submitQuery(pageQuery);
+            for(val candidate : page) {
+                if(!predicate.test(candidate)) {
+                    continue;
+                }
+                if(matchesToSkip > 0L) {
+                    --matchesToSkip;
+                    continue;
+                }
+                matches.add(candidate);
+                if(matches.size() >= maxMatches) {
+                    return matches;
+                }
+            }
+            if(page.size() < predicatePageSize) {
+                return matches; // no more instances
+            }
+            offset += predicatePageSize;
+        }
+    }
+
+    private static <T> Criteria<T> asCriteria(final Predicate<? super T> predicate) {
+        return _Casts.uncheckedCast(predicate);
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
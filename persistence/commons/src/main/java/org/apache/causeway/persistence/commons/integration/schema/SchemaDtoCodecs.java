@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.schema;
+
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Provides the {@link SchemaDtoCodec} that the persistence type converters of the
+ * <code>org.apache.causeway.schema</code> DTOs write with.
+ * <p>
+ * These converters are instantiated by the persistence provider rather than by Spring, hence
+ * the codec is looked up from the configuration of the {@link MetaModelContext} rather than injected.
+ *
+ * @since 2.0
+ */
+@UtilityClass
+public class SchemaDtoCodecs {
+
+    /**
+     * The codec as configured by <code>causeway.persistence.commons.schema-dto-codec</code>,
+     * else {@link SchemaDtoCodec#XML} (if there is no {@link MetaModelContext}).
+     */
+    public SchemaDtoCodec configured() {
+        return MetaModelContext.instance()
+                .map(mmc -> mmc.getConfiguration().getPersistence().getCommons().getSchemaDtoCodec())
+                .orElse(SchemaDtoCodec.XML);
+    }
+
+}
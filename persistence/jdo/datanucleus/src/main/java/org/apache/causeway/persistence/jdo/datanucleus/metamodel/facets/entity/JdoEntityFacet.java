@@ -37,6 +37,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.MatchingQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
@@ -234,14 +235,46 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             val persistenceManager = getPersistenceManager();
 
-            val typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
-            typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            val jdoQuery = persistenceManager.newQuery(queryEntityType);
+            jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
 
             if(!range.isUnconstrained()) {
-                typedQuery.range(range.getStart(), range.getEnd());
+                // pages are only well defined, if the order is
+                jdoQuery.setOrdering(_MetadataUtil.primaryKeyOrderingFor(persistenceManager, entityClass));
+                jdoQuery.range(range.getStart(), range.getEnd());
             }
 
-            val resultList = fetchWithinTransaction(typedQuery::executeList);
+            val resultList = fetchWithinTransaction(jdoQuery::executeList);
+
+            if(range.hasLimit()) {
+                _Assert.assertTrue(resultList.size()<=range.getLimit());
+            }
+
+            return resultList;
+
+        } else if(query instanceof MatchingQuery) {
+
+            val matchingQuery = (MatchingQuery<?>) query;
+            val queryEntityType = matchingQuery.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+
+            val translator = new _JdoqlCriteriaTranslator(
+                    getSpecificationLoader().specForTypeElseFail(queryEntityType));
+            val filter = matchingQuery.getCriteria().accept(translator);
+
+            val persistenceManager = getPersistenceManager();
+
+            val jdoQuery = persistenceManager.newQuery(queryEntityType, filter)
+                    .setNamedParameters(translator.getParametersByName());
+            jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+            if(!range.isUnconstrained()) {
+                jdoQuery.range(range.getStart(), range.getEnd());
+            }
+
+            val resultList = fetchWithinTransaction(jdoQuery::executeList);
 
             if(range.hasLimit()) {
                 _Assert.assertTrue(resultList.size()<=range.getLimit());
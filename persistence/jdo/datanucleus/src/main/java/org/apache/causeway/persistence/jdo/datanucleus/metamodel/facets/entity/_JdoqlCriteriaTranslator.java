@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.Criteria;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Translates {@link Criteria} into a JDOQL filter, using implicit (named) parameters for all values.
+ * <p>
+ * As property paths end up in the filter string verbatim, each of their segments is first resolved
+ * against the metamodel, starting from the queried entity's specification.
+ */
+@RequiredArgsConstructor
+class _JdoqlCriteriaTranslator implements Criteria.Visitor<String> {
+
+    private final @NonNull ObjectSpecification entitySpec;
+
+    /** the values of the implicit parameters referenced by the filter */
+    @Getter private final Map<String, Object> parametersByName = _Maps.newLinkedHashMap();
+
+    @Override
+    public String visitComparison(
+            final @NonNull String propertyPath,
+            final @NonNull Criteria.Operator operator,
+            final @Nullable Object value) {
+
+        validate(propertyPath);
+
+        switch (operator) {
+        case EQ:
+            return value == null
+                    ? propertyPath + " == null"
+                    : propertyPath + " == " + parameter(value);
+        case NOT_EQ:
+            return value == null
+                    ? propertyPath + " != null"
+                    : propertyPath + " != " + parameter(value);
+        case IS_NULL:
+            return propertyPath + " == null";
+        case IS_NOT_NULL:
+            return propertyPath + " != null";
+        case LT:
+            return propertyPath + " < " + parameter(value);
+        case LE:
+            return propertyPath + " <= " + parameter(value);
+        case GT:
+            return propertyPath + " > " + parameter(value);
+        case GE:
+            return propertyPath + " >= " + parameter(value);
+        case STARTS_WITH:
+            return propertyPath + ".startsWith(" + parameter(value) + ")";
+        case CONTAINS:
+            return propertyPath + ".indexOf(" + parameter(value) + ") >= 0";
+        default:
+            throw _Exceptions.unmatchedCase(operator);
+        }
+    }
+
+    @Override
+    public String visitAllOf(final @NonNull List<String> operands) {
+        return junction(operands, " && ", "true");
+    }
+
+    @Override
+    public String visitAnyOf(final @NonNull List<String> operands) {
+        return junction(operands, " || ", "false");
+    }
+
+    @Override
+    public String visitNot(final @NonNull String operand) {
+        return "!(" + operand + ")";
+    }
+
+    // -- HELPER
+
+    private void validate(final String propertyPath) {
+        ObjectSpecification spec = entitySpec;
+        for(val propertyName : propertyPath.split("\\.", -1)) {
+            val owningSpec = spec;
+            val association = owningSpec.getAssociation(propertyName, MixedIn.EXCLUDED)
+                    .orElseThrow(()->_Exceptions.illegalArgument(
+                            "criteria property path '%s' does not resolve: '%s' is not a property of %s",
+                            propertyPath, propertyName, owningSpec.getLogicalTypeName()));
+            if(!association.isOneToOneAssociation()) {
+                // same as JPA, which cannot navigate through plural attributes either
+                throw _Exceptions.illegalArgument(
+                        "criteria property path '%s' is not supported: '%s' of %s is a collection",
+                        propertyPath, propertyName, owningSpec.getLogicalTypeName());
+            }
+            spec = association.getElementType();
+        }
+    }
+
+    private String parameter(final Object value) {
+        val name = "p" + parametersByName.size();
+        parametersByName.put(name, value);
+        return ":" + name;
+    }
+
+    private static String junction(final List<String> operands, final String operator, final String ifEmpty) {
+        return operands.isEmpty()
+                ? ifEmpty
+                : operands.stream()
+                    .map(operand->"(" + operand + ")")
+                    .collect(Collectors.joining(operator));
+    }
+
+}
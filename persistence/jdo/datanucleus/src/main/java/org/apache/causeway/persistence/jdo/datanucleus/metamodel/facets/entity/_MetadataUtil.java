@@ -19,6 +19,7 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.jdo.PersistenceManager;
 import javax.jdo.metadata.MemberMetadata;
@@ -58,6 +59,29 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * JDOQL ordering by primary key, either by the primary key members (application identity)
+     * or by the datastore identity.
+     */
+    String primaryKeyOrderingFor(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull Class<?> entityClass) {
+
+        val pmf = persistenceManager.getPersistenceManagerFactory();
+        val typeMetadata = pmf.getMetadata(entityClass.getName());
+
+        switch (typeMetadata.getIdentityType()) {
+            case APPLICATION:
+                return _NullSafe.stream(typeMetadata.getMembers())
+                        .filter(member->Boolean.TRUE.equals(member.getPrimaryKey()))
+                        .map(member->member.getName() + " ascending")
+                        .collect(Collectors.joining(", "));
+            case DATASTORE:
+            default:
+                return "JDOHelper.getObjectId(this) ascending";
+        }
+    }
+
     // -- HELPER
 
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
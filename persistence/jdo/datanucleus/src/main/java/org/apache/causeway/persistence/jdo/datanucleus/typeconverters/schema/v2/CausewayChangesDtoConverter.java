@@ -21,6 +21,8 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
+import org.apache.causeway.persistence.commons.integration.schema.SchemaDtoCodecs;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -32,12 +34,12 @@ public class CausewayChangesDtoConverter implements TypeConverter<ChangesDto, St
 
     @Override
     public String toDatastoreType(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return SchemaDtoCodecs.configured().encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto toMemberType(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return SchemaDtoCodec.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -21,6 +21,8 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
+import org.apache.causeway.persistence.commons.integration.schema.SchemaDtoCodecs;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -32,12 +34,12 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return SchemaDtoCodecs.configured().encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return SchemaDtoCodec.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -21,6 +21,8 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
+import org.apache.causeway.persistence.commons.integration.schema.SchemaDtoCodecs;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
@@ -32,12 +34,12 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return SchemaDtoCodecs.configured().encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return SchemaDtoCodec.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
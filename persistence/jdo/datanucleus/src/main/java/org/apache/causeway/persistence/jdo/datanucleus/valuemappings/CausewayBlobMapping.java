@@ -34,6 +34,11 @@
 import org.apache.causeway.applib.value.Blob;
 
 /**
+ * Maps a {@link Blob} to three columns: name, mime type and content.
+ * <p>
+ * The content is read in full whenever the field is loaded; to only load it once actually accessed, exclude the
+ * field from the default fetch group, eg. {@code @Persistent(defaultFetchGroup="false")}.
+ *
  * @since 1.x {@index}
  */
 public class CausewayBlobMapping extends SingleFieldMultiMapping {
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.persistence.jpa.applib.integration;
 
+import java.util.Optional;
+
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.persistence.PostLoad;
@@ -129,16 +131,10 @@ private Can<PropertyChangeRecord> gatherPropertyChangeRecords(final @Nullable Ma
         }
 
         final Object entityPojo = entity.getPojo();
-        val entityManagerIfAny = jpaSupportServiceProvider.get().getEntityManager(entityPojo.getClass())
-                .getValue();
 
-        final Can<PropertyChangeRecord> propertyChangeRecords = entityManagerIfAny
-            .map(em -> {
-                // https://wiki.eclipse.org/EclipseLink/FAQ/JPA#How_to_access_what_changed_in_an_object_or_transaction.3F
-                val unwrap = em.unwrap(UnitOfWork.class);
-                val changes = unwrap.getCurrentChanges();
-                return changes.getObjectChangeSetForClone(entityPojo);
-            })
+        final Can<PropertyChangeRecord> propertyChangeRecords = ObjectChangeSetCapturingListener.consume(entityPojo)
+            // the change set of just this entity, as already calculated by EclipseLink for the flush in progress
+            .or(()->lookupObjectChangeSet(entityPojo))
             .map((final ObjectChangeSet objectChanges)->{
                 return
                     objectChanges.getChanges().stream()
@@ -157,4 +153,19 @@ private Can<PropertyChangeRecord> gatherPropertyChangeRecords(final @Nullable Ma
         return propertyChangeRecords;
     }
 
+    /**
+     * Fallback, if no {@link ObjectChangeSet} was captured by the {@link ObjectChangeSetCapturingListener}:
+     * has EclipseLink calculate the changes of the entire unit of work.
+     */
+    private Optional<ObjectChangeSet> lookupObjectChangeSet(final Object entityPojo) {
+        return jpaSupportServiceProvider.get().getEntityManager(entityPojo.getClass())
+            .getValue()
+            .map(em -> {
+                // https://wiki.eclipse.org/EclipseLink/FAQ/JPA#How_to_access_what_changed_in_an_object_or_transaction.3F
+                val unwrap = em.unwrap(UnitOfWork.class);
+                val changes = unwrap.getCurrentChanges();
+                return changes.getObjectChangeSetForClone(entityPojo);
+            });
+    }
+
 }
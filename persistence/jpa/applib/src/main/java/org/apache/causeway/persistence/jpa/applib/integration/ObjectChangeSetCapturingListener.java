@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.applib.integration;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.SessionEventListener;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * EclipseLink descriptor event listener, that captures the {@link ObjectChangeSet}, which EclipseLink has already
+ * calculated for an entity that is about to be updated (as part of a flush or commit).
+ * <p>
+ * This allows {@link CausewayEntityListener#onPreUpdate(Object)} to gather the
+ * {@link org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord}s of just the dirty
+ * attributes of that entity, rather than having EclipseLink calculate the changes of the entire unit of work once
+ * per updated entity.
+ * <p>
+ * EclipseLink fires the <i>preUpdate</i> event (received here) for an entity before the
+ * <i>preUpdateWithChanges</i> event (which JPA's {@link javax.persistence.PreUpdate} callbacks are bound to),
+ * and both on the same thread.
+ * <p>
+ * Captured change sets are held per thread; should a flush fail half-way, those not yet consumed are discarded
+ * once the transaction completes, as signaled by the {@link #transactionCompletionListener()}, which must be
+ * registered with the session as well.
+ *
+ * @since 2.0 {@index}
+ */
+public class ObjectChangeSetCapturingListener extends DescriptorEventAdapter {
+
+    private static final ThreadLocal<Map<Object, ObjectChangeSet>> capturedChangeSets =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    @Override
+    public void preUpdate(final DescriptorEvent event) {
+        val changeSet = event.getChangeSet();
+        if(changeSet != null
+                && changeSet.hasChanges()) {
+            capturedChangeSets.get().put(event.getObject(), changeSet);
+        }
+    }
+
+    @Override
+    public void postUpdate(final DescriptorEvent event) {
+        // in case not consumed by the JPA callback
+        capturedChangeSets.get().remove(event.getObject());
+    }
+
+    /**
+     * Returns a session event listener, that discards any change sets captured (but not consumed) on the
+     * current thread, once the transaction (or unit of work) completes, whether committed or rolled back.
+     */
+    public SessionEventListener transactionCompletionListener() {
+        return new SessionEventAdapter() {
+            @Override public void postCommitTransaction(final SessionEvent event) { clear(); }
+            @Override public void postRollbackTransaction(final SessionEvent event) { clear(); }
+            @Override public void postReleaseUnitOfWork(final SessionEvent event) { clear(); }
+        };
+    }
+
+    /**
+     * Returns (and forgets) the {@link ObjectChangeSet} captured for given entity (if any).
+     */
+    static Optional<ObjectChangeSet> consume(final @NonNull Object entityPojo) {
+        return Optional.ofNullable(capturedChangeSets.get().remove(entityPojo));
+    }
+
+    // -- HELPER
+
+    private static void clear() {
+        capturedChangeSets.remove();
+    }
+
+}
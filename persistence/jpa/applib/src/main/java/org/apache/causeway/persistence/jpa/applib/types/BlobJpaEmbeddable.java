@@ -70,6 +70,12 @@
  * </p>
  *
  * <p>
+ *     Note that the content is loaded along with the owning entity (lazy loading of basic attributes requires
+ *     weaving, which is disabled). For large content, consider holding it in an entity of its own, referenced
+ *     by id and only looked up when its content is actually required.
+ * </p>
+ *
+ * <p>
  *     Lastly; note that {@link javax.persistence.AttributeOverrides} and {@link javax.persistence.AttributeOverride}
  *     provide a standardised way of fine-tuning the column definitions.
  * </p>
@@ -31,6 +31,7 @@
     requires org.apache.causeway.applib;
     requires org.apache.causeway.commons;
     requires org.apache.causeway.core.config;
+    requires org.apache.causeway.persistence.jpa.applib;
     requires org.apache.causeway.persistence.jpa.integration;
     requires org.apache.logging.log4j;
     requires org.eclipse.persistence.core;
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.eclipselink.config;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.config.SessionCustomizer;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.sessions.Session;
+
+import org.apache.causeway.persistence.jpa.applib.integration.ObjectChangeSetCapturingListener;
+
+import lombok.val;
+
+/**
+ * Registers the {@link ObjectChangeSetCapturingListener} with all descriptors of the session,
+ * such that entity property change publishing can make use of the change sets EclipseLink calculates anyway,
+ * and with the session itself, such that captured change sets do not outlive their transaction.
+ *
+ * <p>
+ * Also defaults all entity references and collections to be batch fetched (using {@link BatchFetchType#IN}),
+ * unless the mapping already specifies either a {@link org.eclipse.persistence.annotations.BatchFetch} or a
+ * {@link org.eclipse.persistence.annotations.JoinFetch}.
+ * As weaving is disabled, references are not lazily loaded; without batch fetching, reading a list of N entities
+ * would then issue up to N further queries for each of their references (eg. when a viewer renders that list).
+ * With batch fetching, the references of all entities read by the same query are fetched by a single query.
+ * </p>
+ *
+ * @since 2.0
+ */
+public class ElSessionCustomizer implements SessionCustomizer {
+
+    @Override
+    public void customize(final Session session) {
+        val listener = new ObjectChangeSetCapturingListener();
+        session.getDescriptors().values()
+            .forEach(descriptor->descriptor.getEventManager().addListener(listener));
+        session.getEventManager().addListener(listener.transactionCompletionListener());
+
+        session.getDescriptors().values().stream()
+            .flatMap(descriptor->descriptor.getMappings().stream())
+            .filter(ElSessionCustomizer::isEntityReferenceOrCollection)
+            .map(ForeignReferenceMapping.class::cast)
+            .filter(mapping->!mapping.shouldUseBatchReading()
+                    && !mapping.isJoinFetched())
+            .forEach(mapping->mapping.setBatchFetchType(BatchFetchType.IN));
+    }
+
+    // -- HELPER
+
+    private static boolean isEntityReferenceOrCollection(final DatabaseMapping mapping) {
+        return mapping.isOneToOneMapping()
+                || mapping.isOneToManyMapping()
+                || mapping.isManyToManyMapping();
+    }
+
+}
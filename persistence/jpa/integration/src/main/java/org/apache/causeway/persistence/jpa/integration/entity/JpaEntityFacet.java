@@ -19,16 +19,23 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type.PersistenceType;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.MatchingQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
@@ -115,6 +122,55 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches all with a single query per chunk of (at most) {@value #FETCH_BY_BOOKMARKS_CHUNK_SIZE} primary keys,
+     * provided the entity has a single (non-embedded) id attribute; otherwise falls back to the default.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val entityManager = getEntityManager();
+        val entityType = entityManager.getMetamodel().entity(entityClass);
+        if(bookmarks.size() < 2
+                || !entityType.hasSingleIdAttribute()
+                || entityType.getIdType().getPersistenceType() != PersistenceType.BASIC) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+
+        final Map<String, Bookmark> bookmarkByIdentifier = new HashMap<>();
+        bookmarks.forEach(bookmark->bookmarkByIdentifier.put(bookmark.getIdentifier(), bookmark));
+
+        final Map<Bookmark, Object> entityPojoByBookmark = new LinkedHashMap<>();
+        for(val chunk : Can.ofCollection(bookmarkByIdentifier.keySet()).partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)) {
+            val primaryKeys = chunk.stream()
+                    .map(primaryKeyType::destring)
+                    .collect(Collectors.toList());
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttributeName).in(primaryKeys));
+
+            entityManager.createQuery(cr).getResultStream()
+                .forEach(entityPojo->{
+                    val identifier = primaryKeyType.enstringWithCast(persistenceUnitUtil.getIdentifier(entityPojo));
+                    val bookmark = bookmarkByIdentifier.get(identifier);
+                    if(bookmark != null) {
+                        entityPojoByBookmark.put(bookmark, entityPojo);
+                    }
+                });
+        }
+        return entityPojoByBookmark;
+    }
+
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -136,8 +192,50 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             val cb = entityManager.getCriteriaBuilder();
             val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+
+            cr.select(_Casts.uncheckedCast(root));
+
+            if(!range.isUnconstrained()) {
+                // pages are only well defined, if the order is
+                cr.orderBy(entityManager.getMetamodel().entity(entityClass)
+                        .getSingularAttributes().stream()
+                        .filter(SingularAttribute::isId)
+                        .map(idAttribute->cb.asc(root.get(idAttribute.getName())))
+                        .collect(Collectors.toList()));
+            }
+
+            val typedQuery = entityManager
+                    .createQuery(cr);
+
+            if (range.hasOffset()) {
+                typedQuery.setFirstResult(range.getStartAsInt());
+            }
+            if (range.hasLimit()) {
+                typedQuery.setMaxResults(range.getLimitAsInt());
+            }
+
+            val entitySpec = getEntitySpecification();
+            return Can.ofStream(
+                    typedQuery.getResultStream()
+                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+
+        } else if (query instanceof MatchingQuery) {
+
+            val matchingQuery = (MatchingQuery<?>) query;
+            val queryEntityType = matchingQuery.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+
+            val entityManager = getEntityManager();
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
 
-            cr.select(_Casts.uncheckedCast(cr.from(entityClass)));
+            cr.select(_Casts.uncheckedCast(root))
+                .where(matchingQuery.getCriteria().accept(new _JpaCriteriaTranslator(cb, root)));
 
             val typedQuery = entityManager
                     .createQuery(cr);
@@ -0,0 +1,137 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.util.List;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.Criteria;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Translates {@link Criteria} into a JPA Criteria API {@link Predicate}.
+ */
+@RequiredArgsConstructor
+class _JpaCriteriaTranslator implements Criteria.Visitor<Predicate> {
+
+    private static final char LIKE_ESCAPE_CHAR = '\\';
+
+    private final @NonNull CriteriaBuilder cb;
+    private final @NonNull Path<?> root;
+
+    @Override
+    public Predicate visitComparison(
+            final @NonNull String propertyPath,
+            final @NonNull Criteria.Operator operator,
+            final @Nullable Object value) {
+
+        val path = path(propertyPath);
+
+        switch (operator) {
+        case EQ:
+            return value == null
+                    ? cb.isNull(path)
+                    : cb.equal(path, value);
+        case NOT_EQ:
+            return value == null
+                    ? cb.isNotNull(path)
+                    : cb.notEqual(path, value);
+        case IS_NULL:
+            return cb.isNull(path);
+        case IS_NOT_NULL:
+            return cb.isNotNull(path);
+        case STARTS_WITH:
+            return cb.like(asStringExpression(path), escapeLike((String) value) + "%", LIKE_ESCAPE_CHAR);
+        case CONTAINS:
+            return cb.like(asStringExpression(path), "%" + escapeLike((String) value) + "%", LIKE_ESCAPE_CHAR);
+        case LT:
+        case LE:
+        case GT:
+        case GE:
+            return compare(operator, path, value);
+        default:
+            throw _Exceptions.unmatchedCase(operator);
+        }
+    }
+
+    @Override
+    public Predicate visitAllOf(final @NonNull List<Predicate> operands) {
+        return cb.and(operands.toArray(new Predicate[0]));
+    }
+
+    @Override
+    public Predicate visitAnyOf(final @NonNull List<Predicate> operands) {
+        return cb.or(operands.toArray(new Predicate[0]));
+    }
+
+    @Override
+    public Predicate visitNot(final @NonNull Predicate operand) {
+        return cb.not(operand);
+    }
+
+    // -- HELPER
+
+    private Path<?> path(final String propertyPath) {
+        Path<?> path = root;
+        for(val propertyName : propertyPath.split("\\.")) {
+            path = path.get(propertyName);
+        }
+        return path;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Predicate compare(
+            final Criteria.Operator operator,
+            final Path<?> path,
+            final Object value) {
+        final Expression<Comparable> expression = (Expression) path;
+        final Comparable comparable = (Comparable) value;
+        switch (operator) {
+        case LT: return cb.lessThan(expression, comparable);
+        case LE: return cb.lessThanOrEqualTo(expression, comparable);
+        case GT: return cb.greaterThan(expression, comparable);
+        case GE: return cb.greaterThanOrEqualTo(expression, comparable);
+        default:
+            throw _Exceptions.unmatchedCase(operator);
+        }
+    }
+
+    private static Expression<String> asStringExpression(final Path<?> path) {
+        return _Casts.uncheckedCast(path);
+    }
+
+    private static String escapeLike(final String literal) {
+        return literal
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+}
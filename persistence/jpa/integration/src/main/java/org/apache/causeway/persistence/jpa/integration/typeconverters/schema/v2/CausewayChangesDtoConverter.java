@@ -22,6 +22,8 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
+import org.apache.causeway.persistence.commons.integration.schema.SchemaDtoCodecs;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
@@ -33,12 +35,12 @@
 
     @Override
     public String convertToDatabaseColumn(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return SchemaDtoCodecs.configured().encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto convertToEntityAttribute(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return SchemaDtoCodec.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -22,6 +22,8 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.SchemaDtoCodec;
+import org.apache.causeway.persistence.commons.integration.schema.SchemaDtoCodecs;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -33,12 +35,12 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return SchemaDtoCodecs.configured().encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return SchemaDtoCodec.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -32,7 +32,10 @@
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
+import org.apache.causeway.applib.query.Criteria;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
@@ -154,6 +157,52 @@ void sampleInventory_shouldSupportNamedQueriesThroughApplib() {
 //        assertInventoryHasBooks(affordableBooks, 1, 2);
 //    }
 
+    @Test @Order(5)
+    void sampleInventory_shouldSupportCriteria() {
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JdoBook.class, Criteria.<JdoBook>allOf(
+                        Criteria.le("price", 60.),
+                        Criteria.startsWith("author", "Frank"))),
+                1);
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JdoBook.class, Criteria.<JdoBook>anyOf(
+                        Criteria.eq("isbn", "ISBN-C"),
+                        Criteria.lt("price", 30.))),
+                2, 3);
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JdoBook.class, Criteria.not(Criteria.<JdoBook>eq("name", "Dune"))),
+                2, 3);
+
+        // LIKE wildcards are matched literally
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JdoBook.class, Criteria.<JdoBook>contains("name", "%")));
+
+        assertEquals("The Foundation", repositoryService
+                .uniqueMatch(JdoBook.class, Criteria.<JdoBook>eq("isbn", "ISBN-B"))
+                .map(JdoBook::getName)
+                .orElse(null));
+
+        assertThrows(RepositoryException.class, ()->repositoryService
+                .uniqueMatch(JdoBook.class, Criteria.<JdoBook>ge("price", 0.)));
+    }
+
+    @Test @Order(6)
+    void criteria_withUnknownPropertyPath_shouldBeRejected() {
+
+        assertThrows(IllegalArgumentException.class, ()->repositoryService
+                .allMatches(JdoBook.class, Criteria.<JdoBook>eq("name || true", "Dune")));
+
+        assertThrows(IllegalArgumentException.class, ()->repositoryService
+                .allMatches(JdoBook.class, Criteria.<JdoBook>eq("name.bytes", "Dune")));
+
+        // same as JPA, paths through collections are not supported
+        assertThrows(IllegalArgumentException.class, ()->repositoryService
+                .allMatches(JdoInventory.class, Criteria.<JdoInventory>eq("products.name", "Dune")));
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JdoInventory.class).size());
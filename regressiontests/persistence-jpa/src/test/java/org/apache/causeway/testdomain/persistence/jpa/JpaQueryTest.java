@@ -38,7 +38,10 @@
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
+import org.apache.causeway.applib.query.Criteria;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
@@ -59,6 +62,8 @@
         },
         properties = {
                 "spring.datasource.url=jdbc:h2:mem:JpaQueryTest",
+                // have plain predicates span multiple pages
+                "causeway.persistence.commons.repository-service.predicate-page-size=2",
         })
 @TestPropertySource(CausewayPresets.UseLog4j2Test)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -165,6 +170,75 @@ void sampleInventory_shouldSupportJpaCriteria() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportCriteria() {
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JpaBook.class, Criteria.<JpaBook>allOf(
+                        Criteria.le("price", 60.),
+                        Criteria.startsWith("author", "Frank"))),
+                1);
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JpaBook.class, Criteria.<JpaBook>anyOf(
+                        Criteria.eq("isbn", "ISBN-C"),
+                        Criteria.lt("price", 30.))),
+                2, 3);
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JpaBook.class, Criteria.not(Criteria.<JpaBook>eq("name", "Dune"))),
+                2, 3);
+
+        // LIKE wildcards are matched literally
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JpaBook.class, Criteria.<JpaBook>contains("name", "%")));
+
+        assertEquals(2, repositoryService
+                .allMatches(Query.matching(JpaBook.class, Criteria.<JpaBook>ge("price", 0.))
+                        .withLimit(2))
+                .size());
+
+        assertEquals("The Foundation", repositoryService
+                .uniqueMatch(JpaBook.class, Criteria.<JpaBook>eq("isbn", "ISBN-B"))
+                .map(JpaBook::getName)
+                .orElse(null));
+
+        assertThrows(RepositoryException.class, ()->repositoryService
+                .uniqueMatch(JpaBook.class, Criteria.<JpaBook>ge("price", 0.)));
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldSupportPredicates() {
+
+        testFixtures.assertInventoryHasBooks(repositoryService
+                .allMatches(JpaBook.class, book->book.getPrice() > 30.),
+                1, 3);
+
+        // range applies to the matching instances (ordered by primary key)
+        assertEquals(2, repositoryService
+                .allMatches(JpaBook.class, book->book.getPrice() > 0., 1L, 5L)
+                .size());
+        assertEquals(1, repositoryService
+                .allMatches(JpaBook.class, book->book.getPrice() > 30., 1L, 1L)
+                .size());
+        assertEquals(0, repositoryService
+                .allMatches(JpaBook.class, book->book.getPrice() > 30., 2L, 1L)
+                .size());
+
+        assertEquals("The Time Machine", repositoryService
+                .firstMatch(JpaBook.class, book->book.getPrice() > 50.)
+                .map(JpaBook::getName)
+                .orElse(null));
+
+        assertEquals("The Foundation", repositoryService
+                .uniqueMatch(JpaBook.class, book->"ISBN-B".equals(book.getIsbn()))
+                .map(JpaBook::getName)
+                .orElse(null));
+
+        assertThrows(RepositoryException.class, ()->repositoryService
+                .uniqueMatch(JpaBook.class, book->book.getPrice() > 0.));
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JpaInventory.class).size());
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.publishing.jpa;
+
+import javax.inject.Inject;
+
+import org.eclipse.persistence.config.SessionCustomizer;
+import org.eclipse.persistence.sessions.Session;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.HasPersistenceStandardJpa;
+import org.apache.causeway.testdomain.publishing.PublishingTestFactoryAbstract;
+import org.apache.causeway.testdomain.publishing.PublishingTestFactoryJpa;
+import org.apache.causeway.testdomain.publishing.conf.Configuration_usingEntityPropertyChangePublishing;
+import org.apache.causeway.testdomain.publishing.stubs.PropertyPublishingTestAbstract;
+
+/**
+ * Same scenarios as {@link JpaPropertyPublishingTest}, but with the default session customizer replaced, such that
+ * no {@link org.apache.causeway.persistence.jpa.applib.integration.ObjectChangeSetCapturingListener} is registered.
+ * The property change records are then gathered from the unit of work's current changes instead, and are expected
+ * to be the same.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+                Configuration_usingEntityPropertyChangePublishing.class,
+                PublishingTestFactoryJpa.class,
+        },
+        properties = {
+                "eclipselink.session.customizer="
+                        + "org.apache.causeway.testdomain.publishing.jpa.JpaPropertyPublishingWithoutChangeSetCapturingTest$NoopSessionCustomizer",
+        })
+@TestPropertySource({
+    CausewayPresets.UseLog4j2Test
+})
+@DirtiesContext
+class JpaPropertyPublishingWithoutChangeSetCapturingTest
+extends PropertyPublishingTestAbstract
+implements HasPersistenceStandardJpa {
+
+    @Inject private PublishingTestFactoryJpa testFactory;
+
+    @Override
+    protected PublishingTestFactoryAbstract getTestFactory() {
+        return testFactory;
+    }
+
+    public static class NoopSessionCustomizer implements SessionCustomizer {
+        @Override
+        public void customize(final Session session) {
+            // no change set capturing
+        }
+    }
+
+}
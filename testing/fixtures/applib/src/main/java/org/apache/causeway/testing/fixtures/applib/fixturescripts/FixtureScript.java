@@ -26,6 +26,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -52,6 +53,7 @@
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.testing.fixtures.applib.personas.BuilderScriptAbstract;
 import org.apache.causeway.testing.fixtures.applib.personas.PersonaWithBuilderScript;
@@ -603,7 +605,7 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
             case EXECUTE_ONCE_BY_CLASS:
                 previouslyExecutedScript = fixtureScriptByClass.get(childFixtureScript.getClass());
                 if (previouslyExecutedScript == null) {
-                    childFixtureScript.execute(this);
+                    executeUnlessUpToDate(childFixtureScript);
                     this.previouslyExecuted.add(childFixtureScript);
                     fixtureScriptByClass.put(childFixtureScript.getClass(), childFixtureScript);
                     return childFixtureScript;
@@ -615,7 +617,7 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
                 return executeChildIfNotAlreadyWithValueSemantics(childFixtureScript);
 
             case EXECUTE:
-                childFixtureScript.execute(this);
+                executeUnlessUpToDate(childFixtureScript);
                 this.previouslyExecuted.add(childFixtureScript);
                 return childFixtureScript;
 
@@ -624,6 +626,25 @@ private <T extends FixtureScript> T executeChildIfNotAlready(final T childFixtur
             }
         }
 
+        /**
+         * Skips (and instead {@link FixtureScriptWithFingerprint#rehydrate(ExecutionContext) rehydrates})
+         * {@link FixtureScriptWithFingerprint}s whose output is known to be present already,
+         * otherwise executes the fixture script and (if applicable) records its fingerprint.
+         */
+        private void executeUnlessUpToDate(final FixtureScript childFixtureScript) {
+            if(fixtureScripts != null
+                    && fixtureScripts.isUpToDate(childFixtureScript)) {
+                log.debug("{}: skipped, output already present", childFixtureScript.getQualifiedName());
+                skipped.add(childFixtureScript);
+                ((FixtureScriptWithFingerprint) childFixtureScript).rehydrate(this);
+                return;
+            }
+            childFixtureScript.execute(this);
+            if(fixtureScripts != null) {
+                fixtureScripts.recordFingerprint(childFixtureScript);
+            }
+        }
+
         private <T extends FixtureScript> FixtureScripts.MultipleExecutionStrategy determineExecutionStrategy(final T childFixtureScript) {
             final FixtureScripts.MultipleExecutionStrategy executionStrategy;
 
@@ -642,7 +663,7 @@ private <T extends FixtureScript> FixtureScripts.MultipleExecutionStrategy deter
         private <T extends FixtureScript> T executeChildIfNotAlreadyWithValueSemantics(final T childFixtureScript) {
             FixtureScript previouslyExecutedScript = fixtureScriptByValue.get(childFixtureScript);
             if (previouslyExecutedScript == null) {
-                childFixtureScript.execute(this);
+                executeUnlessUpToDate(childFixtureScript);
                 this.previouslyExecuted.add(childFixtureScript);
                 fixtureScriptByValue.put(childFixtureScript, childFixtureScript);
                 return childFixtureScript;
@@ -674,6 +695,27 @@ public List<FixtureScript> getPreviouslyExecuted() {
             return Collections.unmodifiableList(previouslyExecuted);
         }
 
+        // -- skipped
+
+        /**
+         * Those {@link FixtureScriptWithFingerprint}s that were not executed because their output was already present.
+         */
+        private final Set<FixtureScript> skipped = _Sets.newLinkedHashSet();
+
+        /**
+         * Whether the provided {@link FixtureScript} (a {@link FixtureScriptWithFingerprint}) was skipped rather than
+         * executed, because its output was already present.
+         *
+         * <p>
+         *     If so, then it will have been {@link FixtureScriptWithFingerprint#rehydrate(ExecutionContext) rehydrated}
+         *     instead, so any outputs that it exposes are populated only if it implements that hook.
+         * </p>
+         */
+        @Programmatic
+        public boolean isSkipped(final FixtureScript fixtureScript) {
+            return skipped.contains(fixtureScript);
+        }
+
 
 
         /**
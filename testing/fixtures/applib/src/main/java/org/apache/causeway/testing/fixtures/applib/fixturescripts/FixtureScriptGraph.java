@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * The graph of {@link FixtureScript}s reachable from a set of roots by way of their
+ * {@link FixtureScriptWithDependencies#getDependencies() declared dependencies}.
+ *
+ * <p>
+ *     Fixture scripts sharing the same key (as per the key function provided) are considered to be the same node;
+ *     the first one encountered wins.
+ * </p>
+ */
+final class FixtureScriptGraph {
+
+    @RequiredArgsConstructor
+    static final class Node {
+        @Getter private final @NonNull FixtureScript fixtureScript;
+        /**
+         * The (canonical) fixture scripts this node depends upon.
+         */
+        @Getter private final List<FixtureScript> dependencies = new ArrayList<>();
+    }
+
+    private final Function<FixtureScript, Object> keyFunction;
+    private final Map<Object, Node> nodeByKey = new LinkedHashMap<>();
+    private final List<Node> sorted = new ArrayList<>();
+
+    private FixtureScriptGraph(final Function<FixtureScript, Object> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the nodes of the graph in topological order, that is, each node follows all of its dependencies.
+     *
+     * @throws IllegalStateException if the dependencies are cyclic
+     */
+    static List<Node> topologicallySorted(
+            final @NonNull List<FixtureScript> roots,
+            final @NonNull Function<FixtureScript, Object> keyFunction) {
+        val graph = new FixtureScriptGraph(keyFunction);
+        val visiting = new LinkedHashSet<Object>();
+        for (val root : roots) {
+            graph.visit(root, visiting);
+        }
+        return Collections.unmodifiableList(graph.sorted);
+    }
+
+    // -- HELPER
+
+    private FixtureScript visit(final FixtureScript fixtureScript, final Set<Object> visiting) {
+        val key = keyFunction.apply(fixtureScript);
+        val existing = nodeByKey.get(key);
+        if(existing != null) {
+            return existing.getFixtureScript();
+        }
+        if(!visiting.add(key)) {
+            throw _Exceptions.illegalState("cyclic fixture script dependencies: %s -> %s",
+                    visiting.stream().map(FixtureScriptGraph::nameOf).collect(Collectors.joining(" -> ")),
+                    nameOf(key));
+        }
+        val node = new Node(fixtureScript);
+        if(fixtureScript instanceof FixtureScriptWithDependencies) {
+            _NullSafe.stream(((FixtureScriptWithDependencies) fixtureScript).getDependencies())
+                .map(dependency->visit(dependency, visiting))
+                .forEach(node.getDependencies()::add);
+        }
+        visiting.remove(key);
+        nodeByKey.put(key, node);
+        sorted.add(node);
+        return fixtureScript;
+    }
+
+    private static String nameOf(final Object key) {
+        return key instanceof Class
+                ? ((Class<?>) key).getSimpleName()
+                : key instanceof FixtureScript
+                    ? ((FixtureScript) key).getClass().getSimpleName()
+                    : String.valueOf(key);
+    }
+
+}
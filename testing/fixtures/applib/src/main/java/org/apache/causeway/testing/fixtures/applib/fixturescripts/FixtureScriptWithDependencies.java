@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import java.util.List;
+
+import org.apache.causeway.applib.annotation.Programmatic;
+
+/**
+ * Interface for {@link FixtureScript}s to optionally implement, declaring the fixture scripts that must have been
+ * run (and committed) before this one can run.
+ *
+ * <p>
+ *     Only honoured by {@link FixtureScripts#runInParallel(FixtureScript...)}, which runs the resulting graph
+ *     such that independent fixture scripts execute concurrently, each in its own transaction.  The declared
+ *     dependencies should therefore <i>not</i> also be executed as children from within
+ *     {@link FixtureScript#execute(FixtureScript.ExecutionContext)}.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface FixtureScriptWithDependencies {
+
+    /**
+     * The fixture scripts this one depends upon; never {@code null}, but may be empty.
+     */
+    @Programmatic
+    List<FixtureScript> getDependencies();
+}
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.annotation.Programmatic;
+
+/**
+ * Interface for {@link FixtureScript}s to optionally implement, allowing their execution to be skipped if
+ * their outputs are already present.
+ *
+ * <p>
+ *     Once such a fixture script has run successfully, its {@link #getFingerprint() fingerprint} is recorded by the
+ *     {@link FixtureScripts} service.  Any subsequent request to execute a fixture script of the same class
+ *     and with the same fingerprint is then skipped, provided that the script reports that its
+ *     {@link #isOutputPresent() output is present} (for example, has not since been removed by a teardown).
+ *     A skipped fixture script is {@link #rehydrate(FixtureScript.ExecutionContext) rehydrated} instead.
+ * </p>
+ *
+ * <p>
+ *     Recorded fingerprints are held in memory only, for the lifetime of the {@link FixtureScripts} service,
+ *     which typically is the lifetime of the (possibly cached) Spring application context of an integration test.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface FixtureScriptWithFingerprint {
+
+    /**
+     * A digest of all of the inputs that determine this fixture script's output, for example its parameters
+     * and the content of any spreadsheets or other resources that it reads.
+     *
+     * <p>
+     *     When returning {@code null}, the fixture script is always executed.
+     * </p>
+     */
+    @Programmatic
+    @Nullable
+    String getFingerprint();
+
+    /**
+     * Whether the objects that this fixture script creates are (still) present; called (within the current
+     * transaction) only if a matching fingerprint was previously recorded.
+     */
+    @Programmatic
+    boolean isOutputPresent();
+
+    /**
+     * Called instead of {@link FixtureScript#execute(FixtureScript.ExecutionContext) execute} whenever execution
+     * is skipped, allowing the fixture script to look up (rather than create) the objects that it would otherwise
+     * have created, and so populate its fields (and/or
+     * {@link FixtureScript.ExecutionContext#addResult(FixtureScript, Object) results}) for any calling fixture
+     * script to use.
+     *
+     * <p>
+     *     By default does nothing; callers can use {@link FixtureScript.ExecutionContext#isSkipped(FixtureScript)}
+     *     to find out whether a fixture script's outputs were populated.
+     * </p>
+     */
+    @Programmatic
+    default void rehydrate(final FixtureScript.ExecutionContext executionContext) {
+    }
+}
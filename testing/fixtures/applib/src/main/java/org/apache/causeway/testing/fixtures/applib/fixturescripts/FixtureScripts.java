@@ -18,18 +18,29 @@
  */
 package org.apache.causeway.testing.fixtures.applib.fixturescripts;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.causeway.applib.ViewModel;
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.ActionLayout;
@@ -453,6 +464,110 @@ public void run(final FixtureScript... fixtureScriptList) {
 
     }
 
+    /**
+     * Runs the provided {@link FixtureScript}s along with all of their
+     * {@link FixtureScriptWithDependencies#getDependencies() declared dependencies}, using as many threads as
+     * there are available processors.
+     *
+     * @see #runInParallel(int, FixtureScript...)
+     */
+    @Programmatic
+    public List<FixtureResult> runInParallel(final FixtureScript... fixtureScriptList) {
+        return runInParallel(Runtime.getRuntime().availableProcessors(), fixtureScriptList);
+    }
+
+    /**
+     * Runs the provided {@link FixtureScript}s along with all of their
+     * {@link FixtureScriptWithDependencies#getDependencies() declared dependencies}, such that any fixture script
+     * is run only once all of its dependencies have completed, and independent fixture scripts run concurrently.
+     *
+     * <p>
+     *     Each fixture script is run in its own {@link org.apache.causeway.applib.services.iactn.Interaction interaction}
+     *     and its own (new) transaction, and in its own
+     *     {@link org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScript.ExecutionContext}.
+     *     This means that (unlike {@link #run(FixtureScript...)}) the changes of each fixture script are committed
+     *     independently, and are <i>not</i> rolled back by any transaction of the caller; nor will they see any
+     *     uncommitted changes of the caller.
+     * </p>
+     *
+     * <p>
+     *     Fixture scripts are considered to be the same node of the dependency graph by class, if the configured
+     *     {@link #getMultipleExecutionStrategy()} is {@link MultipleExecutionStrategy#EXECUTE_ONCE_BY_CLASS},
+     *     otherwise by {@link Object#equals(Object) value}.
+     * </p>
+     *
+     * <p>
+     *     If any fixture script fails, then those that depend upon it are not run; the first failure (in dependency
+     *     order) is re-thrown once all other fixture scripts have completed.
+     * </p>
+     *
+     * <p>
+     *     As for {@link #run(FixtureScript...)}, {@link FixturesInstallingEvent} and {@link FixturesInstalledEvent}s
+     *     are <i>not</i> fired.
+     * </p>
+     *
+     * @param parallelism - maximum number of fixture scripts to run concurrently
+     * @param fixtureScriptList
+     * @return the results of all fixture scripts run, in dependency order
+     *
+     * @see FixtureScriptWithDependencies
+     */
+    @Programmatic
+    public List<FixtureResult> runInParallel(final int parallelism, final FixtureScript... fixtureScriptList) {
+
+        final Function<FixtureScript, Object> keyFunction =
+                getMultipleExecutionStrategy() == MultipleExecutionStrategy.EXECUTE_ONCE_BY_CLASS
+                    ? FixtureScript::getClass
+                    : fixtureScript->fixtureScript;
+        val nodes = FixtureScriptGraph.topologicallySorted(Arrays.asList(fixtureScriptList), keyFunction);
+        if(nodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        val executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, nodes.size())));
+        try {
+            final Map<FixtureScript, CompletableFuture<List<FixtureResult>>> futureByScript = new IdentityHashMap<>();
+            for (val node : nodes) {
+                val dependencies = node.getDependencies().stream()
+                        .map(futureByScript::get)
+                        .toArray(CompletableFuture[]::new);
+                futureByScript.put(node.getFixtureScript(),
+                        CompletableFuture.allOf(dependencies)
+                            .thenApplyAsync(__->runInOwnTransaction(node.getFixtureScript()), executor));
+            }
+
+            val results = new ArrayList<FixtureResult>();
+            Throwable firstFailure = null;
+            for (val node : nodes) {
+                try {
+                    results.addAll(futureByScript.get(node.getFixtureScript()).join());
+                } catch (CompletionException ex) {
+                    if(firstFailure == null) {
+                        firstFailure = ex.getCause() != null ? ex.getCause() : ex;
+                    }
+                }
+            }
+            if(firstFailure != null) {
+                throw firstFailure instanceof RuntimeException
+                        ? (RuntimeException) firstFailure
+                        : _Exceptions.unrecoverable(firstFailure);
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<FixtureResult> runInOwnTransaction(final FixtureScript fixtureScript) {
+        return interactionService.callAnonymous(()->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, ()->
+                runScript(fixtureScript, null)
+            )
+        )
+        .ifFailureFail()
+        .getValue().orElseGet(Collections::emptyList);
+    }
+
     /**
      * Runs the provided {@link PersonaWithBuilderScript persona fixture script}s, using
      * {@link InteractionService#runAnonymous(ThrowingRunnable)} and
@@ -646,6 +761,46 @@ FixtureResult newFixtureResult(final FixtureScript script, final String subkey,
         return fixtureResult;
     }
 
+    /**
+     * Fingerprints (qualified by fixture script class) of those {@link FixtureScriptWithFingerprint}s that have
+     * run successfully.
+     */
+    private final Set<String> recordedFingerprints = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether the provided fixture script is a {@link FixtureScriptWithFingerprint} that has run before with the
+     * same fingerprint, and its output is still present.
+     */
+    @Programmatic
+    boolean isUpToDate(final FixtureScript fixtureScript) {
+        return qualifiedFingerprintOf(fixtureScript)
+                .filter(recordedFingerprints::contains)
+                .map(__->((FixtureScriptWithFingerprint) fixtureScript).isOutputPresent())
+                .orElse(false);
+    }
+
+    @Programmatic
+    void recordFingerprint(final FixtureScript fixtureScript) {
+        qualifiedFingerprintOf(fixtureScript)
+            .ifPresent(recordedFingerprints::add);
+    }
+
+    /**
+     * Forgets the fingerprints of all {@link FixtureScriptWithFingerprint}s run so far, so that they will be
+     * executed again irrespective of whether their output is present.
+     */
+    @Programmatic
+    public void clearFingerprints() {
+        recordedFingerprints.clear();
+    }
+
+    private static Optional<String> qualifiedFingerprintOf(final FixtureScript fixtureScript) {
+        return fixtureScript instanceof FixtureScriptWithFingerprint
+                ? Optional.ofNullable(((FixtureScriptWithFingerprint) fixtureScript).getFingerprint())
+                        .map(fingerprint->fixtureScript.getClass().getName() + ":" + fingerprint)
+                : Optional.empty();
+    }
+
     @Programmatic
     String titleOf(final FixtureResult fixtureResult) {
         final Object object = fixtureResult.getObject();
@@ -21,6 +21,9 @@
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.apache.causeway.applib.services.inject.ServiceInjector;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -123,5 +126,75 @@ public void whenPresent() throws Exception {
 
     }
 
+    public static class ExecuteChildWithFingerprint extends ExecutionContext_Test {
+
+        static class Parent extends FixtureScript {
+            @Override
+            protected void execute(final ExecutionContext executionContext) {
+            }
+        }
+
+        static class Child extends FixtureScript implements FixtureScriptWithFingerprint {
+            int executed;
+            String output;
+            @Override
+            protected void execute(final ExecutionContext executionContext) {
+                executed++;
+                output = "created";
+            }
+            @Override
+            public String getFingerprint() {
+                return "v1";
+            }
+            @Override
+            public boolean isOutputPresent() {
+                return true;
+            }
+            @Override
+            public void rehydrate(final ExecutionContext executionContext) {
+                output = "looked up";
+            }
+        }
+
+        @Test
+        public void whenUpToDate_thenRehydratedInsteadOfExecuted() throws Exception {
+            final FixtureScripts fixtureScripts = Mockito.mock(FixtureScripts.class);
+            Mockito.when(fixtureScripts.getMultipleExecutionStrategy())
+                .thenReturn(FixtureScripts.MultipleExecutionStrategy.EXECUTE);
+            Mockito.when(fixtureScripts.isUpToDate(Mockito.any())).thenReturn(true);
+
+            final FixtureScript.ExecutionContext executionContext = new FixtureScript.ExecutionContext((String)null, fixtureScripts);
+            final Parent parent = new Parent();
+            parent.serviceInjector = Mockito.mock(ServiceInjector.class);
+            final Child child = new Child();
+
+            executionContext.executeChild(parent, child);
+
+            assertThat(child.executed, is(0));
+            assertThat(child.output, is("looked up"));
+            assertThat(executionContext.isSkipped(child), is(true));
+            Mockito.verify(fixtureScripts, Mockito.never()).recordFingerprint(child);
+        }
+
+        @Test
+        public void whenNotUpToDate_thenExecuted() throws Exception {
+            final FixtureScripts fixtureScripts = Mockito.mock(FixtureScripts.class);
+            Mockito.when(fixtureScripts.getMultipleExecutionStrategy())
+                .thenReturn(FixtureScripts.MultipleExecutionStrategy.EXECUTE);
+            Mockito.when(fixtureScripts.isUpToDate(Mockito.any())).thenReturn(false);
+
+            final FixtureScript.ExecutionContext executionContext = new FixtureScript.ExecutionContext((String)null, fixtureScripts);
+            final Parent parent = new Parent();
+            parent.serviceInjector = Mockito.mock(ServiceInjector.class);
+            final Child child = new Child();
+
+            executionContext.executeChild(parent, child);
+
+            assertThat(child.executed, is(1));
+            assertThat(child.output, is("created"));
+            assertThat(executionContext.isSkipped(child), is(false));
+            Mockito.verify(fixtureScripts).recordFingerprint(child);
+        }
+    }
 
 }
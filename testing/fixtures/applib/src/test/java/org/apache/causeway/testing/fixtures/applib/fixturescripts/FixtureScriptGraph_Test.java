@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+class FixtureScriptGraph_Test {
+
+    private static final Function<FixtureScript, Object> BY_VALUE = fixtureScript->fixtureScript;
+
+    @RequiredArgsConstructor
+    static class Script extends FixtureScript implements FixtureScriptWithDependencies {
+        final String name;
+        @Getter @Setter List<FixtureScript> dependencies = List.of();
+        Script dependingOn(final FixtureScript... dependencies) {
+            this.dependencies = Arrays.asList(dependencies);
+            return this;
+        }
+        @Override protected void execute(final ExecutionContext executionContext) {}
+        @Override public String toString() { return name; }
+    }
+
+    static class Teardown extends FixtureScript {
+        @Override protected void execute(final ExecutionContext executionContext) {}
+    }
+
+    private static String sorted(final Function<FixtureScript, Object> keyFunction, final FixtureScript... roots) {
+        return FixtureScriptGraph.topologicallySorted(Arrays.asList(roots), keyFunction).stream()
+                .map(node->node.getFixtureScript() instanceof Teardown ? "T" : node.getFixtureScript().toString())
+                .collect(Collectors.joining(","));
+    }
+
+    @Test
+    void dependencies_precede_dependents() {
+        final Script a = new Script("a");
+        final Script b = new Script("b").dependingOn(a);
+        final Script c = new Script("c").dependingOn(a);
+        final Script d = new Script("d").dependingOn(b, c);
+
+        assertThat(sorted(BY_VALUE, d), is("a,b,c,d"));
+        assertThat(sorted(BY_VALUE, c, d), is("a,c,b,d"));
+    }
+
+    @Test
+    void same_key_is_single_node() {
+        final Script b = new Script("b").dependingOn(new Teardown());
+        final Script c = new Script("c").dependingOn(new Teardown());
+
+        // by value (here: identity), each teardown instance is a node of its own
+        assertThat(sorted(BY_VALUE, b, c), is("T,b,T,c"));
+        // by class, only the first teardown is retained and shared
+        final List<FixtureScriptGraph.Node> nodes =
+                FixtureScriptGraph.topologicallySorted(List.of(b, c), FixtureScript::getClass);
+        assertThat(nodes.size(), is(3));
+        assertThat(nodes.get(2).getDependencies().get(0), is(nodes.get(0).getFixtureScript()));
+    }
+
+    @Test
+    void cyclic_dependencies_are_rejected() {
+        final Script a = new Script("a");
+        final Script b = new Script("b").dependingOn(a);
+        a.dependingOn(b);
+
+        final IllegalStateException ex = assertThrows(IllegalStateException.class,
+                ()->FixtureScriptGraph.topologicallySorted(List.of(a), BY_VALUE));
+        assertThat(ex.getMessage(), containsString("cyclic"));
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+class FixtureScripts_runInParallel_Test {
+
+    @RequiredArgsConstructor
+    static class Script extends FixtureScript implements FixtureScriptWithDependencies {
+        final String name;
+        final long durationMillis;
+        final boolean failing;
+        @Getter List<FixtureScript> dependencies = List.of();
+        Script(final String name) {
+            this(name, 0L, false);
+        }
+        Script dependingOn(final FixtureScript... dependencies) {
+            this.dependencies = Arrays.asList(dependencies);
+            return this;
+        }
+        @Override protected void execute(final ExecutionContext executionContext) {}
+        @Override public String toString() { return name; }
+    }
+
+    /**
+     * Rather than running the fixture scripts, records which ones completed, and whether their dependencies
+     * had all completed before them.
+     */
+    static class FixtureScriptsForTesting extends FixtureScripts {
+
+        final Set<String> completed = ConcurrentHashMap.newKeySet();
+        final List<String> startedTooEarly = Collections.synchronizedList(new ArrayList<>());
+
+        FixtureScriptsForTesting() {
+            super(()->FixtureScriptsSpecification.builder((String) null)
+                        .with(MultipleExecutionStrategy.EXECUTE_ONCE_BY_VALUE)
+                        .build(),
+                    Mockito.mock(ServiceRegistry.class));
+        }
+
+        @SneakyThrows
+        @Override
+        protected List<FixtureResult> runScript(final FixtureScript fixtureScript, final String parameters) {
+            val script = (Script) fixtureScript;
+            if(!script.getDependencies().stream().map(Object::toString).allMatch(completed::contains)) {
+                startedTooEarly.add(script.name);
+            }
+            Thread.sleep(script.durationMillis);
+            if(script.failing) {
+                throw new IllegalStateException("failed: " + script.name);
+            }
+            completed.add(script.name);
+            val fixtureResult = new FixtureResult();
+            fixtureResult.setKey(script.name);
+            return List.of(fixtureResult);
+        }
+    }
+
+    private FixtureScriptsForTesting fixtureScripts;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        val interactionService = Mockito.mock(InteractionService.class);
+        when(interactionService.callAnonymous(any(Callable.class)))
+            .thenAnswer(invocation->invocation.<Callable<?>>getArgument(0).call());
+        val transactionService = Mockito.mock(TransactionService.class);
+        when(transactionService.callTransactional(eq(Propagation.REQUIRES_NEW), any(Callable.class)))
+            .thenAnswer(invocation->Try.call(invocation.<Callable<?>>getArgument(1)));
+
+        fixtureScripts = new FixtureScriptsForTesting();
+        _Reflect.setFieldOn(FixtureScripts.class.getDeclaredField("interactionService"), fixtureScripts, interactionService);
+        _Reflect.setFieldOn(FixtureScripts.class.getDeclaredField("transactionService"), fixtureScripts, transactionService);
+    }
+
+    private static String keysOf(final List<FixtureResult> results) {
+        return results.stream()
+                .map(FixtureResult::getKey)
+                .collect(Collectors.joining(","));
+    }
+
+    @Test
+    void results_are_aggregated_in_dependency_order() {
+        // the slow common dependency would be overtaken by its dependents, if these did not wait for it
+        final Script a = new Script("a", 200L, false);
+        final Script b = new Script("b").dependingOn(a);
+        final Script c = new Script("c", 50L, false).dependingOn(a);
+        final Script d = new Script("d").dependingOn(b, c);
+        final Script e = new Script("e");
+
+        val results = fixtureScripts.runInParallel(4, d, e);
+
+        assertThat(keysOf(results), is("a,b,c,d,e"));
+        assertThat(fixtureScripts.startedTooEarly.isEmpty(), is(true));
+    }
+
+    @Test
+    void failure_of_a_worker_is_rethrown_and_its_dependents_are_not_run() {
+        final Script a = new Script("a", 50L, true);
+        final Script b = new Script("b").dependingOn(a);
+        final Script c = new Script("c", 100L, false);
+
+        val ex = assertThrows(IllegalStateException.class, ()->fixtureScripts.runInParallel(4, b, c));
+
+        assertThat(ex.getMessage(), is("failed: a"));
+        assertThat(fixtureScripts.completed.contains("b"), is(false));
+        // independent fixture scripts still complete
+        assertThat(fixtureScripts.completed.contains("c"), is(true));
+    }
+
+    @Test
+    void nothing_to_run() {
+        assertThat(fixtureScripts.runInParallel(4).isEmpty(), is(true));
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.integtestsupport.applib;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Captures a snapshot of the embedded (H2 or HSQLDB) database once it has been seeded, and restores it
+ * on subsequent requests instead of seeding again.
+ *
+ * <p>
+ *     Intended for integration tests that must commit (and hence cannot rely on transaction rollback),
+ *     for example those using background commands or the outbox.  Register as a static extension, and
+ *     call {@link #restoreElseSeed(ThrowingRunnable)} before each test, outside of any transaction:
+ * </p>
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * static DatabaseSnapshotHandler snapshot = DatabaseSnapshotHandler.named("customers");
+ *
+ * &#64;BeforeEach
+ * void setUp() throws Exception {
+ *     snapshot.restoreElseSeed(()-&gt;fixtureScripts.run(new CustomersSeed()));
+ * }
+ * </pre>
+ *
+ * <p>
+ *     Snapshots are shared by name (and database) for the lifetime of the JVM, so may also be reused by other
+ *     test classes sharing the same (cached) Spring context.  After all tests of a class have run, the time
+ *     saved compared to seeding before every test is logged.
+ * </p>
+ *
+ * <p>
+ *     Restoring bypasses the ORM; any second level (shared) cache of the persistence provider should therefore
+ *     either be disabled for these tests, or be evicted using {@link #afterRestore(ThrowingRunnable)}.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Log4j2
+public class DatabaseSnapshotHandler implements BeforeEachCallback, AfterAllCallback {
+
+    private static final Map<String, _DatabaseSnapshot> snapshotsByKey = new ConcurrentHashMap<>();
+
+    private final @NonNull String name;
+    private @Nullable ThrowingRunnable afterRestore;
+
+    @Setter(AccessLevel.PACKAGE) // for testing
+    private @Nullable DataSource dataSource;
+
+    // statistics of the current test class
+    @Getter(AccessLevel.PACKAGE) private long seedMillis;
+    @Getter(AccessLevel.PACKAGE) private int restoreCount;
+    private long restoreMillis;
+    @Getter(AccessLevel.PACKAGE) private long savedMillis;
+
+    public static DatabaseSnapshotHandler named(final @NonNull String name) {
+        return new DatabaseSnapshotHandler(name);
+    }
+
+    protected DatabaseSnapshotHandler(final @NonNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Optionally, to run after each restore, for example to evict the persistence provider's caches.
+     */
+    public DatabaseSnapshotHandler afterRestore(final @Nullable ThrowingRunnable afterRestore) {
+        this.afterRestore = afterRestore;
+        return this;
+    }
+
+    @Override
+    public void beforeEach(final ExtensionContext extensionContext) throws Exception {
+        this.dataSource = _Helper.getSpringContext(extensionContext)
+                .map(springContext->springContext.getBeanProvider(DataSource.class).getIfAvailable())
+                .orElse(null);
+    }
+
+    /**
+     * Restores the snapshot of this name if there is one, otherwise runs the provided seeder
+     * and captures a snapshot of the resulting database.
+     *
+     * @param seeder - populates the database; must commit
+     */
+    public void restoreElseSeed(final @NonNull ThrowingRunnable seeder) throws Exception {
+        if(dataSource == null) {
+            throw _Exceptions.illegalState("no DataSource available; "
+                    + "is the test a CausewayIntegrationTestAbstract, with %s registered as a static extension?",
+                    DatabaseSnapshotHandler.class.getSimpleName());
+        }
+
+        final String key;
+        try(val connection = dataSource.getConnection()) {
+            key = name + "@" + connection.getMetaData().getURL();
+        }
+
+        val snapshot = snapshotsByKey.get(key);
+        if(snapshot == null) {
+            val t0 = System.nanoTime();
+            seeder.run();
+            val elapsedMillis = millisSince(t0);
+            seedMillis += elapsedMillis;
+            _DatabaseSnapshot.capture(dataSource, elapsedMillis)
+                .ifPresent(newSnapshot->snapshotsByKey.put(key, newSnapshot));
+            return;
+        }
+
+        val t0 = System.nanoTime();
+        snapshot.restore(dataSource);
+        if(afterRestore != null) {
+            afterRestore.run();
+        }
+        val elapsedMillis = millisSince(t0);
+        restoreCount++;
+        restoreMillis += elapsedMillis;
+        savedMillis += snapshot.getSeedMillis() - elapsedMillis;
+    }
+
+    @Override
+    public void afterAll(final ExtensionContext extensionContext) throws Exception {
+        if(seedMillis > 0
+                || restoreCount > 0) {
+            log.info("{}: database snapshot '{}' seeded in {}ms, restored {} time(s) in {}ms total, saving {}ms",
+                    extensionContext.getRequiredTestClass().getSimpleName(),
+                    name, seedMillis, restoreCount, restoreMillis, savedMillis);
+        }
+        seedMillis = 0;
+        restoreCount = 0;
+        restoreMillis = 0;
+        savedMillis = 0;
+        dataSource = null;
+    }
+
+    // -- HELPER
+
+    private static long millisSince(final long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.integtestsupport.applib;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A snapshot of the content of an embedded (in-memory) H2 or HSQLDB database, written to a script file.
+ * <p>
+ * For H2 the snapshot is taken using {@code SCRIPT} and restored by dropping all objects
+ * followed by {@code RUNSCRIPT}.
+ * For HSQLDB the data is read using JDBC (materializing any LOBs), and the current values of sequences and
+ * identities are taken from the output of {@code SCRIPT}; it is restored by truncating all schemas
+ * (restarting identities), re-inserting the data and replaying the sequence and identity statements.
+ * (The data statements of an HSQLDB script are not replayed, as in an in-memory database these refer to
+ * LOBs by id only, and also write the LOB store's own tables.)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+final class _DatabaseSnapshot {
+
+    enum Dialect {
+        H2,
+        HSQLDB;
+        static Optional<Dialect> of(final @NonNull Connection connection) throws SQLException {
+            val productName = connection.getMetaData().getDatabaseProductName();
+            return productName.startsWith("H2")
+                    ? Optional.of(H2)
+                    : productName.startsWith("HSQL")
+                        ? Optional.of(HSQLDB)
+                        : Optional.empty();
+        }
+    }
+
+    private final @NonNull Dialect dialect;
+    private final @NonNull Path scriptFile;
+    /**
+     * HSQLDB only, the data of each table.
+     */
+    private final @NonNull List<TableData> tables;
+    /**
+     * How long it took to seed the database, that is, what each restore saves (less the time to restore).
+     */
+    @Getter private final long seedMillis;
+
+    /**
+     * Returns an empty {@link Optional}, if the database is neither H2 nor HSQLDB.
+     */
+    static Optional<_DatabaseSnapshot> capture(
+            final @NonNull DataSource dataSource,
+            final long seedMillis) throws SQLException, IOException {
+
+        try(val connection = dataSource.getConnection()) {
+            val dialect = Dialect.of(connection).orElse(null);
+            if(dialect == null) {
+                log.warn("database '{}' does not support snapshots, will re-seed instead",
+                        connection.getMetaData().getDatabaseProductName());
+                return Optional.empty();
+            }
+            // HSQLDB refuses to overwrite an existing file
+            val directory = Files.createTempDirectory("causeway-db-snapshot");
+            directory.toFile().deleteOnExit();
+            val scriptFile = directory.resolve("snapshot.sql");
+            scriptFile.toFile().deleteOnExit();
+
+            List<TableData> tables = Collections.emptyList();
+            try(val statement = connection.createStatement()) {
+                switch (dialect) {
+                case H2:
+                    statement.execute("SCRIPT NOPASSWORDS NOSETTINGS TO " + quoted(scriptFile));
+                    break;
+                case HSQLDB:
+                    statement.execute("SCRIPT " + quoted(scriptFile));
+                    tables = readHsqldbTables(statement);
+                    break;
+                }
+            }
+            return Optional.of(new _DatabaseSnapshot(dialect, scriptFile, tables, seedMillis));
+        }
+    }
+
+    void restore(final @NonNull DataSource dataSource) throws SQLException, IOException {
+        try(val connection = dataSource.getConnection();
+            val statement = connection.createStatement()) {
+            switch (dialect) {
+            case H2:
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM " + quoted(scriptFile));
+                break;
+            case HSQLDB:
+                restoreHsqldb(connection, statement);
+                break;
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private void restoreHsqldb(final Connection connection, final Statement statement) throws SQLException, IOException {
+        val schemas = new ArrayList<String>();
+        try(val rs = statement.executeQuery(
+                "SELECT SCHEMA_NAME FROM INFORMATION_SCHEMA.SCHEMATA "
+                + "WHERE SCHEMA_NAME NOT IN ('INFORMATION_SCHEMA', 'SYSTEM_LOBS')")) {
+            while(rs.next()) {
+                schemas.add(rs.getString(1));
+            }
+        }
+        statement.execute("SET DATABASE REFERENTIAL INTEGRITY FALSE");
+        try {
+            for(val schema : schemas) {
+                statement.execute("TRUNCATE SCHEMA \"" + schema + "\" RESTART IDENTITY AND COMMIT NO CHECK");
+            }
+            for(val table : tables) {
+                table.insertInto(connection);
+            }
+            for(val line : hsqldbReplayableStatements(Files.readAllLines(scriptFile, StandardCharsets.ISO_8859_1))) {
+                statement.execute(line);
+            }
+            if(!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } finally {
+            statement.execute("SET DATABASE REFERENTIAL INTEGRITY TRUE");
+        }
+    }
+
+    private static List<TableData> readHsqldbTables(final Statement statement) throws SQLException {
+        val tableNames = new ArrayList<String>();
+        try(val rs = statement.executeQuery(
+                "SELECT TABLE_SCHEMA, TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_TYPE = 'BASE TABLE' "
+                + "AND TABLE_SCHEMA NOT IN ('INFORMATION_SCHEMA', 'SYSTEM_LOBS')")) {
+            while(rs.next()) {
+                tableNames.add("\"" + rs.getString(1) + "\".\"" + rs.getString(2) + "\"");
+            }
+        }
+        val tables = new ArrayList<TableData>();
+        for(val tableName : tableNames) {
+            tables.add(TableData.read(statement, tableName));
+        }
+        return tables;
+    }
+
+    /**
+     * The rows of a single table, with any LOBs materialized.
+     */
+    @RequiredArgsConstructor
+    static final class TableData {
+        private final @NonNull String tableName;
+        private final int[] columnTypes;
+        private final @NonNull List<Object[]> rows;
+
+        static TableData read(final Statement statement, final String tableName) throws SQLException {
+            try(val rs = statement.executeQuery("SELECT * FROM " + tableName)) {
+                val metaData = rs.getMetaData();
+                val columnTypes = new int[metaData.getColumnCount()];
+                for(int i = 0; i < columnTypes.length; i++) {
+                    columnTypes[i] = metaData.getColumnType(i + 1);
+                }
+                val rows = new ArrayList<Object[]>();
+                while(rs.next()) {
+                    val row = new Object[columnTypes.length];
+                    for(int i = 0; i < row.length; i++) {
+                        row[i] = materialized(rs.getObject(i + 1));
+                    }
+                    rows.add(row);
+                }
+                return new TableData(tableName, columnTypes, rows);
+            }
+        }
+
+        void insertInto(final Connection connection) throws SQLException {
+            if(rows.isEmpty()) {
+                return;
+            }
+            val placeholders = String.join(",", Collections.nCopies(columnTypes.length, "?"));
+            try(val insert = connection.prepareStatement(
+                    "INSERT INTO " + tableName + " VALUES(" + placeholders + ")")) {
+                for(val row : rows) {
+                    for(int i = 0; i < row.length; i++) {
+                        if(row[i] == null) {
+                            insert.setNull(i + 1, columnTypes[i]);
+                        } else {
+                            insert.setObject(i + 1, row[i]);
+                        }
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        private static Object materialized(final Object value) throws SQLException {
+            if(value instanceof Clob) {
+                val clob = (Clob) value;
+                return clob.getSubString(1, (int) clob.length());
+            }
+            if(value instanceof Blob) {
+                val blob = (Blob) value;
+                return blob.getBytes(1, (int) blob.length());
+            }
+            return value;
+        }
+    }
+
+    private static final Pattern IDENTITY_RESTART = Pattern.compile("^ALTER TABLE .* ALTER COLUMN .* RESTART WITH .*$");
+    private static final Pattern UNICODE_ESCAPE = Pattern.compile("\\\\u([0-9a-fA-F]{4})");
+
+    /**
+     * The HSQLDB script holds one statement per line, with the schema definition (already in place) followed by
+     * the current values of sequences and identities, and the data; of which we need the current values only
+     * (the data being {@link TableData read using JDBC} instead).
+     * Non-ASCII characters are written as unicode escapes.
+     */
+    static List<String> hsqldbReplayableStatements(final List<String> scriptLines) {
+        val statements = new ArrayList<String>();
+        for(val line : scriptLines) {
+            if(line.contains(" SYSTEM_LOBS.")) {
+                continue; // the LOB store's own, already advanced by the re-inserted LOBs
+            }
+            if(line.startsWith("ALTER SEQUENCE ")
+                    || IDENTITY_RESTART.matcher(line).matches()) {
+                statements.add(unescapeUnicode(line));
+            }
+        }
+        return statements;
+    }
+
+    private static String unescapeUnicode(final String line) {
+        if(line.indexOf("\\u") < 0) {
+            return line;
+        }
+        final Matcher matcher = UNICODE_ESCAPE.matcher(line);
+        val sb = new StringBuffer();
+        while(matcher.find()) {
+            val ch = (char) Integer.parseInt(matcher.group(1), 16);
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(String.valueOf(ch)));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static String quoted(final Path file) {
+        return "'" + file.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.integtestsupport.applib;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import lombok.val;
+
+/**
+ * Seeds, mutates and restores an in-memory database, using plain JDBC.
+ */
+class DatabaseSnapshotHandler_Test {
+
+    enum Database {
+        H2 {
+            @Override DataSource newDataSource() {
+                val dataSource = new JdbcDataSource();
+                dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+                dataSource.setUser("sa");
+                return dataSource;
+            }
+        },
+        HSQLDB {
+            @Override DataSource newDataSource() {
+                val dataSource = new JDBCDataSource();
+                dataSource.setURL("jdbc:hsqldb:mem:" + UUID.randomUUID());
+                dataSource.setUser("SA");
+                return dataSource;
+            }
+        };
+        abstract DataSource newDataSource();
+    }
+
+    private static final String NOTES = "lorem ipsum ".repeat(10_000);
+    private static final long SEED_MILLIS = 200;
+
+    @ParameterizedTest
+    @EnumSource(Database.class)
+    void restores_seeded_state(final Database database) throws Exception {
+        val dataSource = database.newDataSource();
+        // as would be created by the ORM
+        execute(dataSource,
+                "CREATE TABLE CUSTOMER("
+                + "ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "NAME VARCHAR(100) NOT NULL, "
+                + "NOTES CLOB)",
+                "CREATE TABLE PURCHASE("
+                + "ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "CUSTOMER_ID BIGINT NOT NULL REFERENCES CUSTOMER(ID), "
+                + "AMOUNT INT NOT NULL)");
+
+        val snapshotHandler = DatabaseSnapshotHandler.named("customers");
+        snapshotHandler.setDataSource(dataSource);
+
+        // first time, seeds
+        snapshotHandler.restoreElseSeed(()->seed(dataSource));
+        assertSeeded(dataSource);
+
+        // mutate, then restore
+        execute(dataSource,
+                "DELETE FROM PURCHASE",
+                "UPDATE CUSTOMER SET NOTES = 'changed', NAME = 'Anne' WHERE ID = 1",
+                "INSERT INTO CUSTOMER(NAME) VALUES('Carl')");
+        snapshotHandler.restoreElseSeed(()->fail("should have been restored rather than seeded"));
+        assertSeeded(dataSource);
+
+        // identities also restored
+        execute(dataSource, "INSERT INTO CUSTOMER(NAME) VALUES('Carl')");
+        assertEquals(List.of("1|Anna", "2|Zoë", "3|Carl"), query(dataSource, "SELECT ID, NAME FROM CUSTOMER ORDER BY ID"));
+
+        // and again
+        snapshotHandler.restoreElseSeed(()->fail("should have been restored rather than seeded"));
+        assertSeeded(dataSource);
+
+        assertEquals(2, snapshotHandler.getRestoreCount());
+        assertTrue(snapshotHandler.getSeedMillis() >= SEED_MILLIS);
+        assertTrue(snapshotHandler.getSavedMillis() > 0,
+                ()->"saved " + snapshotHandler.getSavedMillis() + "ms");
+    }
+
+    // -- HELPER
+
+    private static void seed(final DataSource dataSource) throws Exception {
+        try(val connection = dataSource.getConnection();
+            val insert = connection.prepareStatement("INSERT INTO CUSTOMER(NAME, NOTES) VALUES(?, ?)")) {
+            insert.setString(1, "Anna");
+            insert.setString(2, NOTES);
+            insert.executeUpdate();
+            insert.setString(1, "Zoë");
+            insert.setNull(2, Types.CLOB);
+            insert.executeUpdate();
+        }
+        execute(dataSource, "INSERT INTO PURCHASE(CUSTOMER_ID, AMOUNT) VALUES(2, 42)");
+        // seeding is typically expensive
+        Thread.sleep(SEED_MILLIS);
+    }
+
+    private static void assertSeeded(final DataSource dataSource) throws SQLException {
+        assertEquals(List.of("1|Anna", "2|Zoë"), query(dataSource, "SELECT ID, NAME FROM CUSTOMER ORDER BY ID"));
+        assertEquals(List.of("1|2|42"), query(dataSource, "SELECT ID, CUSTOMER_ID, AMOUNT FROM PURCHASE"));
+        try(val connection = dataSource.getConnection();
+            val statement = connection.createStatement();
+            val rs = statement.executeQuery("SELECT NOTES FROM CUSTOMER ORDER BY ID")) {
+            assertTrue(rs.next());
+            assertEquals(NOTES, rs.getString(1));
+            assertTrue(rs.next());
+            assertEquals(null, rs.getString(1));
+        }
+    }
+
+    private static void execute(final DataSource dataSource, final String... sqls) throws SQLException {
+        try(val connection = dataSource.getConnection();
+            val statement = connection.createStatement()) {
+            for(val sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static List<String> query(final DataSource dataSource, final String sql) throws SQLException {
+        val rows = new ArrayList<String>();
+        try(val connection = dataSource.getConnection();
+            val statement = connection.createStatement();
+            val rs = statement.executeQuery(sql)) {
+            val columnCount = rs.getMetaData().getColumnCount();
+            while(rs.next()) {
+                val row = new ArrayList<String>();
+                for(int i = 1; i <= columnCount; i++) {
+                    row.add(rs.getString(i));
+                }
+                rows.add(String.join("|", row));
+            }
+        }
+        return rows;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.integtestsupport.applib;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.val;
+
+class _DatabaseSnapshot_Test {
+
+    @Test
+    void replays_current_values_of_sequences_and_identities_only() {
+        val statements = _DatabaseSnapshot.hsqldbReplayableStatements(List.of(
+                "SET DATABASE UNIQUE NAME HSQLDB8A1F2C3D4E",
+                "CREATE SCHEMA PUBLIC AUTHORIZATION DBA",
+                "CREATE SEQUENCE PUBLIC.CUSTOMER_SEQ AS INTEGER START WITH 1",
+                "CREATE MEMORY TABLE PUBLIC.CUSTOMER(ID BIGINT GENERATED BY DEFAULT AS IDENTITY(START WITH 1) NOT NULL PRIMARY KEY,NAME VARCHAR(100))",
+                "ALTER TABLE PUBLIC.CUSTOMER ALTER COLUMN ID RESTART WITH 3",
+                "ALTER SEQUENCE PUBLIC.CUSTOMER_SEQ RESTART WITH 51",
+                "ALTER SEQUENCE SYSTEM_LOBS.LOB_ID RESTART WITH 2",
+                "CREATE USER SA PASSWORD DIGEST 'd41d8cd98f00b204e9800998ecf8427e'",
+                "GRANT DBA TO SA",
+                "SET SCHEMA SYSTEM_LOBS",
+                "INSERT INTO BLOCKS VALUES(0,2147483647,0)",
+                "SET SCHEMA PUBLIC",
+                "INSERT INTO CUSTOMER VALUES(1,'Anna')"));
+
+        assertEquals(List.of(
+                "ALTER TABLE PUBLIC.CUSTOMER ALTER COLUMN ID RESTART WITH 3",
+                "ALTER SEQUENCE PUBLIC.CUSTOMER_SEQ RESTART WITH 51"),
+                statements);
+    }
+
+    @Test
+    void unescapes_unicode() {
+        val statements = _DatabaseSnapshot.hsqldbReplayableStatements(List.of(
+                "ALTER SEQUENCE PUBLIC.\"GR\\u00dc\\u00dfE\" RESTART WITH 5",
+                "ALTER SEQUENCE PUBLIC.\"PRICE\\u0024\" RESTART WITH 7",
+                "ALTER SEQUENCE PUBLIC.\"NOT\\uESCAPED\" RESTART WITH 9"));
+
+        assertEquals(List.of(
+                "ALTER SEQUENCE PUBLIC.\"GRÜßE\" RESTART WITH 5",
+                "ALTER SEQUENCE PUBLIC.\"PRICE$\" RESTART WITH 7",
+                "ALTER SEQUENCE PUBLIC.\"NOT\\uESCAPED\" RESTART WITH 9"),
+                statements);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.cost;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Cost hint for a single field of the schema, derived from the metamodel.
+ *
+ * @see QueryCostCalculator
+ */
+@Value
+public class FieldCost {
+
+    /**
+     * The cost of resolving the field itself.
+     */
+    int cost;
+
+    /**
+     * The expected number of elements, if the field is list-valued; or {@code 0} if not known.
+     */
+    int cardinality;
+
+    /**
+     * Collections cost the same as any other field, but their size is bounded by their page size (if any).
+     */
+    public static FieldCost forCollection(final @NonNull ObjectMember collection) {
+        return new FieldCost(1, collection.getPageSize().orElse(0));
+    }
+
+    /**
+     * Actions are costed by their semantics; if returning a collection, its size is bounded by
+     * the action's page size (if any).
+     */
+    public static FieldCost forAction(
+            final @NonNull ObjectAction action,
+            final CausewayConfiguration.Viewer.Graphql.QueryCost queryCost) {
+        final int cost = action.getSemantics().isSafeInNature()
+                ? queryCost.getSafeActionCost()
+                : queryCost.getNonSafeActionCost();
+        return new FieldCost(cost, action.getPageSize().orElse(0));
+    }
+
+}
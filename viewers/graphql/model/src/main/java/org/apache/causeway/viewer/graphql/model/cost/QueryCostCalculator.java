@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.cost;
+
+import java.util.Map;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLTypeUtil;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Calculates the complexity of a field as its own cost, plus the complexity of its children
+ * multiplied by the field's expected cardinality (for list-valued fields).
+ * <p>
+ * Fields without a {@link FieldCost} registered cost {@code 1}; list-valued fields without a
+ * known cardinality are assumed to have the configured default cardinality.
+ */
+@RequiredArgsConstructor
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+    private final @NonNull Map<FieldCoordinates, FieldCost> fieldCostByCoordinates;
+    private final int defaultCardinality;
+
+    @Override
+    public int calculate(final FieldComplexityEnvironment environment, final int childComplexity) {
+        val fieldDefinition = environment.getFieldDefinition();
+        if(fieldDefinition == null) {
+            return 1 + childComplexity;
+        }
+        val fieldCost = fieldCostByCoordinates.get(
+                FieldCoordinates.coordinates(environment.getParentType().getName(), fieldDefinition.getName()));
+
+        final int ownCost = fieldCost != null
+                ? fieldCost.getCost()
+                : 1;
+        final int cardinality = !GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(fieldDefinition.getType()))
+                ? 1
+                : fieldCost != null && fieldCost.getCardinality() > 0
+                    ? fieldCost.getCardinality()
+                    : defaultCardinality;
+
+        // saturate rather than overflow for deeply nested lists
+        return (int) Math.min((long) ownCost + (long) cardinality * childComplexity, Integer.MAX_VALUE);
+    }
+
+}
@@ -18,11 +18,15 @@
  */
 package org.apache.causeway.viewer.graphql.model.domain;
 
+import java.util.Optional;
+
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLFieldDefinition;
 
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.rich.scenario.ScenarioStep;
 
 import lombok.Getter;
@@ -56,9 +60,7 @@ protected final GraphQLFieldDefinition setField(final GraphQLFieldDefinition fie
     public final void addDataFetcher(Parent parent) {
         if (getField() != null) {
             // in some cases there might not be a field, eg RichCollectionGet for DomainObjectList#objects
-            context.codeRegistryBuilder.dataFetcher(
-                    parent.coordinatesFor(getField()),
-                    this::fetchData);
+            registerDataFetcher(parent.coordinatesFor(getField()));
         }
 
         addDataFetchersForChildren();
@@ -73,13 +75,23 @@ public final void addDataFetcher(Parent parent) {
      * </p>
      */
     public final void addDataFetcher(Parent parent, String fieldName) {
-        context.codeRegistryBuilder.dataFetcher(
-                parent.coordinatesFor(fieldName),
-                this::fetchData);
+        registerDataFetcher(parent.coordinatesFor(fieldName));
 
         addDataFetchersForChildren();
     }
 
+    private void registerDataFetcher(final FieldCoordinates coordinates) {
+        context.codeRegistryBuilder.dataFetcher(coordinates, this::fetchData);
+        fieldCost().ifPresent(fieldCost -> context.fieldCostByCoordinates.put(coordinates, fieldCost));
+    }
+
+    /**
+     * Hint for query cost analysis, by default none (the field then costs {@code 1}).
+     */
+    protected Optional<FieldCost> fieldCost() {
+        return Optional.empty();
+    }
+
     protected void addDataFetchersForChildren() {
     }
 
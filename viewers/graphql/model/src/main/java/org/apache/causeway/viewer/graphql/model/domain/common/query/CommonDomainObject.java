@@ -37,7 +37,6 @@
 import org.apache.causeway.viewer.graphql.model.context.Context;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.ElementCustom;
-import org.apache.causeway.viewer.graphql.model.domain.Environment;
 import org.apache.causeway.viewer.graphql.model.domain.SchemaType;
 import org.apache.causeway.viewer.graphql.model.domain.TypeNames;
 import org.apache.causeway.viewer.graphql.model.domain.common.SchemaStrategy;
@@ -193,8 +192,7 @@ protected void addDataFetchersForChildren() {
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
         Object target = dataFetchingEnvironment.getArgument("object");
-        return ObjectFeatureUtils.asPojo(getObjectSpecification(), target, new Environment.For(dataFetchingEnvironment), context)
-                .orElse(null);
+        return ObjectFeatureUtils.asPojoAsync(getObjectSpecification(), target, dataFetchingEnvironment, context);
     }
 
 
@@ -21,8 +21,13 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.dataloader.DataLoader;
+
+import graphql.schema.DataFetchingEnvironment;
+
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -31,6 +36,7 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 import org.apache.causeway.viewer.graphql.model.domain.Environment;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
 import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
 
 import lombok.experimental.UtilityClass;
@@ -72,20 +78,7 @@ static Optional<Object> asPojo(
 
         val idValue = (String)argumentValue.get("id");
         if (idValue != null) {
-            Class<?> paramClass = elementType.getCorrespondingClass();
-            Optional<Bookmark> bookmarkIfAny;
-            if(elementType.isAbstract()) {
-                val objectSpecArg = (ObjectSpecification)argumentValue.get("logicalTypeName");
-                if (objectSpecArg == null) {
-                    throw new IllegalArgumentException(String.format(
-                            "The 'logicalTypeName' is required along with the 'id', because the input type '%s' is abstract",
-                            elementType.getLogicalTypeName()));
-                }
-                 bookmarkIfAny = Optional.of(Bookmark.forLogicalTypeNameAndIdentifier(objectSpecArg.getLogicalTypeName(), idValue));
-            } else {
-                bookmarkIfAny = context.bookmarkService.bookmarkFor(paramClass, idValue);
-            }
-            return bookmarkIfAny
+            return bookmarkFor(elementType, argumentValue, idValue, context)
                     .map(context.bookmarkService::lookup)
                     .filter(Optional::isPresent)
                     .map(Optional::get);
@@ -93,6 +86,49 @@ static Optional<Object> asPojo(
         throw new IllegalArgumentException("Either 'id' or 'ref' must be specified for a DomainObject input type");
     }
 
+    /**
+     * As per {@link #asPojo(ObjectSpecification, Object, Environment, Context)}, but looking up an object
+     * specified by its 'id' by way of the request's {@link BookmarkBatchLoader} (if registered), so that the lookups
+     * of all objects at the same level of the query are batched.
+     */
+    static CompletableFuture<Object> asPojoAsync(
+            final ObjectSpecification elementType,
+            final Object argumentValueObj,
+            final DataFetchingEnvironment dataFetchingEnvironment,
+            final Context context
+    ) {
+        val argumentValue = (Map<String, ?>) argumentValueObj;
+        final DataLoader<Bookmark, Object> dataLoader = dataFetchingEnvironment.getDataLoader(BookmarkBatchLoader.NAME);
+        val idValue = (String)argumentValue.get("id");
+        if (dataLoader == null
+                || idValue == null
+                || argumentValue.get("ref") != null) {
+            return CompletableFuture.completedFuture(
+                    asPojo(elementType, argumentValueObj, new Environment.For(dataFetchingEnvironment), context)
+                        .orElse(null));
+        }
+        return bookmarkFor(elementType, argumentValue, idValue, context)
+                .map(dataLoader::load)
+                .orElseGet(()->CompletableFuture.completedFuture(null));
+    }
+
+    private static Optional<Bookmark> bookmarkFor(
+            final ObjectSpecification elementType,
+            final Map<String, ?> argumentValue,
+            final String idValue,
+            final Context context) {
+        if(elementType.isAbstract()) {
+            val objectSpecArg = (ObjectSpecification)argumentValue.get("logicalTypeName");
+            if (objectSpecArg == null) {
+                throw new IllegalArgumentException(String.format(
+                        "The 'logicalTypeName' is required along with the 'id', because the input type '%s' is abstract",
+                        elementType.getLogicalTypeName()));
+            }
+            return Optional.of(Bookmark.forLogicalTypeNameAndIdentifier(objectSpecArg.getLogicalTypeName(), idValue));
+        }
+        return context.bookmarkService.bookmarkFor(elementType.getCorrespondingClass(), idValue);
+    }
+
     /**
      * @param environment
      * @param objectAction
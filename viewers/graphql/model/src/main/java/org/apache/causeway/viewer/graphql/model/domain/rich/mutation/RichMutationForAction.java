@@ -42,6 +42,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Environment;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.SchemaType;
@@ -124,6 +125,11 @@ private GraphQLOutputType typeFor(final ObjectAction objectAction){
         }
     }
 
+    @Override
+    protected Optional<FieldCost> fieldCost() {
+        return Optional.of(FieldCost.forAction(objectAction, graphqlConfiguration.getQueryCost()));
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
@@ -57,9 +57,12 @@ public RichAssociationGet(
 
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
-
         // TODO: introduce evaluator
-        val sourcePojo = BookmarkedPojo.sourceFrom(environment);
+        return BookmarkedPojo.sourceFromAsync(environment)
+                .thenApply(this::fetchDataFor);
+    }
+
+    private Object fetchDataFor(final Object sourcePojo) {
 
         val sourcePojoClass = sourcePojo.getClass();
         val objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
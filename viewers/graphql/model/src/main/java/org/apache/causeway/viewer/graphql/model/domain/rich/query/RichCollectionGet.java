@@ -18,10 +18,13 @@
  */
 package org.apache.causeway.viewer.graphql.model.domain.rich.query;
 
+import java.util.Optional;
+
 import graphql.schema.GraphQLOutputType;
 
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.MemberInteractor;
 
 import lombok.val;
@@ -40,4 +43,9 @@ GraphQLOutputType outputTypeFor(MemberInteractor<OneToManyAssociation> holder) {
         return context.typeMapper.listTypeForElementTypeOf(oneToManyAssociation, holder.getSchemaType());
     }
 
+    @Override
+    protected Optional<FieldCost> fieldCost() {
+        return Optional.of(FieldCost.forCollection(memberInteractor.getObjectMember()));
+    }
+
 }
@@ -42,6 +42,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.*;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Environment;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ObjectInteractor;
@@ -293,6 +294,11 @@ GraphQLArgument gqlArgumentFor(final OneToManyActionParameter otmap) {
                 .build();
     }
 
+    @Override
+    protected Optional<FieldCost> fieldCost() {
+        return Optional.of(FieldCost.forAction(objectMember, graphqlConfiguration.getQueryCost()));
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
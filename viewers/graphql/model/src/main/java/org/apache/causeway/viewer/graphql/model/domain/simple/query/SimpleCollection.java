@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.graphql.model.domain.simple.query;
 
+import java.util.Optional;
+
 import graphql.schema.DataFetchingEnvironment;
 
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
@@ -25,6 +27,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.FieldCost;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ObjectInteractor;
 import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
@@ -63,10 +66,18 @@ public String getId() {
         return objectMember.asciiId();
     }
 
+    @Override
+    protected Optional<FieldCost> fieldCost() {
+        return Optional.of(FieldCost.forCollection(objectMember));
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
+        return BookmarkedPojo.sourceFromAsync(environment)
+                .thenApply(this::fetchDataFor);
+    }
 
-        val sourcePojo = BookmarkedPojo.sourceFrom(environment);
+    private Object fetchDataFor(final Object sourcePojo) {
 
         val sourcePojoClass = sourcePojo.getClass();
         val objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
@@ -158,23 +158,27 @@ protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment
         if(isBlobOrClob(getObjectMember())) {
             return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context);
         } else {
-            val sourcePojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment);
-
-            val sourcePojoClass = sourcePojo.getClass();
-            val objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-            if (objectSpecification == null) {
-                // not expected
-                return null;
-            }
+            return BookmarkedPojo.sourceFromAsync(dataFetchingEnvironment)
+                    .thenApply(this::fetchDataFor);
+        }
+    }
 
-            val association = getObjectMember();
-            val managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-            val resultManagedObject = association.get(managedObject);
+    private Object fetchDataFor(final Object sourcePojo) {
 
-            return resultManagedObject != null
-                    ? resultManagedObject.getPojo()
-                    : null;
+        val sourcePojoClass = sourcePojo.getClass();
+        val objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
+        if (objectSpecification == null) {
+            // not expected
+            return null;
         }
+
+        val association = getObjectMember();
+        val managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
+        val resultManagedObject = association.get(managedObject);
+
+        return resultManagedObject != null
+                ? resultManagedObject.getPojo()
+                : null;
     }
 
     private static boolean isBlobOrClob(OneToOneAssociation otota) {
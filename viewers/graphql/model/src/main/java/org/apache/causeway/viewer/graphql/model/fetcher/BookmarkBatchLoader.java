@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Batch loads the domain objects for a set of {@link Bookmark}s, as collected by the
+ * {@link org.dataloader.DataLoader} of this {@link #NAME} during one dispatch of a GraphQL request.
+ *
+ * <p>
+ *     The bookmarks are grouped by logical type; entities of each logical type are then fetched together
+ *     (see {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#fetchByBookmarks(Can)}),
+ *     while any other objects (eg view models) are simply looked up one by one.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class BookmarkBatchLoader {
+
+    public static final String NAME = "causeway.bookmarks";
+
+    private final SpecificationLoader specificationLoader;
+    private final BookmarkService bookmarkService;
+
+    public Map<Bookmark, Object> loadAll(final Set<Bookmark> bookmarks) {
+        final Map<Bookmark, Object> pojoByBookmark = new HashMap<>();
+        bookmarks.stream()
+            .collect(Collectors.groupingBy(Bookmark::getLogicalTypeName, LinkedHashMap::new, Collectors.toList()))
+            .forEach((logicalTypeName, bookmarksOfType)->{
+                val entityFacet = specificationLoader.specForLogicalTypeName(logicalTypeName)
+                        .flatMap(ObjectSpecification::entityFacet)
+                        .orElse(null);
+                if(entityFacet != null) {
+                    pojoByBookmark.putAll(entityFacet.fetchByBookmarks(Can.ofCollection(bookmarksOfType)));
+                } else {
+                    bookmarksOfType.forEach(bookmark->
+                        bookmarkService.lookup(bookmark)
+                            .ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+                }
+            });
+        return pojoByBookmark;
+    }
+
+}
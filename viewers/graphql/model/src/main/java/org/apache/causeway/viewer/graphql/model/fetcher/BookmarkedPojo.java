@@ -18,19 +18,30 @@
  */
 package org.apache.causeway.viewer.graphql.model.fetcher;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+
 import graphql.schema.DataFetchingEnvironment;
 
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 
+import lombok.Getter;
 import lombok.val;
 
 public class BookmarkedPojo {
 
+    @Getter
     private final Bookmark bookmark;
     private final BookmarkService bookmarkService;
 
+    /**
+     * Memoized, as the same source is typically consulted by each of the fields selected on it.
+     */
+    private Object targetPojo;
+
     public BookmarkedPojo(
             final Bookmark bookmark,
             final BookmarkService bookmarkService) {
@@ -39,6 +50,15 @@ public BookmarkedPojo(
         this.bookmarkService = bookmarkService;
     }
 
+    BookmarkedPojo(
+            final Bookmark bookmark,
+            final BookmarkService bookmarkService,
+            final Object targetPojo) {
+
+        this(bookmark, bookmarkService);
+        this.targetPojo = targetPojo;
+    }
+
     public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment) {
         val source = dataFetchingEnvironment.getSource();
         return source instanceof BookmarkedPojo
@@ -46,14 +66,60 @@ public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment)
                 : source;
     }
 
+    /**
+     * As per {@link #sourceFrom(DataFetchingEnvironment)}, but resolving a {@link BookmarkedPojo} source by way of
+     * the request's {@link BookmarkBatchLoader} (if registered), so that the lookups of all sources at the same
+     * level of the query are batched, and cached for the remainder of the request.
+     */
+    public static CompletableFuture<Object> sourceFromAsync(DataFetchingEnvironment dataFetchingEnvironment) {
+        val source = dataFetchingEnvironment.getSource();
+        if(!(source instanceof BookmarkedPojo)) {
+            return CompletableFuture.completedFuture(source);
+        }
+        val bookmarkedPojo = (BookmarkedPojo) source;
+        final DataLoader<Bookmark, Object> dataLoader = dataFetchingEnvironment.getDataLoader(BookmarkBatchLoader.NAME);
+        if(dataLoader == null
+                || bookmarkedPojo.targetPojo != null) {
+            return CompletableFuture.completedFuture(bookmarkedPojo.getTargetPojo());
+        }
+        return dataLoader.load(bookmarkedPojo.bookmark)
+                .thenApply(targetPojo->{
+                    if(targetPojo == null) {
+                        // not found by the batch; fail as per getTargetPojo()
+                        return bookmarkedPojo.getTargetPojo();
+                    }
+                    bookmarkedPojo.targetPojo = targetPojo;
+                    return targetPojo;
+                });
+    }
+
     public static BookmarkedPojo sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
         val sourcePojo = sourceFrom(dataFetchingEnvironment);
         return context.bookmarkService.bookmarkFor(sourcePojo)
-                .map(bookmark -> new BookmarkedPojo(bookmark, context.bookmarkService))
+                .map(bookmark -> primed(dataFetchingEnvironment, bookmark, sourcePojo, context.bookmarkService))
                 .orElseThrow();
     }
 
     public Object getTargetPojo() {
-        return bookmarkService.lookup(bookmark).orElseThrow();
+        if(targetPojo == null) {
+            targetPojo = bookmarkService.lookup(bookmark).orElseThrow();
+        }
+        return targetPojo;
+    }
+
+    /**
+     * The pojo is already at hand, so there is no need for any subsequent lookup; also primes the request's
+     * {@link BookmarkBatchLoader} (if registered) for any other {@link BookmarkedPojo} of the same bookmark.
+     */
+    static BookmarkedPojo primed(
+            final DataFetchingEnvironment dataFetchingEnvironment,
+            final Bookmark bookmark,
+            final Object pojo,
+            final BookmarkService bookmarkService) {
+        final DataLoader<Bookmark, Object> dataLoader = dataFetchingEnvironment.getDataLoader(BookmarkBatchLoader.NAME);
+        if(dataLoader != null) {
+            dataLoader.prime(bookmark, pojo);
+        }
+        return new BookmarkedPojo(bookmark, bookmarkService, pojo);
     }
 }
@@ -38,7 +38,7 @@ public Object get(DataFetchingEnvironment dataFetchingEnvironment) {
         val sourcePojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment);
 
         return bookmarkService.bookmarkFor(sourcePojo)
-                .map(bookmark -> new BookmarkedPojo(bookmark, bookmarkService))
+                .map(bookmark -> BookmarkedPojo.primed(dataFetchingEnvironment, bookmark, sourcePojo, bookmarkService))
                 .orElseThrow();
     }
 }
@@ -0,0 +1,110 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.cost;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import graphql.Scalars;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.language.Field;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+
+import lombok.val;
+
+class QueryCostCalculator_Test {
+
+    private static final int DEFAULT_CARDINALITY = 10;
+
+    private final GraphQLObjectType itemType = GraphQLObjectType.newObject()
+            .name("Item")
+            .field(field -> field.name("name").type(Scalars.GraphQLString))
+            .build();
+
+    private final GraphQLObjectType queryType = GraphQLObjectType.newObject()
+            .name("Query")
+            .field(field -> field.name("item").type(itemType))
+            .field(field -> field.name("expensiveItem").type(itemType))
+            .field(field -> field.name("items").type(GraphQLList.list(itemType)))
+            .field(field -> field.name("pagedItems").type(GraphQLNonNull.nonNull(GraphQLList.list(itemType))))
+            .build();
+
+    private final QueryCostCalculator calculator = new QueryCostCalculator(
+            Map.of(
+                    FieldCoordinates.coordinates("Query", "expensiveItem"), new FieldCost(50, 0),
+                    FieldCoordinates.coordinates("Query", "pagedItems"), new FieldCost(2, 25)),
+            DEFAULT_CARDINALITY);
+
+    @Test
+    void field_without_cost_costs_one_plus_its_children() {
+        assertThat(calculator.calculate(environmentFor("item"), 5)).isEqualTo(1 + 5);
+    }
+
+    @Test
+    void field_with_cost() {
+        assertThat(calculator.calculate(environmentFor("expensiveItem"), 5)).isEqualTo(50 + 5);
+    }
+
+    @Test
+    void list_without_cardinality_multiplies_children_by_default_cardinality() {
+        assertThat(calculator.calculate(environmentFor("items"), 3)).isEqualTo(1 + DEFAULT_CARDINALITY * 3);
+    }
+
+    @Test
+    void list_with_cardinality_multiplies_children_by_it() {
+        // also when non-null
+        assertThat(calculator.calculate(environmentFor("pagedItems"), 3)).isEqualTo(2 + 25 * 3);
+    }
+
+    @Test
+    void nested_lists_multiply() {
+        val inner = calculator.calculate(environmentFor("items"), 1);
+        val outer = calculator.calculate(environmentFor("pagedItems"), inner);
+
+        assertThat(inner).isEqualTo(1 + DEFAULT_CARDINALITY);
+        assertThat(outer).isEqualTo(2 + 25 * (1 + DEFAULT_CARDINALITY));
+    }
+
+    @Test
+    void saturates_rather_than_overflows() {
+        val huge = Integer.MAX_VALUE / 2;
+
+        assertThat(calculator.calculate(environmentFor("items"), huge)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(calculator.calculate(environmentFor("pagedItems"),
+                calculator.calculate(environmentFor("items"), huge))).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    // -- HELPER
+
+    private FieldComplexityEnvironment environmentFor(final String fieldName) {
+        return new FieldComplexityEnvironment(
+                Field.newField(fieldName).build(),
+                queryType.getFieldDefinition(fieldName),
+                queryType,
+                Map.of(),
+                null);
+    }
+
+}
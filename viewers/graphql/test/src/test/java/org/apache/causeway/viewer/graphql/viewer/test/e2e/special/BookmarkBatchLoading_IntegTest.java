@@ -0,0 +1,180 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.e2e.special;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.causeway.viewer.graphql.viewer.test.domain.dept.Department;
+import org.apache.causeway.viewer.graphql.viewer.test.e2e.Abstract_IntegTest;
+
+import lombok.val;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Objects looked up by their id at the same level of a query are fetched together, with a single SQL query;
+ * as are the objects referenced by each of a list of objects.
+ */
+//NOT USING @Transactional since we are running server within same transaction otherwise
+@Order(130)
+@ActiveProfiles("test")
+public class BookmarkBatchLoading_IntegTest extends Abstract_IntegTest {
+
+    /**
+     * Records the SQL of each SELECT from the department table.
+     */
+    public static class DepartmentSelects implements QueryExecutionListener {
+
+        final List<String> sqls = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+            queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .filter(sql -> sql.toUpperCase().startsWith("SELECT")
+                        && sql.toUpperCase().contains("FROM PUBLIC.DEPARTMENT"))
+                .forEach(sqls::add);
+        }
+    }
+
+    @TestConfiguration
+    public static class RecordDepartmentSelects {
+        @Bean
+        public DepartmentSelects departmentSelects() {
+            return new DepartmentSelects();
+        }
+    }
+
+    @Inject DepartmentSelects departmentSelects;
+    @Inject JpaSupportService jpaSupportService;
+
+    @Test
+    void fetch_by_bookmarks_uses_a_single_query() {
+
+        val nameByBookmark = departmentNameByBookmark();
+        val bookmarks = Can.ofCollection(nameByBookmark.keySet());
+        val missing = Bookmark.forLogicalTypeNameAndIdentifier(bookmarks.getFirstElseFail().getLogicalTypeName(), "-1");
+
+        departmentSelects.sqls.clear();
+        final Map<Bookmark, Object> departmentByBookmark =
+                transactionService.callTransactional(
+                        Propagation.REQUIRED,
+                        () -> specificationLoader.specForTypeElseFail(Department.class)
+                                .entityFacetElseFail()
+                                .fetchByBookmarks(bookmarks.add(missing))
+                ).valueAsNonNullElseFail();
+
+        assertThat(departmentByBookmark.keySet()).containsExactlyInAnyOrderElementsOf(bookmarks);
+        departmentByBookmark.forEach((bookmark, department) ->
+            assertThat(((Department) department).getName()).isEqualTo(nameByBookmark.get(bookmark)));
+
+        assertThat(departmentSelects.sqls).hasSize(1);
+        assertThat(departmentSelects.sqls.get(0)).contains(" IN (");
+    }
+
+    @Test
+    void names_of_departments_looked_up_by_id() {
+
+        val nameByBookmark = departmentNameByBookmark();
+        val bookmarks = List.copyOf(nameByBookmark.keySet());
+
+        departmentSelects.sqls.clear();
+        val response = submit(_Maps.unmodifiable(
+                "$department1Id", bookmarks.get(0).getIdentifier(),
+                "$department2Id", bookmarks.get(1).getIdentifier(),
+                "$department3Id", bookmarks.get(2).getIdentifier()));
+
+        assertThat(response).doesNotContain("\"errors\"");
+        nameByBookmark.values().forEach(name -> assertThat(response).contains("\"" + name + "\""));
+
+        // all three looked up by a single batch
+        assertThat(departmentSelects.sqls).hasSize(1);
+        assertThat(departmentSelects.sqls.get(0)).contains(" IN (");
+    }
+
+    @Test
+    void departments_of_all_staff_members() {
+
+        // one more member of staff for each of the departments without any
+        transactionService.runTransactional(Propagation.REQUIRED, () -> {
+            staffMemberRepository.create("Fred Smith", departmentRepository.findByName("Textiles"));
+            staffMemberRepository.create("Mary Jones", departmentRepository.findByName("Pathology"));
+            staffMemberRepository.create("Gary Green", departmentRepository.findByName("Mathematics"));
+            staffMemberRepository.create("Sue Brown", departmentRepository.findByName("Civil Engineering"));
+        }).ifFailureFail();
+
+        // otherwise the departments would be served from the (shared) cache, without any query
+        jpaSupportService.getEntityManagerElseFail(Department.class)
+            .getEntityManagerFactory().getCache().evictAll();
+
+        departmentSelects.sqls.clear();
+        val response = submit();
+
+        assertThat(response).doesNotContain("\"errors\"");
+        List.of("Classics", "Physics", "Textiles", "Pathology", "Mathematics", "Civil Engineering")
+            .forEach(name -> assertThat(response).contains("\"" + name + "\""));
+
+        // the departments of all nine members of staff fetched by a single batch, rather than one by one
+        assertThat(departmentSelects.sqls).hasSize(1);
+        assertThat(departmentSelects.sqls.get(0)).contains(" IN (");
+    }
+
+    // -- HELPER
+
+    private Map<Bookmark, String> departmentNameByBookmark() {
+        return transactionService.callTransactional(
+                        Propagation.REQUIRED,
+                        () -> {
+                            final Map<Bookmark, String> nameByBookmark = new LinkedHashMap<>();
+                            departmentRepository.findAll().stream()
+                                .limit(3)
+                                .forEach(department -> nameByBookmark.put(
+                                        bookmarkService.bookmarkFor(department).orElseThrow(),
+                                        department.getName()));
+                            return nameByBookmark;
+                        }
+                ).valueAsNonNullElseFail();
+    }
+
+}
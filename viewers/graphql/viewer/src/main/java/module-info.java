@@ -46,4 +46,5 @@
     requires org.apache.causeway.incubator.viewer.graphql.applib;
     requires spring.web;
     requires org.apache.causeway.core.webapp;
+    requires org.apache.logging.log4j;
 }
\ No newline at end of file
@@ -18,24 +18,59 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+import graphql.ExecutionResult;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
 import graphql.execution.FieldValueInfo;
+import graphql.execution.NonNullableFieldWasNullException;
+import graphql.language.OperationDefinition;
 
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.viewer.graphql.applib.auth.UserMementoProvider;
 
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
+/**
+ * Resolves the fields of a GraphQL operation within an interaction (and hence a transaction).
+ *
+ * <p>
+ *     For a query, a single interaction is opened when the operation's root selection set is executed,
+ *     and is closed once its result is complete; nested selection sets are executed by this same strategy,
+ *     and simply join that interaction.
+ * </p>
+ *
+ * <p>
+ *     For a mutation, each top-level field (that is, each action invoked) is resolved in an interaction of its own,
+ *     along with all of its selected sub-fields. Each mutation is therefore committed (or rolled back) on its own,
+ *     as is also the case when invoked through the other viewers; and the top-level fields are resolved one after
+ *     the other, as the GraphQL specification requires of mutations.
+ * </p>
+ *
+ * <p>
+ *     As interactions are bound to the calling thread, data fetchers (and batch loaders) must complete on that
+ *     thread; results that are still pending when the interaction is about to be closed are rejected rather than
+ *     awaited, as they would have no access to the interaction's transaction anyway.
+ * </p>
+ */
 @Service
+@Log4j2
 public class AsyncExecutionStrategyResolvingWithinInteraction extends AsyncExecutionStrategy {
 
+    private static final String FIELD_COUNT_KEY =
+            AsyncExecutionStrategyResolvingWithinInteraction.class.getName() + ".fieldCount";
+
     private final InteractionService interactionService;
 
     private final UserMementoProvider userMementoProvider;
@@ -48,23 +83,95 @@ public AsyncExecutionStrategyResolvingWithinInteraction(
         this.userMementoProvider = userMementoProvider;
     }
 
+    @Override
+    public CompletableFuture<ExecutionResult> execute(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+
+        if(!parameters.getPath().isRootPath()) {
+            // nested selection set, already within the interaction
+            return super.execute(executionContext, parameters);
+        }
+
+        val fieldCount = new LongAdder();
+        executionContext.getGraphQLContext().put(FIELD_COUNT_KEY, fieldCount);
+
+        val startNanos = System.nanoTime();
+        try {
+            return isMutation(executionContext)
+                    // each top-level field within an interaction of its own, see resolveFieldWithInfo
+                    ? super.execute(executionContext, parameters)
+                    : callWithinInteraction(executionContext, parameters,
+                            () -> completed(super.execute(executionContext, parameters)));
+        } finally {
+            if(log.isDebugEnabled()) {
+                val operationDefinition = executionContext.getOperationDefinition();
+                log.debug("{} '{}': resolved {} field(s) in {}ms",
+                        operationDefinition.getOperation(),
+                        operationDefinition.getName(),
+                        fieldCount.sum(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        }
+    }
 
     @Override
     protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
+        final LongAdder fieldCount = executionContext.getGraphQLContext().get(FIELD_COUNT_KEY);
+        if(fieldCount != null) {
+            fieldCount.increment();
+        }
+
+        if(parameters.getPath().getLevel() == 1
+                && isMutation(executionContext)) {
+            return callWithinInteraction(executionContext, parameters, () -> {
+                val fieldValueInfo = completed(super.resolveFieldWithInfo(executionContext, parameters));
+                completed(fieldValueInfo.getFieldValue()); // including all selected sub-fields
+                return fieldValueInfo;
+            });
+        }
+        return super.resolveFieldWithInfo(executionContext, parameters);
+    }
+
+    // -- HELPER
+
+    private <T> CompletableFuture<T> callWithinInteraction(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters,
+            final Callable<T> callable) {
+
         val userMemento = userMementoProvider.userMemento(executionContext, parameters);
+        try {
+            return CompletableFuture.completedFuture(
+                    userMemento != null
+                        ? interactionService.call(
+                                InteractionContext.builder().user(userMemento).build(),
+                                callable)
+                        : interactionService.callAnonymous(callable));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(
+                    ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause()
+                        : ex);
+        }
+    }
 
-        if (userMemento != null) {
-            return interactionService.call(
-                    InteractionContext.builder().user(userMemento).build(),
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
-            );
-        } else {
-            return interactionService.callAnonymous(
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
-            );
+    /**
+     * The result of the provided future, which must be complete already (being resolved on the calling thread).
+     */
+    private static <T> T completed(final CompletableFuture<T> future) {
+        if(!future.isDone()) {
+            throw _Exceptions.illegalState("GraphQL field resolved asynchronously, outside of the interaction; "
+                    + "data fetchers and batch loaders must complete on the calling thread");
         }
+        return future.join();
     }
+
+    private static boolean isMutation(final ExecutionContext executionContext) {
+        return executionContext.getOperationDefinition().getOperation() == OperationDefinition.Operation.MUTATION;
+    }
+
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
 import org.springframework.graphql.ExecutionGraphQlRequest;
@@ -28,12 +29,23 @@
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
+
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 
 import reactor.core.publisher.Mono;
 
 /**
  * Defers calling of {@link GraphQlSourceForCauseway#schema()} until after the metamodel is fully introspected.
+ *
+ * <p>
+ *     Also registers the {@link BookmarkBatchLoader}, so that each request has its own
+ *     {@link org.dataloader.DataLoader} to batch (and cache) the lookup of domain objects by {@link Bookmark}.
+ * </p>
  */
 @Service()
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -41,15 +53,35 @@ public class ExecutionGraphQlServiceForCauseway implements ExecutionGraphQlServi
 
     private final BatchLoaderRegistry batchLoaderRegistry;
     private final GraphQlSource graphQlSource;
+    private final SpecificationLoader specificationLoader;
+    private final BookmarkService bookmarkService;
+
+    private volatile DefaultExecutionGraphQlService delegate;
 
-    DefaultExecutionGraphQlService delegate;
+    @PostConstruct
+    public void registerBatchLoaders() {
+        val bookmarkBatchLoader = new BookmarkBatchLoader(specificationLoader, bookmarkService);
+        batchLoaderRegistry.forTypePair(Bookmark.class, Object.class)
+            .withName(BookmarkBatchLoader.NAME)
+            .registerMappedBatchLoader((bookmarks, batchLoaderEnvironment) ->
+                Mono.fromCallable(() -> bookmarkBatchLoader.loadAll(bookmarks)));
+    }
 
     @Override
     public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest request) {
+        return delegate().execute(request);
+    }
+
+    private DefaultExecutionGraphQlService delegate() {
         if(delegate == null) {
-            delegate = new DefaultExecutionGraphQlService(graphQlSource);
-            delegate.addDataLoaderRegistrar(batchLoaderRegistry);
+            synchronized (this) {
+                if(delegate == null) {
+                    val newDelegate = new DefaultExecutionGraphQlService(graphQlSource);
+                    newDelegate.addDataLoaderRegistrar(batchLoaderRegistry);
+                    delegate = newDelegate;
+                }
+            }
         }
-        return delegate.execute(request);
+        return delegate;
     }
 }
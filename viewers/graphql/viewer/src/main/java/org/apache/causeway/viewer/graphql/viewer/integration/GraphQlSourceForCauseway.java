@@ -18,10 +18,17 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.annotation.PostConstruct;
 
 import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.GraphQLSchema;
 
 import org.springframework.graphql.execution.GraphQlSource;
@@ -32,6 +39,7 @@
 import org.apache.causeway.core.config.metamodel.specloader.IntrospectionMode;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.cost.QueryCostCalculator;
 import org.apache.causeway.viewer.graphql.model.domain.ElementCustom;
 import org.apache.causeway.viewer.graphql.model.domain.rich.mutation.RichTopLevelMutation;
 import org.apache.causeway.viewer.graphql.model.domain.rich.query.RichTopLevelQuery;
@@ -84,15 +92,44 @@ public void init() {
     @Override
     public GraphQL graphQl() {
         if (graphQL == null) {
-            graphQL = GraphQL.newGraphQL(schema())
+            val builder = GraphQL.newGraphQL(schema())
                     .defaultDataFetcherExceptionHandler(new SimpleDataFetcherExceptionHandler())
                     .queryExecutionStrategy(executionStrategy)
-                    .mutationExecutionStrategy(executionStrategy)
-                    .build();
+                    .mutationExecutionStrategy(executionStrategy);
+
+            val instrumentations = queryCostInstrumentations();
+            if (!instrumentations.isEmpty()) {
+                builder.instrumentation(new ChainedInstrumentation(instrumentations));
+            }
+
+            val persistedQueries = graphqlConfiguration.getPersistedQueries();
+            if (persistedQueries.isEnabled()) {
+                builder.preparsedDocumentProvider(new PersistedQueryDocumentProvider(persistedQueries.getMaxEntries()));
+            }
+
+            graphQL = builder.build();
         }
         return graphQL;
     }
 
+    /**
+     * Operations exceeding the configured depth or cost are rejected before any field is resolved;
+     * the cost of each field is as registered by the schema's elements (must be called after {@link #schema()}).
+     */
+    private List<Instrumentation> queryCostInstrumentations() {
+        val queryCost = graphqlConfiguration.getQueryCost();
+        val instrumentations = new ArrayList<Instrumentation>();
+        if (queryCost.getMaxDepth() > 0) {
+            instrumentations.add(new MaxQueryDepthInstrumentation(queryCost.getMaxDepth()));
+        }
+        if (queryCost.getMaxCost() > 0) {
+            instrumentations.add(new MaxQueryComplexityInstrumentation(
+                    queryCost.getMaxCost(),
+                    new QueryCostCalculator(context.fieldCostByCoordinates, queryCost.getDefaultCardinality())));
+        }
+        return instrumentations;
+    }
+
     @Override
     public GraphQLSchema schema() {
 
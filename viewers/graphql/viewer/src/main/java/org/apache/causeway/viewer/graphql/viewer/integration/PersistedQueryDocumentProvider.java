@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Caches parsed and validated query documents, keyed by the SHA-256 hash of the query text,
+ * evicting the least recently used once the configured maximum number of entries is reached.
+ * <p>
+ * Also supports <i>automatic persisted queries</i>: a client may send just the hash
+ * (as the <code>persistedQuery.sha256Hash</code> extension); if that hash is not (or no longer) known,
+ * the client is told so by a <code>PersistedQueryNotFound</code> error, and is expected to resend
+ * the full query along with its hash.
+ * <p>
+ * Documents that failed parsing or validation are never cached.
+ */
+@Log4j2
+class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
+
+    private final Map<String, PreparsedDocumentEntry> documentByHash;
+
+    PersistedQueryDocumentProvider(final int maxEntries) {
+        this.documentByHash = Collections.synchronizedMap(
+                new LinkedHashMap<String, PreparsedDocumentEntry>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                        return size() > maxEntries;
+                    }
+                });
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+
+        val query = executionInput.getQuery();
+        val requestedHash = requestedHashOf(executionInput).orElse(null);
+
+        if (_Strings.isNullOrEmpty(query)
+                || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            if (requestedHash == null) {
+                // nothing to look up; let graphql-java report the missing query
+                return parseAndValidateFunction.apply(executionInput);
+            }
+            val cached = documentByHash.get(requestedHash);
+            if (cached == null) {
+                log.debug("persisted query not found: {}", requestedHash);
+                return new PreparsedDocumentEntry(
+                        GraphqlErrorBuilder.newError().message(PERSISTED_QUERY_NOT_FOUND).build());
+            }
+            return cached;
+        }
+
+        val hash = sha256Hex(query);
+        if (requestedHash != null
+                && !requestedHash.equals(hash)) {
+            return new PreparsedDocumentEntry(
+                    GraphqlErrorBuilder.newError().message(PERSISTED_QUERY_HASH_MISMATCH).build());
+        }
+
+        val cached = documentByHash.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        val entry = parseAndValidateFunction.apply(executionInput);
+        if (!entry.hasErrors()) {
+            documentByHash.put(hash, entry);
+        }
+        return entry;
+    }
+
+    // -- HELPER
+
+    private static Optional<String> requestedHashOf(final ExecutionInput executionInput) {
+        return Optional.ofNullable(executionInput.getExtensions())
+                .map(extensions -> extensions.get("persistedQuery"))
+                .filter(Map.class::isInstance)
+                .map(persistedQuery -> ((Map<?, ?>) persistedQuery).get("sha256Hash"))
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .map(String::toLowerCase);
+    }
+
+    private static String sha256Hex(final String query) {
+        val messageDigest = HashAlgorithm.SHA256.tryGetMessageDigest().valueAsNonNullElseFail();
+        return _Bytes.hexDump(messageDigest.digest(query.getBytes(StandardCharsets.UTF_8)), "");
+    }
+
+}
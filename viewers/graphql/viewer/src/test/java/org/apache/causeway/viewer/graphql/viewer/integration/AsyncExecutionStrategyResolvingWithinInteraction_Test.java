@@ -0,0 +1,182 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.MappedBatchLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+
+import lombok.val;
+
+class AsyncExecutionStrategyResolvingWithinInteraction_Test {
+
+    private static final String SCHEMA = ""
+            + "type Query { a: String, b: String, items: [Item] }\n"
+            + "type Mutation { first: Item, second: Item }\n"
+            + "type Item { id: Int, name: String }\n";
+
+    /**
+     * Simulates the interactions opened, each identified by a sequence number.
+     */
+    private final AtomicInteger interactionsOpened = new AtomicInteger();
+    private final ThreadLocal<Integer> currentInteraction = new ThreadLocal<>();
+
+    /**
+     * The interaction each field (by path) or each batch loaded key was resolved within (0 if none).
+     */
+    private final Map<String, Integer> interactionByPath = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> interactionByLoadedKey = new ConcurrentHashMap<>();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        val interactionService = Mockito.mock(InteractionService.class);
+        Mockito.when(interactionService.callAnonymous(Mockito.any())).thenAnswer(invocation -> {
+            currentInteraction.set(interactionsOpened.incrementAndGet());
+            try {
+                return invocation.<Callable<?>>getArgument(0).call();
+            } finally {
+                currentInteraction.remove();
+            }
+        });
+        val strategy = new AsyncExecutionStrategyResolvingWithinInteraction(
+                interactionService, (executionContext, parameters) -> null);
+
+        val runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder
+                        .dataFetcher("a", recording(env -> "a"))
+                        .dataFetcher("b", recording(env -> "b"))
+                        .dataFetcher("items", recording(env -> List.of(1, 2, 3))))
+                .type("Mutation", builder -> builder
+                        .dataFetcher("first", recording(env -> 1))
+                        .dataFetcher("second", recording(env -> 2)))
+                .type("Item", builder -> builder
+                        .dataFetcher("id", recording(DataFetchingEnvironment::getSource))
+                        .dataFetcher("name", recording(env ->
+                                env.getDataLoader("names").load(env.<Integer>getSource()))))
+                .build();
+        val schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), runtimeWiring);
+
+        graphQL = GraphQL.newGraphQL(schema)
+                .queryExecutionStrategy(strategy)
+                .mutationExecutionStrategy(strategy)
+                .build();
+    }
+
+    @Test
+    void query_is_resolved_within_a_single_interaction() {
+
+        val result = execute("{ a b items { id name } }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.<Map<String, Object>>getData().get("items")).isEqualTo(List.of(
+                Map.of("id", 1, "name", "name-1"),
+                Map.of("id", 2, "name", "name-2"),
+                Map.of("id", 3, "name", "name-3")));
+
+        assertThat(interactionsOpened.get()).isEqualTo(1);
+        assertThat(interactionByPath).containsKeys("/a", "/b", "/items", "/items[0]/id", "/items[2]/name");
+        assertThat(interactionByPath.values()).containsOnly(1);
+
+        // the data loader backed field also resolved within the interaction, as a single batch
+        assertThat(batches).containsExactly(List.of(1, 2, 3));
+        assertThat(interactionByLoadedKey.values()).containsOnly(1);
+    }
+
+    @Test
+    void each_mutation_is_resolved_within_an_interaction_of_its_own() {
+
+        val result = execute("mutation { first { id name } second { id name } }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.<Map<String, Object>>getData()).isEqualTo(Map.of(
+                "first", Map.of("id", 1, "name", "name-1"),
+                "second", Map.of("id", 2, "name", "name-2")));
+
+        assertThat(interactionsOpened.get()).isEqualTo(2);
+
+        // along with all of its sub-fields, including the data loader backed one
+        assertThat(interactionByPath).containsEntry("/first", 1)
+            .containsEntry("/first/id", 1)
+            .containsEntry("/first/name", 1)
+            .containsEntry("/second", 2)
+            .containsEntry("/second/id", 2)
+            .containsEntry("/second/name", 2);
+        assertThat(interactionByLoadedKey).containsEntry(1, 1).containsEntry(2, 2);
+    }
+
+    // -- HELPER
+
+    private ExecutionResult execute(final String query) {
+        final MappedBatchLoader<Integer, String> namesLoader = keys -> {
+            batches.add(keys.stream().sorted().collect(Collectors.toList()));
+            keys.forEach(key -> interactionByLoadedKey.put(key, currentInteractionElseZero()));
+            return CompletableFuture.completedFuture(keys.stream()
+                    .collect(Collectors.toMap(Function.identity(), key -> "name-" + key)));
+        };
+        val dataLoaderRegistry = new DataLoaderRegistry();
+        dataLoaderRegistry.register("names", DataLoaderFactory.newMappedDataLoader(namesLoader));
+
+        return graphQL.execute(ExecutionInput.newExecutionInput()
+                .query(query)
+                .dataLoaderRegistry(dataLoaderRegistry)
+                .build());
+    }
+
+    private int currentInteractionElseZero() {
+        val interaction = currentInteraction.get();
+        return interaction != null ? interaction : 0;
+    }
+
+    private DataFetcher<Object> recording(final DataFetcher<Object> dataFetcher) {
+        return env -> {
+            interactionByPath.put(env.getExecutionStepInfo().getPath().toString(), currentInteractionElseZero());
+            return dataFetcher.get(env);
+        };
+    }
+
+}
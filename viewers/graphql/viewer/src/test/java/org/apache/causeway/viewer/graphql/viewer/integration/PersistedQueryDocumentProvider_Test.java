@@ -0,0 +1,175 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+
+import lombok.val;
+
+class PersistedQueryDocumentProvider_Test {
+
+    // SHA-256 of the respective query text, as computed by any client
+    private static final String HASH_OF_A = "1c7e1e347f726166b5b1c55afd61f278cc9b45e00c108ec33d540a566379811b";
+    private static final String HASH_OF_B = "057b04649e8755c690649b6c6f320caa93fb107429e8b4bfb5b081a109264e8f";
+    private static final String HASH_OF_INVALID = "aa240a0ccab83012343d3c5968854e2015e18ba9061a9dff49e2b115ce86f98a";
+
+    /**
+     * The queries actually parsed (and validated), that is, not served from the cache.
+     */
+    private final List<String> parsed = new ArrayList<>();
+
+    private final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = executionInput -> {
+        val query = executionInput.getQuery();
+        parsed.add(query);
+        return query.equals("{ invalid")
+                ? new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message("invalid").build())
+                : new PreparsedDocumentEntry(new Parser().parseDocument(query));
+    };
+
+    @Test
+    void caches_by_query_text() {
+        val provider = new PersistedQueryDocumentProvider(10);
+
+        val first = provider.getDocument(query("{ a }"), parseAndValidate);
+        val second = provider.getDocument(query("{ a }"), parseAndValidate);
+
+        assertThat(first.hasErrors()).isFalse();
+        assertThat(second).isSameAs(first);
+        assertThat(parsed).containsExactly("{ a }");
+    }
+
+    @Test
+    void evicts_least_recently_used_once_full() {
+        val provider = new PersistedQueryDocumentProvider(2);
+
+        provider.getDocument(query("{ a }"), parseAndValidate);
+        provider.getDocument(query("{ b }"), parseAndValidate);
+        provider.getDocument(query("{ a }"), parseAndValidate); // a now more recently used than b
+        provider.getDocument(query("{ c }"), parseAndValidate); // evicts b
+        provider.getDocument(query("{ a }"), parseAndValidate);
+        provider.getDocument(query("{ b }"), parseAndValidate);
+
+        assertThat(parsed).containsExactly("{ a }", "{ b }", "{ c }", "{ b }");
+    }
+
+    @Test
+    void hash_only_when_known() {
+        val provider = new PersistedQueryDocumentProvider(10);
+        val entry = provider.getDocument(queryWithHash("{ a }", HASH_OF_A), parseAndValidate);
+
+        val cached = provider.getDocument(queryWithHash(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH_OF_A), parseAndValidate);
+
+        assertThat(cached).isSameAs(entry);
+        assertThat(parsed).containsExactly("{ a }");
+    }
+
+    @Test
+    void hash_only_when_not_known() {
+        val provider = new PersistedQueryDocumentProvider(10);
+
+        val entry = provider.getDocument(queryWithHash(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH_OF_A), parseAndValidate);
+
+        assertThat(messagesOf(entry)).containsExactly(PersistedQueryDocumentProvider.PERSISTED_QUERY_NOT_FOUND);
+        assertThat(parsed).isEmpty();
+    }
+
+    @Test
+    void hash_only_when_evicted() {
+        val provider = new PersistedQueryDocumentProvider(1);
+        provider.getDocument(queryWithHash("{ a }", HASH_OF_A), parseAndValidate);
+        provider.getDocument(queryWithHash("{ b }", HASH_OF_B), parseAndValidate);
+
+        val entry = provider.getDocument(queryWithHash(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH_OF_A), parseAndValidate);
+
+        assertThat(messagesOf(entry)).containsExactly(PersistedQueryDocumentProvider.PERSISTED_QUERY_NOT_FOUND);
+    }
+
+    @Test
+    void hash_mismatch() {
+        val provider = new PersistedQueryDocumentProvider(10);
+
+        val entry = provider.getDocument(queryWithHash("{ a }", HASH_OF_B), parseAndValidate);
+
+        assertThat(messagesOf(entry)).containsExactly(PersistedQueryDocumentProvider.PERSISTED_QUERY_HASH_MISMATCH);
+        assertThat(parsed).isEmpty();
+
+        // and the hash of the other query is not now associated with this one
+        val other = provider.getDocument(queryWithHash(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH_OF_B), parseAndValidate);
+        assertThat(messagesOf(other)).containsExactly(PersistedQueryDocumentProvider.PERSISTED_QUERY_NOT_FOUND);
+    }
+
+    @Test
+    void hash_is_case_insensitive() {
+        val provider = new PersistedQueryDocumentProvider(10);
+
+        val entry = provider.getDocument(queryWithHash("{ a }", HASH_OF_A.toUpperCase()), parseAndValidate);
+
+        assertThat(entry.hasErrors()).isFalse();
+    }
+
+    @Test
+    void errors_are_not_cached() {
+        val provider = new PersistedQueryDocumentProvider(10);
+
+        val first = provider.getDocument(queryWithHash("{ invalid", HASH_OF_INVALID), parseAndValidate);
+        val second = provider.getDocument(query("{ invalid"), parseAndValidate);
+        val hashOnly = provider.getDocument(queryWithHash(PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH_OF_INVALID), parseAndValidate);
+
+        assertThat(messagesOf(first)).containsExactly("invalid");
+        assertThat(messagesOf(second)).containsExactly("invalid");
+        assertThat(parsed).containsExactly("{ invalid", "{ invalid");
+        assertThat(messagesOf(hashOnly)).containsExactly(PersistedQueryDocumentProvider.PERSISTED_QUERY_NOT_FOUND);
+    }
+
+    // -- HELPER
+
+    private static ExecutionInput query(final String query) {
+        return ExecutionInput.newExecutionInput().query(query).build();
+    }
+
+    private static ExecutionInput queryWithHash(final String query, final String sha256Hash) {
+        return ExecutionInput.newExecutionInput()
+                .query(query)
+                .extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", sha256Hash)))
+                .build();
+    }
+
+    private static List<String> messagesOf(final PreparsedDocumentEntry entry) {
+        val messages = new ArrayList<String>();
+        for(final GraphQLError error : entry.getErrors()) {
+            messages.add(error.getMessage());
+        }
+        return messages;
+    }
+
+}
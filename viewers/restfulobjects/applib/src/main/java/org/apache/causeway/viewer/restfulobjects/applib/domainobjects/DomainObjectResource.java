@@ -128,6 +128,15 @@ public Response layout(
     })
     public Response propertyDetails(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
 
+    /**
+     * The content of a {@link org.apache.causeway.applib.value.Blob} property, streamed as is.
+     */
+    @GET
+    @Path("/{domainType}/{instanceId}/properties/{propertyId}/content")
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.WILDCARD })
+    public Response propertyContent(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
+
     @PUT
     @Path("/{domainType}/{instanceId}/properties/{propertyId}")
     @Consumes({ MediaType.WILDCARD })
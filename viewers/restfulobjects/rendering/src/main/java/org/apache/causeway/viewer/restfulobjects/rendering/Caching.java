@@ -22,19 +22,25 @@
 
 public enum Caching {
 
-    ONE_DAY(24 * 60 * 60),
-    ONE_HOUR(60 * 60),
-    NONE(0);
+    ONE_DAY(24 * 60 * 60, false),
+    ONE_HOUR(60 * 60, false),
+    NONE(0, false),
+    /**
+     * May only be stored by the user agent (not by shared caches), and must be revalidated
+     * on each use, typically by means of a conditional request using its <code>ETag</code>.
+     */
+    PRIVATE_REVALIDATE(0, true);
 
     private final CacheControl cacheControl;
 
-    Caching(final int maxAge) {
+    Caching(final int maxAge, final boolean isPrivate) {
         this.cacheControl = new CacheControl();
         if (maxAge > 0) {
             cacheControl.setMaxAge(maxAge);
         } else {
             cacheControl.setNoCache(true);
         }
+        cacheControl.setPrivate(isPrivate);
     }
 
     public CacheControl getCacheControl() {
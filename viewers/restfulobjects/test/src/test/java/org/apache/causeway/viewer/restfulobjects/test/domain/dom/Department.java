@@ -34,6 +34,7 @@
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.ActionLayout;
@@ -43,9 +44,11 @@
 import org.apache.causeway.applib.annotation.DomainObjectLayout;
 import org.apache.causeway.applib.annotation.Editing;
 import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.annotation.Value;
+import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -64,7 +67,7 @@
 @NoArgsConstructor
 @DomainObject(nature = Nature.ENTITY, bounding = Bounding.BOUNDED)
 @DomainObjectLayout(describedAs = "University department specializing in a field of study")
-public class Department implements Comparable<Department> {
+public class Department implements Comparable<Department>, HasVersion<Long> {
 
     @Value
     @Data @NoArgsConstructor @AllArgsConstructor
@@ -81,6 +84,16 @@ public Department(final String name, final DeptHead deptHead) {
     @GeneratedValue
     private Long id;
 
+    // optimistic locking, also used for the entity tags of conditional requests
+    @Version
+    private Long version;
+
+    @Programmatic
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+
     @Getter @Setter
     private String name;
     @Action(semantics = SemanticsOf.IDEMPOTENT)
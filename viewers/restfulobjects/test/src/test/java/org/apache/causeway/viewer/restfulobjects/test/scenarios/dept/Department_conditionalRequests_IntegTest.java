@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.test.scenarios.dept;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.viewer.restfulobjects.test.domain.dom.Department;
+import org.apache.causeway.viewer.restfulobjects.test.scenarios.Abstract_IntegTest;
+
+import lombok.val;
+
+public class Department_conditionalRequests_IntegTest extends Abstract_IntegTest {
+
+    private Bookmark bookmark;
+
+    @BeforeEach
+    void setUpBookmark() {
+        bookmark = transactionService.callTransactional(Propagation.REQUIRED, () -> {
+            val classics = departmentRepository.findByName("Classics");
+            return bookmarkService.bookmarkFor(classics).orElseThrow();
+        }).valueAsNonNullElseFail();
+    }
+
+    @Test
+    public void get_when_unchanged_is_not_modified() {
+
+        // given
+        val response = get(null);
+        val entityTag = response.getHeaderString(HttpHeaders.ETAG);
+
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(entityTag).isNotBlank();
+        assertThat(response.getHeaderString(HttpHeaders.CACHE_CONTROL)).contains("private");
+
+        // when
+        val conditionalResponse = get(entityTag);
+
+        // then
+        assertThat(conditionalResponse.getStatus()).isEqualTo(Response.Status.NOT_MODIFIED.getStatusCode());
+        assertThat(conditionalResponse.getHeaderString(HttpHeaders.ETAG)).isEqualTo(entityTag);
+        assertThat(conditionalResponse.hasEntity()).isFalse();
+    }
+
+    @Test
+    public void get_when_changed_is_rendered_again() {
+
+        // given
+        val entityTag = get(null).getHeaderString(HttpHeaders.ETAG);
+        rename("Classics", "Ancient Classics");
+
+        // when
+        val conditionalResponse = get(entityTag);
+
+        // then
+        assertThat(conditionalResponse.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(conditionalResponse.getHeaderString(HttpHeaders.ETAG)).isNotEqualTo(entityTag);
+        assertThat(conditionalResponse.readEntity(String.class)).contains("Ancient Classics");
+    }
+
+    @Test
+    public void modify_when_unchanged_succeeds() {
+
+        // given
+        val entityTag = get(null).getHeaderString(HttpHeaders.ETAG);
+
+        // when
+        val response = changeName("Modern Classics", entityTag);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(nameOfDepartment()).isEqualTo("Modern Classics");
+        assertThat(get(entityTag).getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+    }
+
+    @Test
+    public void modify_when_changed_fails_with_precondition_failed() {
+
+        // given
+        val entityTag = get(null).getHeaderString(HttpHeaders.ETAG);
+        rename("Classics", "Ancient Classics");
+
+        // when
+        val response = changeName("Modern Classics", entityTag);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.PRECONDITION_FAILED.getStatusCode());
+        assertThat(nameOfDepartment()).isEqualTo("Ancient Classics");
+    }
+
+    // -- HELPER
+
+    private Response get(final String ifNoneMatch) {
+        val request = restfulClient.request(String.format("/objects/%s/%s",
+                bookmark.getLogicalTypeName(), bookmark.getIdentifier()));
+        return ifNoneMatch!=null
+                ? request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch).get()
+                : request.get();
+    }
+
+    private Response changeName(final String newName, final String ifMatch) {
+        return restfulClient.request(String.format("/objects/%s/%s/actions/changeName/invoke",
+                        bookmark.getLogicalTypeName(), bookmark.getIdentifier()))
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .put(Entity.entity(
+                        String.format("{\"newName\": {\"value\": \"%s\"}}", newName),
+                        "application/json"));
+    }
+
+    private void rename(final String name, final String newName) {
+        transactionService.runTransactional(Propagation.REQUIRED, () -> {
+            departmentRepository.findByName(name).setName(newName);
+        });
+    }
+
+    private String nameOfDepartment() {
+        return transactionService.callTransactional(Propagation.REQUIRED, () -> {
+            return bookmarkService.lookup(bookmark, Department.class)
+                    .orElseThrow()
+                    .getName();
+        }).valueAsNonNullElseFail();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.test.scenarios.staff;
+
+import javax.ws.rs.core.Response;
+
+import com.google.common.io.Resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.viewer.restfulobjects.test.scenarios.Abstract_IntegTest;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+public class Staff_photoContent_IntegTest extends Abstract_IntegTest {
+
+    @SneakyThrows
+    @Test
+    public void streams_blob_content_as_is() {
+
+        // given
+        val bookmark = transactionService.callTransactional(Propagation.REQUIRED, () -> {
+            val staffMember = staffMemberRepository.findByName("Gerry Jones");
+            return bookmarkService.bookmarkFor(staffMember).orElseThrow();
+        }).valueAsNonNullElseFail();
+        val expected = Resources.toByteArray(
+                Resources.getResource(Abstract_IntegTest.class, "StaffMember-photo-Bar.pdf"));
+
+        // when
+        val response = restfulClient.request(String.format("objects/%s/%s/properties/photo/content",
+                        bookmark.getLogicalTypeName(), bookmark.getIdentifier()))
+                .get();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(response.getMediaType().toString()).isEqualTo("application/pdf");
+        assertThat(response.getLength()).isEqualTo(expected.length);
+        assertThat(response.getHeaderString("Content-Disposition")).contains("StaffMember-photo-Bar.pdf");
+        assertThat(response.readEntity(byte[].class)).isEqualTo(expected);
+    }
+
+    @Test
+    public void not_found_if_no_content() {
+
+        // given
+        val bookmark = transactionService.callTransactional(Propagation.REQUIRED, () -> {
+            val staffMember = staffMemberRepository.findByName("John Gartner");
+            return bookmarkService.bookmarkFor(staffMember).orElseThrow();
+        }).valueAsNonNullElseFail();
+
+        // when
+        val response = restfulClient.request(String.format("objects/%s/%s/properties/photo/content",
+                        bookmark.getLogicalTypeName(), bookmark.getIdentifier()))
+                .get();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.Status.NOT_FOUND.getStatusCode());
+    }
+
+}
@@ -19,7 +19,9 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import java.io.InputStream;
+import java.util.Date;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -31,9 +33,13 @@
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import org.apache.causeway.applib.annotation.Where;
@@ -43,6 +49,7 @@
 import org.apache.causeway.applib.layout.component.PropertyLayoutData;
 import org.apache.causeway.applib.layout.grid.Grid;
 import org.apache.causeway.applib.layout.links.Link;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.io.UrlUtils;
 import org.apache.causeway.core.metamodel.consent.Consent;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
@@ -60,6 +67,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.causeway.viewer.restfulobjects.applib.domainobjects.DomainObjectResource;
+import org.apache.causeway.viewer.restfulobjects.rendering.Caching;
 import org.apache.causeway.viewer.restfulobjects.rendering.Responses;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
@@ -146,7 +154,7 @@ public Response persist(
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, adapter);
 
         return _EndpointLogging.response(log, "POST /objects/{}", domainType,
-                domainResourceHelper.objectRepresentation());
+                withEntityTag(domainResourceHelper.objectRepresentation(), adapter));
     }
 
 
@@ -171,10 +179,17 @@ public Response object(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}", domainType, instanceId, roEx));
+
+        val notModified = notModifiedIfUnchanged(objectAdapter);
+        if(notModified.isPresent()) {
+            return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
+                    notModified.get());
+        }
+
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                withEntityTag(domainResourceHelper.objectRepresentation(), objectAdapter));
     }
 
 
@@ -204,6 +219,9 @@ public Response object(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+        checkPreconditions(objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+
         final ObjectAdapterUpdateHelper updateHelper = new ObjectAdapterUpdateHelper(resourceContext, objectAdapter);
 
         if (!updateHelper.copyOverProperties(argRepr, ObjectAdapterUpdateHelper.Intent.UPDATE_EXISTING)) {
@@ -224,7 +242,7 @@ public Response object(
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                withEntityTag(domainResourceHelper.objectRepresentation(), objectAdapter));
     }
 
     @DELETE
@@ -421,6 +439,32 @@ public Response propertyDetails(
                 .propertyDetails(propertyId, ManagedMember.RepresentationMode.READ));
     }
 
+    /**
+     * Streams the content of a {@link org.apache.causeway.applib.value.Blob} property as is, with its own
+     * mime type and length, rather than base64 encoded within the JSON representation of that property.
+     */
+    @Override
+    @GET
+    @Path("/{domainType}/{instanceId}/properties/{propertyId}/content")
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.WILDCARD })
+    public Response propertyContent(
+            @PathParam("domainType") final String domainType,
+            @PathParam("instanceId") final String instanceId,
+            @PathParam("propertyId") final String propertyId) {
+
+        val resourceContext = createResourceContext(
+                RepresentationType.OBJECT_PROPERTY, Where.OBJECT_FORMS, RepresentationService.Intent.NOT_APPLICABLE);
+
+        val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
+                roEx->_EndpointLogging.error(log, "GET /objects/{}/{}/properties/{}/content", domainType, instanceId, propertyId, roEx));
+
+        return _EndpointLogging.response(log, "GET /objects/{}/{}/properties/{}/content", domainType, instanceId, propertyId,
+                _DomainResourceHelper
+                .ofObjectResource(resourceContext, objectAdapter)
+                .propertyContent(propertyId));
+    }
+
     @Override
     @PUT
     @Path("/{domainType}/{instanceId}/properties/{propertyId}")
@@ -440,6 +484,8 @@ public Response modifyProperty(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        checkPreconditions(objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -477,6 +523,8 @@ public Response clearProperty(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        checkPreconditions(objectAdapter,
+                roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -729,6 +777,8 @@ public Response invokeActionIdempotent(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
+        checkPreconditions(objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId,
@@ -757,6 +807,8 @@ public Response invokeAction(
 
         val objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
+        checkPreconditions(objectAdapter,
+                roEx->_EndpointLogging.error(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId,
@@ -778,4 +830,90 @@ public Response deleteInvokeActionNotAllowed(
                         "Deleting an action invocation resource is not allowed."));
     }
 
+    // -- CONDITIONAL REQUESTS
+
+    private Optional<EntityTag> entityTagFor(final ManagedObject objectAdapter) {
+        return _EntityTags.entityTagFor(
+                objectAdapter,
+                Where.OBJECT_FORMS,
+                getInteractionService().currentInteractionContext().orElse(null));
+    }
+
+    /**
+     * Short-circuits with <i>304 Not Modified</i>, if the client's copy (as per <code>If-None-Match</code>
+     * or <code>If-Modified-Since</code>) is still current, so the object need not be rendered again.
+     */
+    private Optional<Response> notModifiedIfUnchanged(final ManagedObject objectAdapter) {
+        val entityTag = entityTagFor(objectAdapter).orElse(null);
+        if(entityTag==null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(evaluatePreconditions(entityTag, _EntityTags.lastModifiedOf(objectAdapter).orElse(null)))
+                .map(builder->builder
+                        .cacheControl(Caching.PRIVATE_REVALIDATE.getCacheControl())
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                        .build());
+    }
+
+    /**
+     * Fails with <i>412 Precondition Failed</i>, if the client's copy (as per <code>If-Match</code>
+     * or <code>If-Unmodified-Since</code>) is no longer current; in other words optimistic concurrency control
+     * for any modification of the object.
+     */
+    private void checkPreconditions(
+            final ManagedObject objectAdapter,
+            final UnaryOperator<RestfulObjectsApplicationException> onRoException) {
+        if(httpHeaders.getHeaderString(HttpHeaders.IF_MATCH)==null
+                && httpHeaders.getHeaderString(HttpHeaders.IF_UNMODIFIED_SINCE)==null
+                && httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH)==null) {
+            return;
+        }
+        val entityTag = entityTagFor(objectAdapter).orElse(null);
+        val responseBuilder = entityTag!=null
+                ? evaluatePreconditions(entityTag, _EntityTags.lastModifiedOf(objectAdapter).orElse(null))
+                : request.evaluatePreconditions();
+        if(responseBuilder!=null) {
+            throw onRoException.apply(RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.PRECONDITION_FAILED,
+                            "Object '%s' has been modified since it was retrieved",
+                            objectAdapter.getBookmark().map(Bookmark::stringify).orElse("?")));
+        }
+    }
+
+    /**
+     * As per RFC 7232, the date based preconditions (<code>If-Modified-Since</code>, <code>If-Unmodified-Since</code>)
+     * are only evaluated, if the request has no tag based ones (<code>If-None-Match</code>, <code>If-Match</code>),
+     * which are more accurate.
+     */
+    private @Nullable ResponseBuilder evaluatePreconditions(
+            final @NonNull EntityTag entityTag,
+            final @Nullable Date lastModified) {
+        if(lastModified==null
+                || httpHeaders.getHeaderString(HttpHeaders.IF_MATCH)!=null
+                || httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH)!=null) {
+            return request.evaluatePreconditions(entityTag);
+        }
+        return request.evaluatePreconditions(lastModified, entityTag);
+    }
+
+    /**
+     * Adds <code>ETag</code> (and if available <code>Last-Modified</code>) headers to a successful response,
+     * allowing subsequent requests to be conditional.
+     */
+    private Response withEntityTag(final Response response, final ManagedObject objectAdapter) {
+        if(response.getStatus()!=Response.Status.OK.getStatusCode()) {
+            return response;
+        }
+        return entityTagFor(objectAdapter)
+                .map(entityTag->{
+                    val builder = Response.fromResponse(response)
+                            .tag(entityTag)
+                            .cacheControl(Caching.PRIVATE_REVALIDATE.getCacheControl())
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                    _EntityTags.lastModifiedOf(objectAdapter).ifPresent(builder::lastModified);
+                    return builder.build();
+                })
+                .orElse(response);
+    }
+
 }
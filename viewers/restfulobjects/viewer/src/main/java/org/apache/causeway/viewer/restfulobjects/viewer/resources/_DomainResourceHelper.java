@@ -20,7 +20,9 @@
 
 import java.util.concurrent.atomic.LongAdder;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.springframework.lang.Nullable;
 
@@ -29,6 +31,7 @@
 import org.apache.causeway.applib.id.LogicalType;
 import org.apache.causeway.applib.services.registry.ServiceRegistry;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.functional.Railway;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction.Result;
@@ -37,6 +40,7 @@
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.causeway.core.metamodel.interactions.managed.MemberInteraction.AccessIntent;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
@@ -122,6 +126,34 @@ public Response propertyDetails(
         return representationService.propertyDetails(resourceContext, property);
     }
 
+    /**
+     * Obtains the {@link Blob} property (checking it is visible) of the object and streams its content as is,
+     * rather than embedded (base64 encoded) within a representation of that property.
+     */
+    public Response propertyContent(final String propertyId) {
+
+        val property = ObjectAdapterAccessHelper.of(resourceContext, objectAdapter)
+                .getPropertyThatIsVisibleForIntent(propertyId, AccessIntent.ACCESS);
+
+        if(property.getElementType().getCorrespondingClass() != Blob.class) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "Property '%s' is not a Blob", propertyId);
+        }
+        val value = property.getPropertyValue();
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(value)) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.NOT_FOUND,
+                    "Property '%s' has no content", propertyId);
+        }
+        val blob = (Blob) value.getPojo();
+
+        transactionService.flushTransaction();
+        // written once the response is committed, while the request's interaction is still open
+        final StreamingOutput content = blob::writeBytesTo;
+        return Response.ok(content, blob.getMimeType().getBaseType())
+                .header(HttpHeaders.CONTENT_LENGTH, blob.getLength())
+                .header("Content-Disposition", "attachment; filename=\"" + blob.getName() + "\"")
+                .build();
+    }
 
     /**
      * Obtains the collection (checking it is visible) of the object and then delegates to the
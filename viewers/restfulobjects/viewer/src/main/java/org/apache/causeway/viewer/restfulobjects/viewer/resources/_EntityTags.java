@@ -0,0 +1,157 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.facets.object.layout.LayoutFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Strong entity tags (and last-modified dates) for the representations of versioned entities,
+ * in support of conditional requests.
+ * <p>
+ * The tag is a hash of
+ * <ul>
+ * <li>the object's bookmark and entity version,</li>
+ * <li>which of the object's members (as per the metamodel) are visible and usable,
+ * and the object's layout,</li>
+ * <li>the user, their roles, tenancy and locale (which also determine translations).</li>
+ * </ul>
+ * None of these requires the object to be rendered, so a conditional request can be answered (with
+ * <i>304 Not Modified</i> or <i>412 Precondition Failed</i>) before rendering anything.
+ * The price is that the tag does not change, if the object's representation changes without its version being
+ * incremented, eg. a derived property whose value depends on other objects.
+ * <p>
+ * The tag does not depend on the request; representations negotiated by the accept header are told apart
+ * by responses varying on that header, those requested by query string have a different URL anyway.
+ * Hence the same tag can be used as a precondition for any modification of the object (<code>If-Match</code>).
+ * Objects without an entity version (view models, or entities not using optimistic locking) have no tag,
+ * as there is no cheap way of telling whether they changed.
+ */
+@UtilityClass
+class _EntityTags {
+
+    Optional<EntityTag> entityTagFor(
+            final @NonNull ManagedObject object,
+            final @NonNull Where where,
+            final @Nullable InteractionContext interactionContext) {
+
+        val version = versionOf(object).orElse(null);
+        val bookmark = object.getBookmark().orElse(null);
+        if(version==null
+                || bookmark==null) {
+            return Optional.empty();
+        }
+
+        val user = Optional.ofNullable(interactionContext)
+                .map(InteractionContext::getUser)
+                .map(userMemento->userMemento.getName()
+                        + ";" + userMemento.streamRoleNames().sorted().collect(Collectors.joining(","))
+                        + ";" + userMemento.getMultiTenancyToken())
+                .orElse("");
+
+        val locale = Optional.ofNullable(interactionContext)
+                .map(InteractionContext::getLocale)
+                .map(Object::toString)
+                .orElse("");
+
+        val fingerprint = String.join("\n",
+                bookmark.stringify(),
+                version.toString(),
+                membersOf(object, where),
+                layoutOf(object),
+                user,
+                locale);
+
+        val messageDigest = HashAlgorithm.SHA256.tryGetMessageDigest().valueAsNonNullElseFail();
+        val hash = _Bytes.hexDump(messageDigest.digest(fingerprint.getBytes(StandardCharsets.UTF_8)), "");
+        return Optional.of(new EntityTag(hash));
+    }
+
+    /**
+     * If the entity version is a timestamp, it also serves as last-modified date.
+     */
+    Optional<Date> lastModifiedOf(final @NonNull ManagedObject object) {
+        return versionOf(object)
+                .map(version->
+                    version instanceof Date
+                        ? (Date) version
+                    : version instanceof Instant
+                        ? Date.from((Instant) version)
+                    : version instanceof OffsetDateTime
+                        ? Date.from(((OffsetDateTime) version).toInstant())
+                    : version instanceof ZonedDateTime
+                        ? Date.from(((ZonedDateTime) version).toInstant())
+                        : null);
+    }
+
+    // -- HELPER
+
+    private Optional<Object> versionOf(final ManagedObject object) {
+        return object.getSpecification().entityFacet()
+                .map(entityFacet->entityFacet.versionOf(object.getPojo()));
+    }
+
+    /**
+     * Ids of the object's members, each flagged with whether visible (v) and usable (u) to the current user.
+     */
+    private String membersOf(final ManagedObject object, final Where where) {
+        val spec = object.getSpecification();
+        return Stream.<ObjectMember>concat(
+                    spec.streamAssociations(MixedIn.INCLUDED),
+                    spec.streamAnyActions(MixedIn.INCLUDED))
+                .map(member->{
+                    val visible = member.isVisible(object, InteractionInitiatedBy.USER, where).isAllowed();
+                    val usable = visible
+                            && member.isUsable(object, InteractionInitiatedBy.USER, where).isAllowed();
+                    return member.getId() + ":" + (visible ? "v" : "") + (usable ? "u" : "");
+                })
+                .collect(Collectors.joining(","));
+    }
+
+    private String layoutOf(final ManagedObject object) {
+        return object.getSpecification().lookupFacet(LayoutFacet.class)
+                .map(layoutFacet->layoutFacet.layout(object))
+                .orElse("");
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.metamodel.consent.Allow;
+import org.apache.causeway.core.metamodel.consent.Veto;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+
+import lombok.val;
+
+class EntityTags_Test {
+
+    private final Object pojo = new Object();
+    private ManagedObject object;
+    private EntityFacet entityFacet;
+    private ObjectAssociation property;
+
+    private final InteractionContext sven =
+            InteractionContext.ofUserWithSystemDefaults(UserMemento.ofNameAndRoleNames("sven", "user"));
+    private final InteractionContext dick =
+            InteractionContext.ofUserWithSystemDefaults(UserMemento.ofNameAndRoleNames("dick", "user"));
+
+    @BeforeEach
+    void setUp() {
+        object = mock(ManagedObject.class);
+        entityFacet = mock(EntityFacet.class);
+        property = mock(ObjectAssociation.class);
+        val spec = mock(ObjectSpecification.class);
+
+        when(object.getSpecification()).thenReturn(spec);
+        when(object.getPojo()).thenReturn(pojo);
+        when(object.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("dept.Department", "1")));
+        when(spec.entityFacet()).thenReturn(Optional.of(entityFacet));
+        when(spec.streamAssociations(MixedIn.INCLUDED)).thenAnswer(invocation->Stream.of(property));
+        when(spec.streamAnyActions(MixedIn.INCLUDED)).thenAnswer(invocation->Stream.empty());
+
+        when(property.getId()).thenReturn("name");
+        when(property.isVisible(any(), any(), any())).thenReturn(Allow.DEFAULT);
+        when(property.isUsable(any(), any(), any())).thenReturn(Allow.DEFAULT);
+    }
+
+    @Test
+    void whenNotVersioned() {
+        when(entityFacet.versionOf(pojo)).thenReturn(null);
+
+        assertFalse(_EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).isPresent());
+        assertFalse(_EntityTags.lastModifiedOf(object).isPresent());
+    }
+
+    @Test
+    void whenVersioned() {
+        when(entityFacet.versionOf(pojo)).thenReturn(1L);
+        val entityTag = _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).orElseThrow();
+
+        assertFalse(entityTag.isWeak());
+        assertEquals(entityTag, _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).orElseThrow());
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, dick).orElseThrow());
+        assertFalse(_EntityTags.lastModifiedOf(object).isPresent());
+
+        when(entityFacet.versionOf(pojo)).thenReturn(2L);
+        assertNotEquals(entityTag, _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).orElseThrow());
+    }
+
+    @Test
+    void whenVersionedByTimestamp() {
+        val timestamp = new Timestamp(1_700_000_000_000L);
+        when(entityFacet.versionOf(pojo)).thenReturn(timestamp);
+
+        assertTrue(_EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).isPresent());
+        assertEquals(timestamp.getTime(), _EntityTags.lastModifiedOf(object).orElseThrow().getTime());
+    }
+
+    @Test
+    void whenMemberNoLongerUsable() {
+        when(entityFacet.versionOf(pojo)).thenReturn(1L);
+        val entityTag = _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).orElseThrow();
+
+        when(property.isUsable(any(), any(), any())).thenReturn(Veto.DEFAULT);
+        val entityTagWhenDisabled = _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).orElseThrow();
+        assertNotEquals(entityTag, entityTagWhenDisabled);
+
+        when(property.isVisible(any(), any(), any())).thenReturn(Veto.DEFAULT);
+        assertNotEquals(entityTagWhenDisabled, _EntityTags.entityTagFor(object, Where.OBJECT_FORMS, sven).orElseThrow());
+    }
+
+}
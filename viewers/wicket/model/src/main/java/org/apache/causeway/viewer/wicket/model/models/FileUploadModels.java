@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.wicket.model.models;
 
+import java.io.File;
+import java.lang.ref.Cleaner;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
@@ -28,19 +30,32 @@
 
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.Clob;
+import org.apache.causeway.commons.io.DataSource;
 
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import lombok.val;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class FileUploadModels {
 
+    /**
+     * Uploads up to this size are held in memory, larger ones are streamed from a temp file.
+     */
+    private final long IN_MEMORY_THRESHOLD_BYTES = 64 * 1024;
+
+    /**
+     * Deletes the temp files of uploaded {@link Blob}s, once these are no longer reachable.
+     */
+    private final Cleaner tempFileCleaner = Cleaner.create();
+
     public ScalarConvertingModel<List<FileUpload>, Blob> blob(final @NonNull ScalarModel scalarModel) {
         return new ScalarConvertingModel<List<FileUpload>, Blob>(scalarModel) {
 
             private static final long serialVersionUID = 1L;
 
+            @SneakyThrows
             @Override
             protected Blob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
 
@@ -52,8 +67,15 @@ protected Blob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
                 final FileUpload fileUpload = fileUploads.get(0);
                 final String contentType = fileUpload.getContentType();
                 final String clientFileName = fileUpload.getClientFileName();
-                final byte[] bytes = fileUpload.getBytes();
-                final Blob blob = new Blob(clientFileName, contentType, bytes);
+                if(fileUpload.getSize() <= IN_MEMORY_THRESHOLD_BYTES) {
+                    return new Blob(clientFileName, contentType, fileUpload.getBytes());
+                }
+                // the upload's own (spilled over) content is deleted once the request completes,
+                // so is copied to a temp file of our own, which lives as long as the Blob does
+                val tempFile = File.createTempFile("causeway-upload-", ".tmp");
+                fileUpload.writeTo(tempFile);
+                val blob = Blob.ofDataSource(clientFileName, contentType, DataSource.ofFile(tempFile), tempFile.length());
+                tempFileCleaner.register(blob, tempFile::delete);
                 return blob;
             }
 
@@ -18,17 +18,15 @@
  */
 package org.apache.causeway.viewer.wicket.ui.actionresponse;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Duration;
 
 import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.handler.resource.ResourceStreamRequestHandler;
 import org.apache.wicket.request.resource.ContentDisposition;
-import org.apache.wicket.util.resource.AbstractResourceStream;
+import org.apache.wicket.util.lang.Bytes;
+import org.apache.wicket.util.resource.AbstractResourceStreamWriter;
 import org.apache.wicket.util.resource.IResourceStream;
-import org.apache.wicket.util.resource.ResourceStreamNotFoundException;
 import org.apache.wicket.util.resource.StringResourceStream;
 
 import org.apache.causeway.applib.value.Blob;
@@ -59,22 +57,23 @@ public IRequestHandler downloadHandler(
     // -- HELPER
 
     private IResourceStream resourceStreamFor(final Blob blob) {
-        final IResourceStream resourceStream = new AbstractResourceStream() {
+        final IResourceStream resourceStream = new AbstractResourceStreamWriter() {
 
             private static final long serialVersionUID = 1L;
 
             @Override
-            public InputStream getInputStream() throws ResourceStreamNotFoundException {
-                return new ByteArrayInputStream(blob.getBytes());
+            public void write(final OutputStream output) {
+                blob.writeBytesTo(output);
             }
 
             @Override
-            public String getContentType() {
-                return blob.getMimeType().toString();
+            public Bytes length() {
+                return Bytes.bytes(blob.getLength());
             }
 
             @Override
-            public void close() throws IOException {
+            public String getContentType() {
+                return blob.getMimeType().toString();
             }
         };
         return resourceStream;
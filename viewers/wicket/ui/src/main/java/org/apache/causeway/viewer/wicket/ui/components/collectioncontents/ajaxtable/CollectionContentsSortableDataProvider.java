@@ -27,9 +27,7 @@
 import org.apache.wicket.model.IModel;
 
 import org.apache.causeway.applib.annotation.TableDecorator;
-import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.facets.object.tabledec.TableDecoratorFacet;
-import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.tabular.interactive.DataRow;
 import org.apache.causeway.core.metamodel.tabular.interactive.DataTableInteractive;
@@ -77,22 +75,16 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        val visibleRows = getDataTableModel().getDataRowsFiltered().getValue();
-        return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
-    }
-
-    // -- HELPER
-
-    private Can<DataRow> sorted(final Can<DataRow> dataRows) {
         val sort = getSort();
         val sortProperty = lookupPropertyFor(sort).orElse(null);
-        if(sortProperty != null) {
-            val objComparator = ManagedObjects.orderingBy(sortProperty, sort.isAscending());
-            return dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
-        }
-        return dataRows;
+        // the sort is memoized by the table model, so only the requested page is sliced off
+        return getDataTableModel()
+                .getDataRowsFilteredAndSorted(sortProperty, sort==null || sort.isAscending())
+                .iterator(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
+    // -- HELPER
+
     private Optional<OneToOneAssociation> lookupPropertyFor(final SortParam<String> sort) {
         return Optional.ofNullable(sort)
         .map(SortParam::getProperty)
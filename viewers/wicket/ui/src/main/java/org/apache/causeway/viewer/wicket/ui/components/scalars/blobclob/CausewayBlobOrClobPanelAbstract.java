@@ -102,7 +102,7 @@ private void addAcceptFilterTo(final Component component){
         Wkt.attributeReplace(component, "accept", scalarModel().getFileAccept());
     }
 
-    private Optional<T> getBlobOrClobFromModel() {
+    protected Optional<T> getBlobOrClobFromModel() {
         return Optional.ofNullable(unwrapped.getObject());
     }
 
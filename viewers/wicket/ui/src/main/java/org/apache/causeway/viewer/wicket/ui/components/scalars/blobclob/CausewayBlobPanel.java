@@ -21,15 +21,19 @@
 
 import java.util.List;
 
+import javax.servlet.http.HttpServletResponse;
+
 import org.apache.wicket.markup.html.form.upload.FileUpload;
 import org.apache.wicket.model.IModel;
-import org.apache.wicket.request.resource.ByteArrayResource;
+import org.apache.wicket.request.resource.AbstractResource;
 import org.apache.wicket.request.resource.IResource;
 
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.viewer.wicket.model.models.FileUploadModels;
 import org.apache.causeway.viewer.wicket.model.models.ScalarModel;
 
+import lombok.val;
+
 /**
  * Panel for rendering scalars of type {@link org.apache.causeway.applib.value.Blob Causeway' applib.Blob}.
  */
@@ -48,7 +52,37 @@ protected IModel<List<FileUpload>> fileUploadModel() {
 
     @Override
     protected IResource newResource(final Blob blob) {
-        return new ByteArrayResource(blob.getMimeType().getBaseType(), blob.getBytes(), blob.getName());
+        return new BlobResource();
+    }
+
+    /**
+     * Streams the {@link Blob}'s content, as looked up from the model when requested,
+     * such that the content is not held (and serialized) as part of the page.
+     */
+    private class BlobResource extends AbstractResource {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected ResourceResponse newResourceResponse(final Attributes attributes) {
+            val resourceResponse = new ResourceResponse();
+            val blobIfAny = getBlobOrClobFromModel();
+            if(!blobIfAny.isPresent()) {
+                resourceResponse.setError(HttpServletResponse.SC_NOT_FOUND);
+                return resourceResponse;
+            }
+            val blob = blobIfAny.get();
+            resourceResponse.setContentType(blob.getMimeType().getBaseType());
+            resourceResponse.setFileName(blob.getName());
+            resourceResponse.setContentLength(blob.getLength());
+            resourceResponse.setWriteCallback(new WriteCallback() {
+                @Override
+                public void writeData(final Attributes attributes) {
+                    blob.writeBytesTo(attributes.getResponse().getOutputStream());
+                }
+            });
+            return resourceResponse;
+        }
     }
 
 }
@@ -218,6 +218,7 @@ protected void init() {
             getMarkupSettings().setStripWicketTags(configuration.getViewer().getWicket().isStripWicketTags());
 
             configureSecurity(configuration);
+            configurePageStore(configuration);
 
             filterJavascriptContributions();
 
@@ -257,6 +258,18 @@ protected void configureSecurity(final CausewayConfiguration configuration) {
         setMetaData(AccountConfirmationMap.KEY, new AccountConfirmationMap(maxEntries, Duration.ofDays(1)));
     }
 
+    /**
+     * protected visibility to allow ad-hoc overriding of some other page manager.
+     */
+    protected void configurePageStore(final CausewayConfiguration configuration) {
+        val pageStoreConfig = configuration.getViewer().getWicket().getPageStore();
+        if(pageStoreConfig.isOffHeap()) {
+            setPageManagerProvider(new _OffHeapPageManagerProvider(this, pageStoreConfig));
+            log.info("using off-heap page store (maxSize: {}, maxSizePerSession: {})",
+                    pageStoreConfig.getMaxSize(), pageStoreConfig.getMaxSizePerSession());
+        }
+    }
+
     /**
      * protected visibility to allow ad-hoc overriding of some other authentication strategy.
      */
@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.wicket.serialize.ISerializer;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Serializes pages into a compact form, only meaningful to this instance.
+ * <p>
+ * Page graphs consist of many small models, which (by design) hold just bookmarks and mementos
+ * rather than domain objects. With plain Java serialization the size of such a graph is dominated by
+ * class descriptors (class names, field names and field types), written anew for every page.
+ * Instead, each class is assigned a number on first use, and descriptors are written as that number only.
+ * The result is compressed.
+ *
+ * @implNote Because class numbers are assigned at runtime, serialized pages must not outlive this serializer;
+ * hence it is used only in conjunction with {@link _OffHeapPageStore}.
+ */
+@Log4j2
+final class _CompactPageSerializer implements ISerializer {
+
+    private final Map<Class<?>, Integer> classIdByClass = new ConcurrentHashMap<>();
+    private final List<ObjectStreamClass> descriptorByClassId = new CopyOnWriteArrayList<>();
+
+    @Override
+    public byte[] serialize(final Object object) {
+        val deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            val bytes = new ByteArrayOutputStream();
+            try(val out = new CompactObjectOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+                out.writeObject(object);
+            }
+            return bytes.toByteArray();
+        } catch (Exception e) {
+            // same as Wicket's JavaSerializer: the page is not stored
+            log.error("failed to serialize {}", object!=null ? object.getClass().getName() : null, e);
+            return null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object deserialize(final byte[] data) {
+        val inflater = new Inflater();
+        try(val in = new CompactObjectInputStream(new InflaterInputStream(new ByteArrayInputStream(data), inflater))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw _Exceptions.unrecoverable(e, "failed to deserialize page (%d bytes)", data.length);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // -- HELPER
+
+    private int classIdFor(final ObjectStreamClass descriptor) {
+        val cls = descriptor.forClass();
+        val classId = classIdByClass.get(cls);
+        if(classId!=null) {
+            return classId;
+        }
+        synchronized(descriptorByClassId) {
+            return classIdByClass.computeIfAbsent(cls, __->{
+                descriptorByClassId.add(descriptor);
+                return descriptorByClassId.size() - 1;
+            });
+        }
+    }
+
+    private ObjectStreamClass descriptorFor(final int classId) {
+        if(classId<0
+                || classId>=descriptorByClassId.size()) {
+            throw _Exceptions.illegalState("unknown class id %d, page was not serialized by this instance", classId);
+        }
+        return descriptorByClassId.get(classId);
+    }
+
+    private final class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass descriptor) throws IOException {
+            writeInt(classIdFor(descriptor));
+        }
+    }
+
+    private final class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException {
+            return descriptorFor(readInt());
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+            val cls = descriptor.forClass();
+            return cls!=null
+                    ? cls
+                    : super.resolveClass(descriptor);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.DefaultPageManagerProvider;
+import org.apache.wicket.pageStore.IPageStore;
+import org.apache.wicket.pageStore.SerializingPageStore;
+import org.apache.wicket.util.lang.Bytes;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.NonNull;
+
+/**
+ * Replaces Wicket's disk based page store with an {@link _OffHeapPageStore},
+ * and serializes pages with the {@link _CompactPageSerializer}.
+ * <p>
+ * The remaining layers (request, caching and asynchronous stores) are as per Wicket's defaults.
+ */
+final class _OffHeapPageManagerProvider extends DefaultPageManagerProvider {
+
+    private final String applicationName;
+    private final CausewayConfiguration.Viewer.Wicket.PageStore pageStoreConfig;
+
+    _OffHeapPageManagerProvider(
+            final @NonNull Application application,
+            final CausewayConfiguration.Viewer.Wicket.PageStore pageStoreConfig) {
+        super(application);
+        this.applicationName = application.getName();
+        this.pageStoreConfig = pageStoreConfig;
+    }
+
+    @Override
+    protected IPageStore newSerializingStore(final IPageStore pageStore) {
+        return new SerializingPageStore(pageStore, new _CompactPageSerializer());
+    }
+
+    @Override
+    protected IPageStore newPersistentStore() {
+        return new _OffHeapPageStore(
+                applicationName,
+                Bytes.bytes(pageStoreConfig.getMaxSize().toBytes()),
+                Bytes.bytes(pageStoreConfig.getMaxSizePerSession().toBytes()));
+    }
+
+}
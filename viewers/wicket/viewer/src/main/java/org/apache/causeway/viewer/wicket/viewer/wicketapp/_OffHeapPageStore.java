@@ -0,0 +1,327 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.page.IManageablePage;
+import org.apache.wicket.pageStore.AbstractPersistentPageStore;
+import org.apache.wicket.pageStore.IPersistedPage;
+import org.apache.wicket.pageStore.IPersistentPageStore;
+import org.apache.wicket.pageStore.SerializedPage;
+import org.apache.wicket.util.lang.Bytes;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds serialized pages in direct (off-heap) memory, so that neither the heap nor the
+ * garbage collector's workload grows with the size or number of pages.
+ * <p>
+ * Direct memory is reserved in slabs of {@value #DEFAULT_BLOCKS_PER_SLAB} blocks of {@value #DEFAULT_BLOCK_SIZE} bytes,
+ * allocated on demand but never more than the store's maximum size, and never released before the store is destroyed.
+ * Each page occupies as many blocks as it needs, taken from (and returned to) a pool of free blocks.
+ * Hence the amount of direct memory used is bounded, regardless of how many pages come and go.
+ * <p>
+ * The store is bounded both in total and per session; before a page is added, the least recently used pages
+ * (of the session or of all sessions respectively) are evicted until it fits. Pages larger than either bound
+ * are not stored at all.
+ * <p>
+ * Like Wicket's own {@code DiskPageStore}, this store expects pages to have been serialized already;
+ * reading a page copies its blocks back into a {@code byte[]}, which is what {@link SerializedPage} requires.
+ */
+@Log4j2
+final class _OffHeapPageStore
+extends AbstractPersistentPageStore
+implements IPersistentPageStore {
+
+    static final int DEFAULT_BLOCK_SIZE = 4 * 1024;
+    static final int DEFAULT_BLOCKS_PER_SLAB = 256;
+
+    private final long maxSizePerSession;
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int maxBlocks;
+
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final Deque<Integer> freeBlocks = new ArrayDeque<>();
+    /**
+     * Number of blocks handed out from slabs so far, that is, blocks either in use or in {@link #freeBlocks}.
+     */
+    private int blockCount;
+
+    /**
+     * Access ordered, hence iterates from the least to the most recently used page.
+     */
+    private final LinkedHashMap<PageKey, StoredPage> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> sizeBySession = new LinkedHashMap<>();
+    private long totalSize;
+
+    _OffHeapPageStore(
+            final @NonNull String applicationName,
+            final @NonNull Bytes maxSize,
+            final @NonNull Bytes maxSizePerSession) {
+        this(applicationName, maxSize, maxSizePerSession, DEFAULT_BLOCK_SIZE, DEFAULT_BLOCKS_PER_SLAB);
+    }
+
+    _OffHeapPageStore(
+            final @NonNull String applicationName,
+            final @NonNull Bytes maxSize,
+            final @NonNull Bytes maxSizePerSession,
+            final int blockSize,
+            final int blocksPerSlab) {
+        super(applicationName);
+        this.maxSizePerSession = maxSizePerSession.bytes();
+        this.blockSize = blockSize;
+        this.blocksPerSlab = blocksPerSlab;
+        this.maxBlocks = (int) Math.min(Integer.MAX_VALUE, maxSize.bytes() / blockSize);
+    }
+
+    @Override
+    public boolean supportsVersioning() {
+        return true;
+    }
+
+    @Override
+    protected synchronized IManageablePage getPersistedPage(final String sessionIdentifier, final int id) {
+        val storedPage = pages.get(new PageKey(sessionIdentifier, id));
+        return storedPage!=null
+                ? new SerializedPage(id, storedPage.getPageType(), read(storedPage))
+                : null;
+    }
+
+    @Override
+    protected synchronized void removePersistedPage(final String sessionIdentifier, final IManageablePage page) {
+        remove(new PageKey(sessionIdentifier, page.getPageId()));
+    }
+
+    @Override
+    protected synchronized void removeAllPersistedPages(final String sessionIdentifier) {
+        removeIf(key->key.getSessionIdentifier().equals(sessionIdentifier), Long.MAX_VALUE);
+    }
+
+    @Override
+    protected synchronized void addPersistedPage(final String sessionIdentifier, final IManageablePage page) {
+        if(!(page instanceof SerializedPage)) {
+            throw new WicketRuntimeException("_OffHeapPageStore works with serialized pages only");
+        }
+        val serializedPage = (SerializedPage) page;
+        val data = serializedPage.getData();
+        if(data==null) {
+            return; // serialization failed, already logged by the serializer
+        }
+
+        val key = new PageKey(sessionIdentifier, serializedPage.getPageId());
+        remove(key);
+
+        val blocksRequired = (data.length + blockSize - 1) / blockSize;
+        final long size = (long) blocksRequired * blockSize;
+        if(blocksRequired > maxBlocks
+                || size > maxSizePerSession) {
+            log.warn("not storing page {} of session {}, as its size of {} bytes exceeds the page store's bounds",
+                    key.getPageId(), sessionIdentifier, data.length);
+            return;
+        }
+
+        // evict least recently used pages, first of this session, then of all sessions
+        val sessionSize = sizeBySession.getOrDefault(sessionIdentifier, 0L);
+        if(sessionSize + size > maxSizePerSession) {
+            removeIf(other->other.getSessionIdentifier().equals(sessionIdentifier),
+                    sessionSize + size - maxSizePerSession);
+        }
+        val blocksAvailable = freeBlocks.size() + maxBlocks - blockCount;
+        if(blocksAvailable < blocksRequired) {
+            removeIf(other->true, (long) (blocksRequired - blocksAvailable) * blockSize);
+        }
+
+        pages.put(key, new StoredPage(key, serializedPage.getPageType(), data.length, write(data, blocksRequired)));
+        sizeBySession.merge(sessionIdentifier, size, Long::sum);
+        totalSize += size;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        super.destroy();
+        pages.clear();
+        sizeBySession.clear();
+        totalSize = 0;
+        freeBlocks.clear();
+        slabs.clear(); // direct memory is released once the slabs are garbage collected
+        blockCount = 0;
+    }
+
+    // -- INSPECTION (as used by Wicket's development utilities)
+
+    @Override
+    public synchronized Set<String> getSessionIdentifiers() {
+        return Set.copyOf(sizeBySession.keySet());
+    }
+
+    @Override
+    public synchronized List<IPersistedPage> getPersistedPages(final String sessionIdentifier) {
+        return pages.values().stream()
+                .filter(storedPage->storedPage.getKey().getSessionIdentifier().equals(sessionIdentifier))
+                .map(IPersistedPage.class::cast)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Size of all blocks occupied by pages, hence a multiple of the block size.
+     */
+    @Override
+    public synchronized Bytes getTotalSize() {
+        return Bytes.bytes(totalSize);
+    }
+
+    /**
+     * Size of the direct memory reserved so far, that is, of all slabs allocated.
+     */
+    synchronized Bytes getReservedSize() {
+        return Bytes.bytes(slabs.stream().mapToLong(ByteBuffer::capacity).sum());
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class PageKey {
+        String sessionIdentifier;
+        int pageId;
+    }
+
+    @RequiredArgsConstructor
+    private static class StoredPage implements IPersistedPage {
+        private static final long serialVersionUID = 1L;
+
+        @Getter private final PageKey key;
+        @Getter private final String pageType;
+        private final int length;
+        private final int[] blocks;
+
+        @Override
+        public int getPageId() {
+            return key.getPageId();
+        }
+
+        @Override
+        public Bytes getPageSize() {
+            return Bytes.bytes(length);
+        }
+    }
+
+    private int[] write(final byte[] data, final int blocksRequired) {
+        val blocks = new int[blocksRequired];
+        for (int i = 0; i < blocksRequired; i++) {
+            blocks[i] = allocateBlock();
+            val offset = i * blockSize;
+            blockBuffer(blocks[i]).put(data, offset, Math.min(blockSize, data.length - offset));
+        }
+        return blocks;
+    }
+
+    private byte[] read(final StoredPage storedPage) {
+        val data = new byte[storedPage.length];
+        for (int i = 0; i < storedPage.blocks.length; i++) {
+            val offset = i * blockSize;
+            blockBuffer(storedPage.blocks[i]).get(data, offset, Math.min(blockSize, data.length - offset));
+        }
+        return data;
+    }
+
+    /**
+     * @return an independent view of the given block, positioned at its start
+     */
+    private ByteBuffer blockBuffer(final int block) {
+        val buffer = slabs.get(block / blocksPerSlab).duplicate();
+        buffer.position((block % blocksPerSlab) * blockSize);
+        return buffer;
+    }
+
+    /**
+     * Reuses a free block if any, otherwise hands out the next block of the current slab,
+     * allocating a new slab once the current one is exhausted.
+     * Callers must ensure that a block is available.
+     */
+    private int allocateBlock() {
+        if(!freeBlocks.isEmpty()) {
+            return freeBlocks.pop();
+        }
+        val block = blockCount++;
+        if(block / blocksPerSlab == slabs.size()) {
+            val blocksInSlab = Math.min(blocksPerSlab, maxBlocks - block);
+            slabs.add(ByteBuffer.allocateDirect(blocksInSlab * blockSize));
+        }
+        return block;
+    }
+
+    private void remove(final PageKey key) {
+        val storedPage = pages.remove(key);
+        if(storedPage!=null) {
+            release(storedPage);
+        }
+    }
+
+    /**
+     * Removes matching pages, least recently used first, until at least given number of bytes were released.
+     */
+    private void removeIf(final Predicate<PageKey> filter, final long bytesToRelease) {
+        long released = 0;
+        val iterator = pages.values().iterator();
+        while(released < bytesToRelease
+                && iterator.hasNext()) {
+            val storedPage = iterator.next();
+            if(!filter.test(storedPage.getKey())) {
+                continue;
+            }
+            iterator.remove();
+            released += release(storedPage);
+        }
+        if(released > 0) {
+            log.debug("released {} bytes, now holding {} bytes in {} pages", released, totalSize, pages.size());
+        }
+    }
+
+    private long release(final StoredPage storedPage) {
+        for (val block : storedPage.blocks) {
+            freeBlocks.push(block);
+        }
+        final long size = (long) storedPage.blocks.length * blockSize;
+        val sessionIdentifier = storedPage.getKey().getSessionIdentifier();
+        sizeBySession.computeIfPresent(sessionIdentifier, (__, sessionSize)->
+                sessionSize > size
+                    ? sessionSize - size
+                    : null);
+        totalSize -= size;
+        return size;
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class CompactPageSerializerTest {
+
+    private final _CompactPageSerializer serializer = new _CompactPageSerializer();
+
+    @Test
+    void roundtrip() {
+        val bookmarks = bookmarks(3);
+        val data = serializer.serialize(bookmarks);
+        assertEquals(bookmarks, serializer.deserialize(data));
+
+        // class ids assigned on first use are reused
+        assertEquals(bookmarks, serializer.deserialize(serializer.serialize(bookmarks)));
+    }
+
+    @Test
+    void smallerThanJavaSerialization() {
+        val bookmarks = bookmarks(100);
+        assertTrue(serializer.serialize(bookmarks).length < javaSerialized(bookmarks).length);
+    }
+
+    @Test
+    void unknownToOtherInstance() {
+        val data = serializer.serialize(bookmarks(1));
+        assertThrows(RuntimeException.class, ()->new _CompactPageSerializer().deserialize(data));
+    }
+
+    // -- HELPER
+
+    private static ArrayList<Bookmark> bookmarks(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i->Bookmark.forLogicalTypeNameAndIdentifier("university.dept.Department", "" + i))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @SneakyThrows
+    private static byte[] javaSerialized(final Object object) {
+        val bytes = new ByteArrayOutputStream();
+        try(val out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+}
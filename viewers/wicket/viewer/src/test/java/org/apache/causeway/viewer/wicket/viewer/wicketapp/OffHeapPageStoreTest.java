@@ -0,0 +1,148 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.wicketapp;
+
+import org.apache.wicket.pageStore.SerializedPage;
+import org.apache.wicket.util.lang.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import lombok.val;
+
+class OffHeapPageStoreTest {
+
+    private _OffHeapPageStore pageStore;
+
+    @BeforeEach
+    void setUp() {
+        pageStore = new _OffHeapPageStore(getClass().getName(), Bytes.bytes(300), Bytes.bytes(200), 10, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pageStore.destroy();
+    }
+
+    @Test
+    void roundtrip() {
+        pageStore.addPersistedPage("s1", page(1, 50));
+
+        val page = (SerializedPage) pageStore.getPersistedPage("s1", 1);
+        assertNotNull(page);
+        assertEquals("Page1", page.getPageType());
+        assertArrayEquals(page(1, 50).getData(), page.getData());
+        assertNull(pageStore.getPersistedPage("s2", 1));
+        assertEquals(50, pageStore.getTotalSize().bytes());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOfSession() {
+        pageStore.addPersistedPage("s1", page(1, 100));
+        pageStore.addPersistedPage("s1", page(2, 100));
+        pageStore.getPersistedPage("s1", 1); // touch
+        pageStore.addPersistedPage("s1", page(3, 100));
+
+        assertNotNull(pageStore.getPersistedPage("s1", 1));
+        assertNull(pageStore.getPersistedPage("s1", 2));
+        assertNotNull(pageStore.getPersistedPage("s1", 3));
+        assertEquals(200, pageStore.getTotalSize().bytes());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOfAllSessions() {
+        pageStore.addPersistedPage("s1", page(1, 100));
+        pageStore.addPersistedPage("s2", page(1, 100));
+        pageStore.addPersistedPage("s3", page(1, 100));
+        pageStore.addPersistedPage("s3", page(2, 100));
+
+        assertNull(pageStore.getPersistedPage("s1", 1));
+        assertNotNull(pageStore.getPersistedPage("s2", 1));
+        assertEquals(300, pageStore.getTotalSize().bytes());
+        assertEquals(2, pageStore.getPersistedPages("s3").size());
+    }
+
+    @Test
+    void removesAllPagesOfSession() {
+        pageStore.addPersistedPage("s1", page(1, 50));
+        pageStore.addPersistedPage("s1", page(2, 50));
+        pageStore.addPersistedPage("s2", page(1, 50));
+
+        pageStore.removeAllPersistedPages("s1");
+
+        assertNull(pageStore.getPersistedPage("s1", 1));
+        assertNotNull(pageStore.getPersistedPage("s2", 1));
+        assertEquals(50, pageStore.getTotalSize().bytes());
+        assertEquals(1, pageStore.getSessionIdentifiers().size());
+    }
+
+    @Test
+    void occupiesWholeBlocks() {
+        pageStore.addPersistedPage("s1", page(1, 45));
+
+        assertArrayEquals(page(1, 45).getData(), ((SerializedPage) pageStore.getPersistedPage("s1", 1)).getData());
+        assertEquals(50, pageStore.getTotalSize().bytes());
+        assertEquals(45, pageStore.getPersistedPages("s1").get(0).getPageSize().bytes());
+    }
+
+    @Test
+    void reservesSlabsOnDemandOnly() {
+        pageStore.addPersistedPage("s1", page(1, 30));
+
+        assertEquals(40, pageStore.getReservedSize().bytes());
+    }
+
+    @Test
+    void reusesBlocksOfEvictedPages() {
+        for (int pageId = 1; pageId <= 20; pageId++) {
+            pageStore.addPersistedPage("s" + pageId % 3, page(pageId, 95));
+        }
+
+        assertEquals(300, pageStore.getReservedSize().bytes());
+        assertEquals(300, pageStore.getTotalSize().bytes());
+        assertArrayEquals(page(20, 95).getData(), ((SerializedPage) pageStore.getPersistedPage("s2", 20)).getData());
+        assertArrayEquals(page(19, 95).getData(), ((SerializedPage) pageStore.getPersistedPage("s1", 19)).getData());
+    }
+
+    @Test
+    void doesNotStorePagesExceedingBounds() {
+        pageStore.addPersistedPage("s1", page(1, 50));
+        pageStore.addPersistedPage("s1", page(2, 201));
+
+        assertNotNull(pageStore.getPersistedPage("s1", 1));
+        assertNull(pageStore.getPersistedPage("s1", 2));
+        assertEquals(50, pageStore.getTotalSize().bytes());
+    }
+
+    // -- HELPER
+
+    private static SerializedPage page(final int pageId, final int size) {
+        val data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (pageId + i);
+        }
+        return new SerializedPage(pageId, "Page" + pageId, data);
+    }
+
+}